@@ -0,0 +1,374 @@
+package com.biblioteca.cache;
+
+import com.biblioteca.dto.response.LibroResponse;
+import com.biblioteca.event.CategoriaActualizadaEvent;
+import com.biblioteca.event.EstadoLibrosCambiadoEvent;
+import com.biblioteca.event.LibroActualizadoEvent;
+import com.biblioteca.event.LibroEliminadoEvent;
+import com.biblioteca.event.LibrosCreadosEvent;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.search.LibroIndexado;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * Modelo de lectura del catálogo: instantáneas de {@link LibroResponse} indexadas por id, ISBN,
+ * estado y categoría. Se carga al arrancar y se mantiene con los eventos de dominio publicados
+ * por los servicios de libros, categorías y préstamos.
+ * <p>
+ * Los índices son estructuras concurrentes ordenadas por id: cada cambio toca solo las entradas de
+ * los libros afectados (O(log n) por libro) y las lecturas no toman bloqueos. Una lectura puede
+ * cruzarse con un cambio a medio aplicar entre índices, por eso cada resultado se vuelve a filtrar
+ * contra la respuesta vigente del libro. Las respuestas entregadas son compartidas entre peticiones, por eso
+ * sus setters lanzan {@link UnsupportedOperationException}.
+ */
+@Component
+public class CatalogoLibros {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogoLibros.class);
+
+    private final LibroRepository libroRepository;
+    private volatile Indices indices;
+    private List<Consumer<Indices>> cambiosDuranteRecarga;
+
+    public CatalogoLibros(LibroRepository libroRepository) {
+        this.libroRepository = libroRepository;
+    }
+
+    /**
+     * Relee el catálogo completo. Los eventos que llegan mientras se lee la base se aplican sobre la
+     * vista vigente y además se guardan, para volver a aplicarlos sobre la foto nueva antes de publicarla.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recargar() {
+        synchronized (this) {
+            if (cambiosDuranteRecarga != null) {
+                logger.debug("Recarga del catálogo omitida: ya hay otra en curso");
+                return;
+            }
+            cambiosDuranteRecarga = new ArrayList<>();
+        }
+        long inicio = System.currentTimeMillis();
+        try {
+            List<LibroIndexado> libros = libroRepository.findAllParaIndice();
+            Indices nuevos = construir(libros);
+            synchronized (this) {
+                cambiosDuranteRecarga.forEach(cambio -> cambio.accept(nuevos));
+                indices = nuevos;
+            }
+            logger.info("Catálogo en memoria cargado con {} libros en {} ms",
+                       libros.size(), System.currentTimeMillis() - inicio);
+        } catch (Exception e) {
+            logger.error("No se pudo cargar el catálogo en memoria, se usará la base de datos: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                cambiosDuranteRecarga = null;
+            }
+        }
+    }
+
+    public synchronized void cargar(Collection<LibroIndexado> libros) {
+        indices = construir(libros);
+    }
+
+    public boolean estaListo() {
+        return indices != null;
+    }
+
+    public LibroResponse obtener(Long idLibro) {
+        return idLibro != null ? indices.porId.get(idLibro) : null;
+    }
+
+    public LibroResponse obtenerPorIsbn(String isbn) {
+        Indices actuales = indices;
+        Long idLibro = actuales.idPorIsbn.get(isbn);
+        LibroResponse libro = idLibro != null ? actuales.porId.get(idLibro) : null;
+        return libro != null && libro.getIsbn().equals(isbn) ? libro : null;
+    }
+
+    public List<LibroResponse> obtenerTodos() {
+        return new ArrayList<>(indices.porId.values());
+    }
+
+    public List<LibroResponse> obtenerPorEstado(EstadoLibro estado) {
+        return obtenerPagina(null, estado, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Misma semántica que las consultas {@code findPagina...DespuesDe} de {@link LibroRepository}: libros
+     * con id mayor a {@code despuesDe}, en orden de id, filtrados opcionalmente por estado y categoría.
+     */
+    public List<LibroResponse> obtenerPagina(Long despuesDe, EstadoLibro estado, Long idCategoria, int limite) {
+        Indices actuales = indices;
+        NavigableSet<Long> ids;
+        if (idCategoria != null) {
+            ids = actuales.idsPorCategoria.get(idCategoria);
+        } else if (estado != null) {
+            ids = actuales.idsPorEstado.get(estado);
+        } else {
+            ids = actuales.porId.navigableKeySet();
+        }
+        if (ids == null) {
+            return List.of();
+        }
+
+        List<LibroResponse> resultado = new ArrayList<>(Math.min(limite, 256));
+        for (Long idLibro : despuesDe != null ? ids.tailSet(despuesDe, false) : ids) {
+            if (resultado.size() >= limite) {
+                break;
+            }
+            LibroResponse libro = actuales.porId.get(idLibro);
+            if (libro != null && (estado == null || libro.getEstado() == estado)
+                    && (idCategoria == null || idCategoria.equals(idCategoria(libro)))) {
+                resultado.add(libro);
+            }
+        }
+        return resultado;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCrearLibros(LibrosCreadosEvent evento) {
+        aplicar(indices -> {
+            for (LibroIndexado libro : evento.getLibros()) {
+                indices.guardar(aResponse(libro));
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alActualizarLibro(LibroActualizadoEvent evento) {
+        aplicar(indices -> indices.guardar(aResponse(evento.getLibro())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alEliminarLibro(LibroEliminadoEvent evento) {
+        aplicar(indices -> indices.eliminar(evento.getIdLibro()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCambiarEstado(EstadoLibrosCambiadoEvent evento) {
+        aplicar(indices -> {
+            for (Long idLibro : evento.getIdsLibros()) {
+                LibroResponse libro = indices.porId.get(idLibro);
+                if (libro != null && libro.getEstado() != evento.getEstado()) {
+                    indices.guardar(copiar(libro, evento.getEstado(), libro.getCategoria()));
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alActualizarCategoria(CategoriaActualizadaEvent evento) {
+        LibroResponse.CategoriaInfo categoria =
+                categoriaInfo(evento.getIdCategoria(), evento.getNombre(), evento.getDescripcion());
+        aplicar(indices -> {
+            NavigableSet<Long> ids = indices.idsPorCategoria.get(evento.getIdCategoria());
+            if (ids == null) {
+                return;
+            }
+            for (Long idLibro : ids) {
+                LibroResponse libro = indices.porId.get(idLibro);
+                if (libro != null) {
+                    indices.guardar(copiar(libro, libro.getEstado(), categoria));
+                }
+            }
+        });
+    }
+
+    /**
+     * Aplica un cambio sobre la vista vigente y, si hay una recarga en curso, lo guarda para repetirlo
+     * sobre la vista nueva. Los cambios son idempotentes, así que repetir uno que la lectura ya vio no altera nada.
+     */
+    private synchronized void aplicar(Consumer<Indices> cambio) {
+        if (indices != null) {
+            cambio.accept(indices);
+        }
+        if (cambiosDuranteRecarga != null) {
+            cambiosDuranteRecarga.add(cambio);
+        }
+    }
+
+    private static Indices construir(Collection<LibroIndexado> libros) {
+        Indices nuevos = new Indices();
+        for (LibroIndexado libro : libros) {
+            nuevos.guardar(aResponse(libro));
+        }
+        return nuevos;
+    }
+
+    private static LibroResponse aResponse(LibroIndexado libro) {
+        LibroResponse.CategoriaInfo categoria = null;
+        if (libro.getIdCategoria() != null) {
+            categoria = categoriaInfo(libro.getIdCategoria(), libro.getCategoriaNombre(), libro.getCategoriaDescripcion());
+        }
+        return new LibroInmutable(libro.getIdLibro(), libro.getTitulo(), libro.getAutor(), libro.getIsbn(),
+                                  libro.getEstado(), categoria);
+    }
+
+    private static LibroResponse.CategoriaInfo categoriaInfo(Long idCategoria, String nombre, String descripcion) {
+        return new CategoriaInmutable(idCategoria, nombre, descripcion);
+    }
+
+    private static LibroResponse copiar(LibroResponse libro, EstadoLibro estado, LibroResponse.CategoriaInfo categoria) {
+        return new LibroInmutable(libro.getIdLibro(), libro.getTitulo(), libro.getAutor(), libro.getIsbn(), estado, categoria);
+    }
+
+    private static Long idCategoria(LibroResponse libro) {
+        return libro.getCategoria() != null ? libro.getCategoria().getIdCategoria() : null;
+    }
+
+    /**
+     * Índices del catálogo. Solo se modifican bajo el monitor de {@link CatalogoLibros}; las lecturas
+     * los recorren sin bloqueos.
+     */
+    private static final class Indices {
+
+        private final ConcurrentSkipListMap<Long, LibroResponse> porId = new ConcurrentSkipListMap<>();
+        private final Map<String, Long> idPorIsbn = new ConcurrentHashMap<>();
+        private final Map<EstadoLibro, NavigableSet<Long>> idsPorEstado = new EnumMap<>(EstadoLibro.class);
+        private final Map<Long, NavigableSet<Long>> idsPorCategoria = new ConcurrentHashMap<>();
+
+        private Indices() {
+            // El mapa por estado no cambia de estructura después de construido, así que se puede leer concurrentemente
+            for (EstadoLibro estado : EstadoLibro.values()) {
+                idsPorEstado.put(estado, new ConcurrentSkipListSet<>());
+            }
+        }
+
+        /**
+         * Agrega o reemplaza un libro. Primero se indexa la versión nueva y después se retira la anterior,
+         * para que una lectura concurrente nunca deje de encontrar el libro.
+         */
+        private void guardar(LibroResponse libro) {
+            Long idLibro = libro.getIdLibro();
+            LibroResponse anterior = porId.put(idLibro, libro);
+            idPorIsbn.put(libro.getIsbn(), idLibro);
+            idsPorEstado.get(libro.getEstado()).add(idLibro);
+            Long idCategoria = idCategoria(libro);
+            if (idCategoria != null) {
+                idsPorCategoria.computeIfAbsent(idCategoria, id -> new ConcurrentSkipListSet<>()).add(idLibro);
+            }
+
+            if (anterior != null) {
+                if (!anterior.getIsbn().equals(libro.getIsbn())) {
+                    idPorIsbn.remove(anterior.getIsbn(), idLibro);
+                }
+                if (anterior.getEstado() != libro.getEstado()) {
+                    idsPorEstado.get(anterior.getEstado()).remove(idLibro);
+                }
+                Long idCategoriaAnterior = idCategoria(anterior);
+                if (idCategoriaAnterior != null && !Objects.equals(idCategoriaAnterior, idCategoria)) {
+                    quitarDeCategoria(idCategoriaAnterior, idLibro);
+                }
+            }
+        }
+
+        private void eliminar(Long idLibro) {
+            LibroResponse anterior = porId.remove(idLibro);
+            if (anterior == null) {
+                return;
+            }
+            idPorIsbn.remove(anterior.getIsbn(), idLibro);
+            idsPorEstado.get(anterior.getEstado()).remove(idLibro);
+            Long idCategoria = idCategoria(anterior);
+            if (idCategoria != null) {
+                quitarDeCategoria(idCategoria, idLibro);
+            }
+        }
+
+        private void quitarDeCategoria(Long idCategoria, Long idLibro) {
+            NavigableSet<Long> ids = idsPorCategoria.get(idCategoria);
+            if (ids != null && ids.remove(idLibro) && ids.isEmpty()) {
+                idsPorCategoria.remove(idCategoria, ids);
+            }
+        }
+    }
+
+    private static final class LibroInmutable extends LibroResponse {
+
+        private LibroInmutable(Long idLibro, String titulo, String autor, String isbn,
+                               EstadoLibro estado, CategoriaInfo categoria) {
+            super(idLibro, titulo, autor, isbn, estado, categoria);
+        }
+
+        @Override
+        public void setIdLibro(Long idLibro) {
+            throw soloLectura();
+        }
+
+        @Override
+        public void setTitulo(String titulo) {
+            throw soloLectura();
+        }
+
+        @Override
+        public void setAutor(String autor) {
+            throw soloLectura();
+        }
+
+        @Override
+        public void setIsbn(String isbn) {
+            throw soloLectura();
+        }
+
+        @Override
+        public void setEstado(EstadoLibro estado) {
+            throw soloLectura();
+        }
+
+        @Override
+        public void setEstadoDescripcion(String estadoDescripcion) {
+            throw soloLectura();
+        }
+
+        @Override
+        public void setCategoria(CategoriaInfo categoria) {
+            throw soloLectura();
+        }
+    }
+
+    private static final class CategoriaInmutable extends LibroResponse.CategoriaInfo {
+
+        private CategoriaInmutable(Long idCategoria, String nombre, String descripcion) {
+            super.setIdCategoria(idCategoria);
+            super.setNombre(nombre);
+            super.setDescripcion(descripcion);
+        }
+
+        @Override
+        public void setIdCategoria(Long idCategoria) {
+            throw soloLectura();
+        }
+
+        @Override
+        public void setNombre(String nombre) {
+            throw soloLectura();
+        }
+
+        @Override
+        public void setDescripcion(String descripcion) {
+            throw soloLectura();
+        }
+    }
+
+    private static UnsupportedOperationException soloLectura() {
+        return new UnsupportedOperationException("Las respuestas del catálogo en memoria son de solo lectura");
+    }
+}
\ No newline at end of file
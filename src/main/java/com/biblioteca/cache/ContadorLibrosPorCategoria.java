@@ -0,0 +1,143 @@
+package com.biblioteca.cache;
+
+import com.biblioteca.event.LibroActualizadoEvent;
+import com.biblioteca.event.LibroEliminadoEvent;
+import com.biblioteca.event.LibrosCreadosEvent;
+import com.biblioteca.repository.LibroRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cantidad de libros por categoría mantenida en memoria. Se inicializa con una única
+ * consulta agrupada y luego se actualiza incrementalmente con los eventos de alta, modificación y baja de libros.
+ * Los cambios de otras instancias o hechos directamente en la base se corrigen con {@link #reconciliar()}.
+ */
+@Component
+public class ContadorLibrosPorCategoria {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContadorLibrosPorCategoria.class);
+
+    private final LibroRepository libroRepository;
+    private final AtomicLong modificaciones = new AtomicLong();
+    private volatile Map<Long, AtomicLong> cantidades;
+
+    public ContadorLibrosPorCategoria(LibroRepository libroRepository) {
+        this.libroRepository = libroRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void recargar() {
+        Map<Long, AtomicLong> nuevas = leerCantidades();
+        cantidades = nuevas;
+        logger.info("Contador de libros cargado para {} categorías", nuevas.size());
+    }
+
+    /**
+     * Compara las cantidades con la consulta agrupada y las reemplaza si difieren. Si durante la lectura
+     * se aplicó algún cambio, se descarta la comparación y se reintenta en la próxima ejecución.
+     *
+     * @return cantidad de categorías cuyo contador no coincidía con la base, o -1 si no se pudo comparar
+     */
+    public int reconciliar() {
+        if (cantidades == null) {
+            recargar();
+            return -1;
+        }
+        long modificacionesAntes = modificaciones.get();
+        Map<Long, AtomicLong> esperadas = leerCantidades();
+
+        synchronized (this) {
+            if (modificaciones.get() != modificacionesAntes) {
+                logger.debug("Reconciliación del contador de libros descartada por cambios concurrentes");
+                return -1;
+            }
+            Map<Long, AtomicLong> actuales = cantidades;
+            Set<Long> categorias = new HashSet<>(actuales.keySet());
+            categorias.addAll(esperadas.keySet());
+            int diferencias = 0;
+            for (Long idCategoria : categorias) {
+                AtomicLong actual = actuales.get(idCategoria);
+                AtomicLong esperada = esperadas.get(idCategoria);
+                if ((actual != null ? actual.get() : 0L) != (esperada != null ? esperada.get() : 0L)) {
+                    diferencias++;
+                }
+            }
+            if (diferencias > 0) {
+                cantidades = esperadas;
+                logger.warn("Contador de libros reconciliado: {} categorías no coincidían con la base", diferencias);
+            }
+            return diferencias;
+        }
+    }
+
+    public int cantidad(Long idCategoria) {
+        AtomicLong cantidad = obtenerCantidades().get(idCategoria);
+        return cantidad != null ? (int) cantidad.get() : 0;
+    }
+
+    public void incrementar(Long idCategoria) {
+        modificaciones.incrementAndGet();
+        obtenerCantidades().computeIfAbsent(idCategoria, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void decrementar(Long idCategoria) {
+        modificaciones.incrementAndGet();
+        obtenerCantidades().computeIfAbsent(idCategoria, id -> new AtomicLong()).decrementAndGet();
+    }
+
+    public void mover(Long idCategoriaOrigen, Long idCategoriaDestino) {
+        if (Objects.equals(idCategoriaOrigen, idCategoriaDestino)) {
+            return;
+        }
+        decrementar(idCategoriaOrigen);
+        incrementar(idCategoriaDestino);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCrearLibros(LibrosCreadosEvent evento) {
+        evento.getLibros().forEach(libro -> incrementar(libro.getIdCategoria()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alActualizarLibro(LibroActualizadoEvent evento) {
+        mover(evento.getIdCategoriaAnterior(), evento.getLibro().getIdCategoria());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alEliminarLibro(LibroEliminadoEvent evento) {
+        decrementar(evento.getIdCategoria());
+    }
+
+    public void eliminarCategoria(Long idCategoria) {
+        modificaciones.incrementAndGet();
+        obtenerCantidades().remove(idCategoria);
+    }
+
+    private Map<Long, AtomicLong> leerCantidades() {
+        Map<Long, AtomicLong> leidas = new ConcurrentHashMap<>();
+        for (LibroRepository.CantidadPorCategoria fila : libroRepository.contarLibrosPorCategoria()) {
+            leidas.put(fila.getIdCategoria(), new AtomicLong(fila.getCantidad()));
+        }
+        return leidas;
+    }
+
+    private Map<Long, AtomicLong> obtenerCantidades() {
+        Map<Long, AtomicLong> actuales = cantidades;
+        if (actuales == null) {
+            recargar();
+            actuales = cantidades;
+        }
+        return actuales;
+    }
+}
\ No newline at end of file
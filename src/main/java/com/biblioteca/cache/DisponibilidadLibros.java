@@ -0,0 +1,181 @@
+package com.biblioteca.cache;
+
+import com.biblioteca.event.EstadoLibrosCambiadoEvent;
+import com.biblioteca.event.LibroEliminadoEvent;
+import com.biblioteca.event.LibrosCreadosEvent;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.search.LibroIndexado;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Mapa de bits de disponibilidad indexado por idLibro: un bit por libro, encendido si está DISPONIBLE.
+ * Las consultas son una lectura de un long sin bloqueos; los cambios de estado se aplican con CAS
+ * sobre la palabra correspondiente. Unos 60 KB cada 500.000 ids.
+ */
+@Component
+public class DisponibilidadLibros {
+
+    private static final Logger logger = LoggerFactory.getLogger(DisponibilidadLibros.class);
+    private static final long MAXIMO_ID = 1L << 26;
+
+    private final LibroRepository libroRepository;
+    private final AtomicLong modificaciones = new AtomicLong();
+    private volatile AtomicLongArray bits;
+
+    public DisponibilidadLibros(LibroRepository libroRepository) {
+        this.libroRepository = libroRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        long inicio = System.currentTimeMillis();
+        try {
+            Collection<Long> disponibles = libroRepository.findIdsDisponibles();
+            bits = construir(disponibles);
+            logger.info("Mapa de disponibilidad cargado con {} libros disponibles en {} ms",
+                       disponibles.size(), System.currentTimeMillis() - inicio);
+        } catch (Exception e) {
+            logger.error("No se pudo cargar el mapa de disponibilidad, se usará el catálogo: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compara el mapa con la columna libro.estado y lo reemplaza si difiere. Si durante la lectura
+     * se aplicó algún cambio, se descarta la comparación y se reintenta en la próxima ejecución.
+     *
+     * @return cantidad de libros cuyo bit no coincidía con la base, o -1 si no se pudo comparar
+     */
+    public int reconciliar() {
+        if (bits == null) {
+            cargar();
+            return -1;
+        }
+        long modificacionesAntes = modificaciones.get();
+        AtomicLongArray esperado = construir(libroRepository.findIdsDisponibles());
+
+        synchronized (this) {
+            if (modificaciones.get() != modificacionesAntes) {
+                logger.debug("Reconciliación de disponibilidad descartada por cambios concurrentes");
+                return -1;
+            }
+            AtomicLongArray actual = bits;
+            int diferencias = 0;
+            for (int i = 0; i < Math.max(actual.length(), esperado.length()); i++) {
+                long palabraActual = i < actual.length() ? actual.get(i) : 0L;
+                long palabraEsperada = i < esperado.length() ? esperado.get(i) : 0L;
+                diferencias += Long.bitCount(palabraActual ^ palabraEsperada);
+            }
+            if (diferencias > 0) {
+                bits = esperado;
+                logger.warn("Mapa de disponibilidad reconciliado: {} libros no coincidían con la base", diferencias);
+            }
+            return diferencias;
+        }
+    }
+
+    public boolean estaListo() {
+        return bits != null;
+    }
+
+    /**
+     * Indica si el id entra en el rango del mapa. Fuera de él la disponibilidad debe resolverse por otra vía.
+     */
+    public boolean cubre(Long idLibro) {
+        return idLibro != null && idLibro >= 0 && idLibro < MAXIMO_ID;
+    }
+
+    public boolean estaDisponible(long idLibro) {
+        AtomicLongArray actual = bits;
+        int palabra = (int) (idLibro >>> 6);
+        return palabra < actual.length() && (actual.get(palabra) & (1L << idLibro)) != 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCambiarEstado(EstadoLibrosCambiadoEvent evento) {
+        boolean disponible = evento.getEstado() == EstadoLibro.DISPONIBLE;
+        for (Long idLibro : evento.getIdsLibros()) {
+            marcar(idLibro, disponible);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCrearLibros(LibrosCreadosEvent evento) {
+        for (LibroIndexado libro : evento.getLibros()) {
+            marcar(libro.getIdLibro(), libro.getEstado() == EstadoLibro.DISPONIBLE);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alEliminarLibro(LibroEliminadoEvent evento) {
+        marcar(evento.getIdLibro(), false);
+    }
+
+    private void marcar(Long idLibro, boolean disponible) {
+        modificaciones.incrementAndGet();
+        if (bits == null || !cubre(idLibro)) {
+            return;
+        }
+        int palabra = (int) (idLibro >>> 6);
+        long mascara = 1L << idLibro;
+        AtomicLongArray actual;
+        do {
+            // Si mientras tanto se reemplazó el arreglo (crecimiento o reconciliación) se vuelve a aplicar
+            actual = asegurarCapacidad(palabra);
+            if (disponible) {
+                actual.accumulateAndGet(palabra, mascara, (valor, bit) -> valor | bit);
+            } else {
+                actual.accumulateAndGet(palabra, ~mascara, (valor, bit) -> valor & bit);
+            }
+        } while (actual != bits);
+    }
+
+    /**
+     * Solo se agranda cuando aparece un id mayor al máximo conocido; lo hace bajo el monitor para
+     * no perder bits escritos sobre el arreglo anterior mientras se copia.
+     */
+    private AtomicLongArray asegurarCapacidad(int palabra) {
+        AtomicLongArray actual = bits;
+        if (palabra < actual.length()) {
+            return actual;
+        }
+        synchronized (this) {
+            actual = bits;
+            if (palabra >= actual.length()) {
+                AtomicLongArray ampliado = new AtomicLongArray(Math.max(palabra + 1, actual.length() * 2));
+                for (int i = 0; i < actual.length(); i++) {
+                    ampliado.set(i, actual.get(i));
+                }
+                bits = ampliado;
+                actual = ampliado;
+            }
+            return actual;
+        }
+    }
+
+    private static AtomicLongArray construir(Collection<Long> disponibles) {
+        long maximo = 0;
+        for (Long idLibro : disponibles) {
+            if (idLibro < MAXIMO_ID) {
+                maximo = Math.max(maximo, idLibro);
+            }
+        }
+        AtomicLongArray nuevos = new AtomicLongArray((int) (maximo >>> 6) + 1);
+        for (Long idLibro : disponibles) {
+            if (idLibro >= 0 && idLibro < MAXIMO_ID) {
+                int palabra = (int) (idLibro >>> 6);
+                nuevos.set(palabra, nuevos.get(palabra) | (1L << idLibro));
+            }
+        }
+        return nuevos;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.biblioteca.cache;
+
+import com.biblioteca.event.CategoriaActualizadaEvent;
+import com.biblioteca.event.CategoriaCreadaEvent;
+import com.biblioteca.event.CategoriaEliminadaEvent;
+import com.biblioteca.event.EstadoLibrosCambiadoEvent;
+import com.biblioteca.event.LibroActualizadoEvent;
+import com.biblioteca.event.LibroEliminadoEvent;
+import com.biblioteca.event.LibrosCreadosEvent;
+import com.biblioteca.repository.CatalogoVersionRepository;
+import com.biblioteca.util.TransaccionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Versión del catálogo de libros y categorías, usada como ETag de las consultas. Vive en la base y
+ * avanza dentro de la misma transacción que cada cambio, así que todas las instancias entregan el
+ * mismo valor. Mientras una transacción local que la avanzó no terminó de publicar sus cambios en
+ * memoria, {@link #hayCambiosEnCurso()} indica que no conviene etiquetar respuestas con ella.
+ */
+@Component
+public class VersionCatalogo {
+
+    private final CatalogoVersionRepository catalogoVersionRepository;
+    private final AtomicInteger cambiosEnCurso = new AtomicInteger();
+
+    public VersionCatalogo(CatalogoVersionRepository catalogoVersionRepository) {
+        this.catalogoVersionRepository = catalogoVersionRepository;
+    }
+
+    public String etag() {
+        return "\"" + catalogoVersionRepository.obtenerValor() + "\"";
+    }
+
+    public boolean hayCambiosEnCurso() {
+        return cambiosEnCurso.get() > 0;
+    }
+
+    public void incrementar() {
+        cambiosEnCurso.incrementAndGet();
+        TransaccionUtils.alTerminar(cambiosEnCurso::decrementAndGet);
+        catalogoVersionRepository.incrementar();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void alCrearLibros(LibrosCreadosEvent evento) {
+        incrementar();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void alActualizarLibro(LibroActualizadoEvent evento) {
+        incrementar();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void alEliminarLibro(LibroEliminadoEvent evento) {
+        incrementar();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void alCambiarEstado(EstadoLibrosCambiadoEvent evento) {
+        incrementar();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void alCrearCategoria(CategoriaCreadaEvent evento) {
+        incrementar();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void alActualizarCategoria(CategoriaActualizadaEvent evento) {
+        incrementar();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void alEliminarCategoria(CategoriaEliminadaEvent evento) {
+        incrementar();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.biblioteca.config;
+
+import com.biblioteca.generador.GeneradorDatos;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * Perfil para poblar la base configurada con datos sintéticos y terminar:
+ * mvn spring-boot:run -Dspring-boot.run.profiles=generador -Dspring-boot.run.arguments=--biblioteca.generador.semilla=7
+ */
+@Configuration
+@Profile("generador")
+public class GeneradorDatosConfig {
+
+    @Bean
+    @ConfigurationProperties("biblioteca.generador")
+    public GeneradorDatos.Parametros parametrosGenerador() {
+        return new GeneradorDatos.Parametros();
+    }
+
+    @Bean
+    public ApplicationRunner generadorDatos(DataSource dataSource, GeneradorDatos.Parametros parametrosGenerador) {
+        return args -> new GeneradorDatos(dataSource, parametrosGenerador).generar();
+    }
+}
\ No newline at end of file
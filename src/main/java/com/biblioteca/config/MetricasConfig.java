@@ -0,0 +1,16 @@
+package com.biblioteca.config;
+
+import com.biblioteca.metrics.ContadorSentencias;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer contadorSentenciasCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new ContadorSentencias());
+    }
+}
\ No newline at end of file
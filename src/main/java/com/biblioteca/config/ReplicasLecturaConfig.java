@@ -0,0 +1,74 @@
+package com.biblioteca.config;
+
+import com.biblioteca.datasource.DataSourceEnrutado;
+import com.biblioteca.datasource.ReplicasLectura;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reemplaza el DataSource de Spring Boot por uno que enruta las transacciones de solo lectura
+ * a las réplicas configuradas. Solo se activa con biblioteca.replicas.habilitadas=true.
+ */
+@Configuration
+@ConditionalOnProperty(name = "biblioteca.replicas.habilitadas", havingValue = "true")
+public class ReplicasLecturaConfig {
+
+    /**
+     * Segundos desde la última transacción aplicada, o 0 si la réplica ya aplicó todo lo recibido.
+     */
+    private static final String CONSULTA_RETRASO_POSTGRESQL =
+        "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicasLectura replicasLectura(DataSourceProperties properties,
+                                           @Value("${biblioteca.replicas.urls}") List<String> urls,
+                                           @Value("${biblioteca.replicas.username:${spring.datasource.username}}") String username,
+                                           @Value("${biblioteca.replicas.password:${spring.datasource.password}}") String password,
+                                           @Value("${biblioteca.replicas.tamanio-pool:10}") int tamanioPool,
+                                           @Value("${biblioteca.replicas.consulta-retraso:}") String consultaRetraso,
+                                           @Value("${biblioteca.replicas.retraso-maximo-ms:2000}") long retrasoMaximoMs,
+                                           @Value("${biblioteca.replicas.ventana-lectura-propia-ms:5000}") long ventanaLecturaPropiaMs,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.getDriverClassName());
+            replica.setMaximumPoolSize(tamanioPool);
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(replica::setMetricRegistry);
+            replicas.add(replica);
+        }
+        return new ReplicasLectura(replicas, consultaRetraso.isBlank() ? CONSULTA_RETRASO_POSTGRESQL : consultaRetraso,
+                                   retrasoMaximoMs, ventanaLecturaPropiaMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource dataSourcePrimario, ReplicasLectura replicasLectura) {
+        return new LazyConnectionDataSourceProxy(new DataSourceEnrutado(dataSourcePrimario, replicasLectura));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.biblioteca.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "biblioteca.tareas-programadas.habilitadas", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
\ No newline at end of file
@@ -10,6 +10,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,9 +21,11 @@ import java.util.List;
 public class CategoriaController {
 
     private final CategoriaService categoriaService;
+    private final RespuestasCondicionales respuestasCondicionales;
 
-    public CategoriaController(CategoriaService categoriaService) {
+    public CategoriaController(CategoriaService categoriaService, RespuestasCondicionales respuestasCondicionales) {
         this.categoriaService = categoriaService;
+        this.respuestasCondicionales = respuestasCondicionales;
     }
 
     @PostMapping
@@ -34,30 +37,26 @@ public class CategoriaController {
 
     @GetMapping
     @Operation(summary = "Obtener todas las categorías", description = "Obtiene la lista completa de categorías")
-    public ResponseEntity<List<CategoriaResponse>> obtenerTodasLasCategorias() {
-        List<CategoriaResponse> categorias = categoriaService.obtenerTodasLasCategorias();
-        return ResponseEntity.ok(categorias);
+    public ResponseEntity<List<CategoriaResponse>> obtenerTodasLasCategorias(WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> categoriaService.obtenerTodasLasCategorias());
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Obtener categoría por ID", description = "Obtiene una categoría específica por su ID")
-    public ResponseEntity<CategoriaResponse> obtenerCategoriaPorId(@PathVariable Long id) {
-        CategoriaResponse categoria = categoriaService.obtenerCategoriaPorId(id);
-        return ResponseEntity.ok(categoria);
+    public ResponseEntity<CategoriaResponse> obtenerCategoriaPorId(@PathVariable Long id, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> categoriaService.obtenerCategoriaPorId(id));
     }
 
     @GetMapping("/nombre/{nombre}")
     @Operation(summary = "Obtener categoría por nombre", description = "Obtiene una categoría por su nombre exacto")
-    public ResponseEntity<CategoriaResponse> obtenerCategoriaPorNombre(@PathVariable String nombre) {
-        CategoriaResponse categoria = categoriaService.obtenerCategoriaPorNombre(nombre);
-        return ResponseEntity.ok(categoria);
+    public ResponseEntity<CategoriaResponse> obtenerCategoriaPorNombre(@PathVariable String nombre, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> categoriaService.obtenerCategoriaPorNombre(nombre));
     }
 
     @GetMapping("/buscar")
     @Operation(summary = "Buscar categorías por nombre", description = "Busca categorías que contengan el nombre especificado")
-    public ResponseEntity<List<CategoriaResponse>> buscarCategoriasPorNombre(@RequestParam String nombre) {
-        List<CategoriaResponse> categorias = categoriaService.buscarCategoriasPorNombre(nombre);
-        return ResponseEntity.ok(categorias);
+    public ResponseEntity<List<CategoriaResponse>> buscarCategoriasPorNombre(@RequestParam String nombre, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> categoriaService.buscarCategoriasPorNombre(nombre));
     }
 
     @PutMapping("/{id}")
@@ -2,17 +2,27 @@ package com.biblioteca.controller;
 
 import com.biblioteca.dto.request.CreateLibroRequest;
 import com.biblioteca.dto.request.UpdateLibroRequest;
+import com.biblioteca.dto.response.ImportacionLibrosResponse;
 import com.biblioteca.dto.response.LibroResponse;
+import com.biblioteca.dto.response.PaginaCursorResponse;
 import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.service.ImportacionLibrosService;
 import com.biblioteca.service.LibroService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/libros")
@@ -20,10 +30,18 @@ import java.util.List;
 @CrossOrigin(origins = "https://biblioteca-frontend-host.vercel.app") 
 public class LibroController {
 
+    private static final String TEXT_CSV = "text/csv";
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private final LibroService libroService;
+    private final ImportacionLibrosService importacionLibrosService;
+    private final RespuestasCondicionales respuestasCondicionales;
 
-    public LibroController(LibroService libroService) {
+    public LibroController(LibroService libroService, ImportacionLibrosService importacionLibrosService,
+                           RespuestasCondicionales respuestasCondicionales) {
         this.libroService = libroService;
+        this.importacionLibrosService = importacionLibrosService;
+        this.respuestasCondicionales = respuestasCondicionales;
     }
 
     @PostMapping
@@ -33,53 +51,83 @@ public class LibroController {
         return new ResponseEntity<>(libroCreado, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/importacion", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    @Operation(summary = "Importar libros en masa", description = "Importa libros desde un CSV con encabezado (titulo, autor, isbn, idCategoria) o un NDJSON con un libro por línea. El archivo se procesa a medida que llega y la respuesta detalla las filas rechazadas")
+    public ResponseEntity<ImportacionLibrosResponse> importarLibros(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream contenido) {
+        ImportacionLibrosService.Formato formato = contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                ? ImportacionLibrosService.Formato.CSV
+                : ImportacionLibrosService.Formato.NDJSON;
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        ImportacionLibrosResponse resultado = importacionLibrosService.importarLibros(contenido, charset, formato);
+        return ResponseEntity.ok(resultado);
+    }
+
     @GetMapping
     @Operation(summary = "Obtener todos los libros", description = "Obtiene la lista completa de libros")
-    public ResponseEntity<List<LibroResponse>> obtenerTodosLosLibros() {
-        List<LibroResponse> libros = libroService.obtenerTodosLosLibros();
-        return ResponseEntity.ok(libros);
+    public ResponseEntity<List<LibroResponse>> obtenerTodosLosLibros(WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> libroService.obtenerTodosLosLibros());
+    }
+
+    @GetMapping("/pagina")
+    @Operation(summary = "Obtener libros paginados", description = "Obtiene una página del catálogo ordenada por ID. Para la página siguiente se envía el cursor devuelto")
+    public ResponseEntity<PaginaCursorResponse<LibroResponse>> obtenerLibrosPaginados(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanio,
+            @RequestParam(required = false) EstadoLibro estado,
+            @RequestParam(required = false) Long idCategoria, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request,
+                () -> libroService.obtenerLibrosPaginados(cursor, tamanio, estado, idCategoria));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Obtener libro por ID", description = "Obtiene un libro específico por su ID")
-    public ResponseEntity<LibroResponse> obtenerLibroPorId(@PathVariable Long id) {
-        LibroResponse libro = libroService.obtenerLibroPorId(id);
-        return ResponseEntity.ok(libro);
+    public ResponseEntity<LibroResponse> obtenerLibroPorId(@PathVariable Long id, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> libroService.obtenerLibroPorId(id));
+    }
+
+    @GetMapping("/isbn/{isbn}")
+    @Operation(summary = "Obtener libro por ISBN", description = "Obtiene un libro específico por su ISBN")
+    public ResponseEntity<LibroResponse> obtenerLibroPorIsbn(@PathVariable String isbn, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> libroService.obtenerLibroPorIsbn(isbn));
     }
 
     @GetMapping("/disponibles")
     @Operation(summary = "Obtener libros disponibles", description = "Obtiene todos los libros disponibles para préstamo")
-    public ResponseEntity<List<LibroResponse>> obtenerLibrosDisponibles() {
-        List<LibroResponse> libros = libroService.obtenerLibrosDisponibles();
-        return ResponseEntity.ok(libros);
+    public ResponseEntity<List<LibroResponse>> obtenerLibrosDisponibles(WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> libroService.obtenerLibrosDisponibles());
     }
 
     @GetMapping("/buscar/titulo")
     @Operation(summary = "Buscar libros por título", description = "Busca libros que contengan el título especificado")
-    public ResponseEntity<List<LibroResponse>> buscarLibrosPorTitulo(@RequestParam String titulo) {
-        List<LibroResponse> libros = libroService.buscarLibrosPorTitulo(titulo);
-        return ResponseEntity.ok(libros);
+    public ResponseEntity<List<LibroResponse>> buscarLibrosPorTitulo(@RequestParam String titulo, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> libroService.buscarLibrosPorTitulo(titulo));
     }
 
     @GetMapping("/buscar/autor")
     @Operation(summary = "Buscar libros por autor", description = "Busca libros que contengan el autor especificado")
-    public ResponseEntity<List<LibroResponse>> buscarLibrosPorAutor(@RequestParam String autor) {
-        List<LibroResponse> libros = libroService.buscarLibrosPorAutor(autor);
-        return ResponseEntity.ok(libros);
+    public ResponseEntity<List<LibroResponse>> buscarLibrosPorAutor(@RequestParam String autor, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> libroService.buscarLibrosPorAutor(autor));
     }
 
     @GetMapping("/estado/{estado}")
     @Operation(summary = "Obtener libros por estado", description = "Obtiene libros filtrados por estado")
-    public ResponseEntity<List<LibroResponse>> obtenerLibrosPorEstado(@PathVariable EstadoLibro estado) {
-        List<LibroResponse> libros = libroService.obtenerLibrosPorEstado(estado);
-        return ResponseEntity.ok(libros);
+    public ResponseEntity<List<LibroResponse>> obtenerLibrosPorEstado(@PathVariable EstadoLibro estado, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> libroService.obtenerLibrosPorEstado(estado));
     }
 
     @GetMapping("/{id}/disponible")
     @Operation(summary = "Verificar disponibilidad", description = "Verifica si un libro está disponible para préstamo")
-    public ResponseEntity<Boolean> estaDisponible(@PathVariable Long id) {
-        boolean disponible = libroService.estaDisponible(id);
-        return ResponseEntity.ok(disponible);
+    public ResponseEntity<Boolean> estaDisponible(@PathVariable Long id, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> libroService.estaDisponible(id));
+    }
+
+    @GetMapping("/disponibilidad")
+    @Operation(summary = "Verificar disponibilidad de varios libros",
+               description = "Indica para cada ID si el libro está disponible, en una sola consulta (máximo 1000 IDs)")
+    public ResponseEntity<Map<Long, Boolean>> obtenerDisponibilidad(@RequestParam List<Long> ids, WebRequest request) {
+        return respuestasCondicionales.deCatalogo(request, () -> libroService.obtenerDisponibilidad(ids));
     }
 
     @PutMapping("/{id}")
@@ -41,6 +41,13 @@ public class MultaController {
         return ResponseEntity.ok(multa);
     }
 
+    @PostMapping("/evaluaciones/reencolar")
+    @Operation(summary = "Reencolar evaluaciones agotadas",
+               description = "Devuelve a la cola las evaluaciones automáticas de multa que agotaron sus reintentos")
+    public ResponseEntity<Integer> reencolarEvaluacionesAgotadas() {
+        return ResponseEntity.ok(multaService.reencolarEvaluacionesAgotadas());
+    }
+
     @GetMapping
     @Operation(summary = "Obtener todas las multas", description = "Obtiene la lista completa de multas")
     public ResponseEntity<List<MultaResponse>> obtenerTodasLasMultas() {
@@ -1,7 +1,10 @@
 package com.biblioteca.controller;
 
+import com.biblioteca.dto.request.CreatePrestamoLoteRequest;
 import com.biblioteca.dto.request.CreatePrestamoRequest;
+import com.biblioteca.dto.request.DevolucionLoteRequest;
 import com.biblioteca.dto.request.DevolucionPrestamoRequest;
+import com.biblioteca.dto.response.DevolucionLoteResponse;
 import com.biblioteca.dto.response.PrestamoResponse;
 import com.biblioteca.service.PrestamoService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,6 +35,15 @@ public class PrestamoController {
         return new ResponseEntity<>(prestamoCreado, HttpStatus.CREATED);
     }
 
+    @PostMapping("/lote")
+    @Operation(summary = "Prestar varios libros a un socio",
+               description = "Registra en una sola operación los préstamos de varios libros para el mismo socio; " +
+                             "si alguno no está disponible no se registra ninguno")
+    public ResponseEntity<List<PrestamoResponse>> crearPrestamosEnLote(@Valid @RequestBody CreatePrestamoLoteRequest request) {
+        List<PrestamoResponse> prestamosCreados = prestamoService.crearPrestamosEnLote(request);
+        return new ResponseEntity<>(prestamosCreados, HttpStatus.CREATED);
+    }
+
     @GetMapping
     @Operation(summary = "Obtener todos los préstamos", description = "Obtiene la lista completa de préstamos")
     public ResponseEntity<List<PrestamoResponse>> obtenerTodosLosPrestamos() {
@@ -47,7 +59,7 @@ public class PrestamoController {
     }
 
     @GetMapping("/activos")
-    @Operation(summary = "Obtener préstamos activos", description = "Obtiene todos los préstamos activos en el sistema")
+    @Operation(summary = "Obtener préstamos activos", description = "Obtiene todos los préstamos sin devolver, incluidos los vencidos")
     public ResponseEntity<List<PrestamoResponse>> obtenerPrestamosActivos() {
         List<PrestamoResponse> prestamos = prestamoService.obtenerPrestamosActivos();
         return ResponseEntity.ok(prestamos);
@@ -89,4 +101,13 @@ public class PrestamoController {
         PrestamoResponse prestamo = prestamoService.devolverPrestamo(idPrestamo, request);
         return ResponseEntity.ok(prestamo);
     }
+
+    @PostMapping("/devoluciones")
+    @Operation(summary = "Registrar devoluciones en lote",
+               description = "Registra de una vez las devoluciones del buzón, identificadas por ID de préstamo o ISBN, " +
+                             "y devuelve el resultado de cada ítem")
+    public ResponseEntity<DevolucionLoteResponse> devolverPrestamosEnLote(@Valid @RequestBody DevolucionLoteRequest request) {
+        DevolucionLoteResponse resultado = prestamoService.devolverPrestamosEnLote(request);
+        return ResponseEntity.ok(resultado);
+    }
 }
\ No newline at end of file
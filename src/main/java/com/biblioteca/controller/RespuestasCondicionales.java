@@ -0,0 +1,59 @@
+package com.biblioteca.controller;
+
+import com.biblioteca.cache.VersionCatalogo;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Respuestas de lectura del catálogo con ETag tomado de {@link VersionCatalogo}. La versión se lee
+ * antes de la consulta, así que una respuesta nunca queda etiquetada con una versión posterior a su
+ * contenido. Si el cliente ya tiene la versión vigente se responde 304 sin ejecutar la consulta; un
+ * {@code If-None-Match: *} no cuenta, para que un recurso inexistente siga respondiendo 404. Las
+ * cachés compartidas pueden guardarlas pero deben revalidar siempre.
+ */
+@Component
+class RespuestasCondicionales {
+
+    private static final CacheControl CACHE_CATALOGO = CacheControl.noCache().cachePublic();
+
+    private final VersionCatalogo versionCatalogo;
+
+    RespuestasCondicionales(VersionCatalogo versionCatalogo) {
+        this.versionCatalogo = versionCatalogo;
+    }
+
+    <T> ResponseEntity<T> deCatalogo(WebRequest request, Supplier<T> consulta) {
+        if (versionCatalogo.hayCambiosEnCurso()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(consulta.get());
+        }
+        String etag = versionCatalogo.etag();
+        if (coincide(request.getHeaderValues(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CATALOGO).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CACHE_CATALOGO).body(consulta.get());
+    }
+
+    private static boolean coincide(String[] ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String valor : ifNoneMatch) {
+            for (String candidato : valor.split(",")) {
+                String limpio = candidato.trim();
+                if (limpio.startsWith("W/")) {
+                    limpio = limpio.substring(2);
+                }
+                if (limpio.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.biblioteca.controller;
 
 import com.biblioteca.dto.request.CreateSocioRequest;
 import com.biblioteca.dto.request.UpdateSocioRequest;
+import com.biblioteca.dto.response.PaginaCursorResponse;
 import com.biblioteca.dto.response.SocioResponse;
 import com.biblioteca.service.SocioService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,6 +40,15 @@ public class SocioController {
         return ResponseEntity.ok(socios);
     }
 
+    @GetMapping("/pagina")
+    @Operation(summary = "Obtener socios paginados", description = "Obtiene una página de socios ordenada por ID con sus préstamos activos. Para la página siguiente se envía el cursor devuelto")
+    public ResponseEntity<PaginaCursorResponse<SocioResponse>> obtenerSociosPaginados(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanio) {
+        PaginaCursorResponse<SocioResponse> pagina = socioService.obtenerSociosPaginados(cursor, tamanio);
+        return ResponseEntity.ok(pagina);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Obtener socio por ID", description = "Obtiene un socio específico por su ID")
     public ResponseEntity<SocioResponse> obtenerSocioPorId(@PathVariable Long id) {
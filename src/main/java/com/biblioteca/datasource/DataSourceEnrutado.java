@@ -0,0 +1,70 @@
+package com.biblioteca.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Envía las transacciones de solo lectura a una réplica y el resto al primario. Se lee del
+ * primario si el usuario escribió hace poco o si ninguna réplica está al día.
+ * Debe envolverse en un LazyConnectionDataSourceProxy: la conexión tiene que pedirse cuando la
+ * transacción ya está marcada como de solo lectura, no al comenzarla.
+ */
+public class DataSourceEnrutado extends AbstractRoutingDataSource {
+
+    private static final String PRIMARIO = "primario";
+
+    private final ReplicasLectura replicas;
+
+    public DataSourceEnrutado(DataSource primario, ReplicasLectura replicas) {
+        this.replicas = replicas;
+
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARIO, primario);
+        for (int i = 0; i < replicas.getDataSources().size(); i++) {
+            destinos.put(i, replicas.getDataSources().get(i));
+        }
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String usuario = usuarioActual();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (usuario != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        replicas.registrarEscritura(usuario);
+                    }
+                });
+            }
+            return PRIMARIO;
+        }
+
+        if (usuario != null && replicas.escribioRecientemente(usuario)) {
+            return PRIMARIO;
+        }
+        Integer replica = replicas.siguienteDisponible();
+        return replica != null ? replica : PRIMARIO;
+    }
+
+    private static String usuarioActual() {
+        Authentication autenticacion = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacion == null || !autenticacion.isAuthenticated()
+                || autenticacion instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return autenticacion.getName();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.biblioteca.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Réplicas de lectura disponibles para las transacciones de solo lectura. Mide periódicamente
+ * el retraso de replicación de cada una y recuerda la última escritura de cada usuario para que
+ * pueda leer lo que acaba de escribir desde el primario.
+ */
+public class ReplicasLectura implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicasLectura.class);
+    private static final int MAXIMO_USUARIOS_RECORDADOS = 10_000;
+
+    private final List<DataSource> dataSources;
+    private final String consultaRetraso;
+    private final long retrasoMaximoMs;
+    private final long ventanaLecturaPropiaMs;
+    private final AtomicInteger siguiente = new AtomicInteger();
+    private final Map<String, Long> ultimaEscrituraPorUsuario = new ConcurrentHashMap<>();
+    private volatile boolean[] disponibles;
+
+    /**
+     * @param consultaRetraso consulta que devuelve el retraso de replicación en segundos
+     */
+    public ReplicasLectura(List<DataSource> dataSources, String consultaRetraso,
+                           long retrasoMaximoMs, long ventanaLecturaPropiaMs) {
+        this.dataSources = List.copyOf(dataSources);
+        this.consultaRetraso = consultaRetraso;
+        this.retrasoMaximoMs = retrasoMaximoMs;
+        this.ventanaLecturaPropiaMs = ventanaLecturaPropiaMs;
+        this.disponibles = new boolean[dataSources.size()];
+        verificarRetrasos();
+    }
+
+    public List<DataSource> getDataSources() {
+        return dataSources;
+    }
+
+    /**
+     * Devuelve el índice de la próxima réplica disponible en orden rotativo, o null si ninguna
+     * está al día y hay que leer del primario.
+     */
+    public Integer siguienteDisponible() {
+        boolean[] actuales = disponibles;
+        int cantidad = actuales.length;
+        int inicio = Math.floorMod(siguiente.getAndIncrement(), Math.max(1, cantidad));
+        for (int i = 0; i < cantidad; i++) {
+            int indice = (inicio + i) % cantidad;
+            if (actuales[indice]) {
+                return indice;
+            }
+        }
+        return null;
+    }
+
+    public void registrarEscritura(String usuario) {
+        long ahora = System.currentTimeMillis();
+        ultimaEscrituraPorUsuario.put(usuario, ahora);
+        if (ultimaEscrituraPorUsuario.size() > MAXIMO_USUARIOS_RECORDADOS) {
+            ultimaEscrituraPorUsuario.values().removeIf(instante -> ahora - instante > ventanaLecturaPropiaMs);
+        }
+    }
+
+    public boolean escribioRecientemente(String usuario) {
+        Long instante = ultimaEscrituraPorUsuario.get(usuario);
+        return instante != null && System.currentTimeMillis() - instante <= ventanaLecturaPropiaMs;
+    }
+
+    /**
+     * Marca como disponibles solo las réplicas que responden y cuyo retraso no supera el máximo.
+     */
+    public void verificarRetrasos() {
+        boolean[] nuevos = new boolean[dataSources.size()];
+        for (int i = 0; i < dataSources.size(); i++) {
+            try (Connection conexion = dataSources.get(i).getConnection();
+                 Statement sentencia = conexion.createStatement();
+                 ResultSet resultado = sentencia.executeQuery(consultaRetraso)) {
+                double segundos = resultado.next() ? resultado.getDouble(1) : 0;
+                nuevos[i] = segundos * 1000 <= retrasoMaximoMs;
+                if (!nuevos[i]) {
+                    logger.warn("Réplica {} con {} s de retraso, se lee del primario", i, segundos);
+                }
+            } catch (SQLException e) {
+                logger.warn("Réplica {} no disponible: {}", i, e.getMessage());
+            }
+        }
+        disponibles = nuevos;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable cerrable) {
+                cerrable.close();
+            }
+        }
+    }
+}
\ No newline at end of file
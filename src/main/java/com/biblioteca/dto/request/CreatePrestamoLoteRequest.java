@@ -0,0 +1,69 @@
+package com.biblioteca.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "DTO para prestar varios libros a un socio en una sola operación")
+public class CreatePrestamoLoteRequest {
+
+    @NotNull(message = "El ID del socio es obligatorio")
+    @Schema(description = "ID del socio que retira los libros", example = "1", required = true)
+    private Long idSocio;
+
+    @NotEmpty(message = "Debe indicar al menos un libro")
+    @Schema(description = "IDs de los libros a prestar", example = "[1, 2, 3]", required = true)
+    private List<Long> idsLibros = new ArrayList<>();
+
+    @Schema(description = "Fecha de inicio de los préstamos (opcional, por defecto fecha actual)", example = "2024-01-15")
+    private LocalDate fechaInicio;
+
+    @NotNull(message = "La fecha de fin prevista es obligatoria")
+    @Schema(description = "Fecha de fin prevista de los préstamos (fecha de vencimiento)", example = "2024-01-30", required = true)
+    private LocalDate fechaFin;
+
+    public CreatePrestamoLoteRequest() {}
+
+    public CreatePrestamoLoteRequest(Long idSocio, List<Long> idsLibros, LocalDate fechaFin) {
+        this.idSocio = idSocio;
+        this.idsLibros = idsLibros;
+        this.fechaFin = fechaFin;
+    }
+
+    public Long getIdSocio() {
+        return idSocio;
+    }
+
+    public void setIdSocio(Long idSocio) {
+        this.idSocio = idSocio;
+    }
+
+    public List<Long> getIdsLibros() {
+        return idsLibros;
+    }
+
+    public void setIdsLibros(List<Long> idsLibros) {
+        this.idsLibros = idsLibros;
+    }
+
+    public LocalDate getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public void setFechaInicio(LocalDate fechaInicio) {
+        this.fechaInicio = fechaInicio;
+    }
+
+    public LocalDate getFechaFin() {
+        return fechaFin;
+    }
+
+    public void setFechaFin(LocalDate fechaFin) {
+        this.fechaFin = fechaFin;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.biblioteca.dto.request;
+
+import com.biblioteca.model.enums.EstadoDevolucion;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "DTO para registrar en un solo pedido las devoluciones recibidas en el buzón")
+public class DevolucionLoteRequest {
+
+    @NotEmpty(message = "Debe indicar al menos una devolución")
+    @Schema(description = "Devoluciones a registrar, como máximo 1000 por pedido", required = true)
+    private List<ItemDevolucion> devoluciones = new ArrayList<>();
+
+    public DevolucionLoteRequest() {}
+
+    public DevolucionLoteRequest(List<ItemDevolucion> devoluciones) {
+        this.devoluciones = devoluciones;
+    }
+
+    public List<ItemDevolucion> getDevoluciones() {
+        return devoluciones;
+    }
+
+    public void setDevoluciones(List<ItemDevolucion> devoluciones) {
+        this.devoluciones = devoluciones;
+    }
+
+    @Schema(description = "Devolución de un préstamo, identificado por su ID o por el ISBN del libro prestado")
+    public static class ItemDevolucion {
+
+        @Schema(description = "ID del préstamo a devolver", example = "1024")
+        private Long idPrestamo;
+
+        @Schema(description = "ISBN del libro devuelto, si no se conoce el ID del préstamo", example = "978-84-376-0494-7")
+        private String isbn;
+
+        @Schema(description = "Estado en que se devuelve el libro", required = true)
+        private EstadoDevolucion estadoDevolucion;
+
+        @Schema(description = "Observaciones sobre el estado del libro", example = "Tapa mojada")
+        private String observaciones;
+
+        public ItemDevolucion() {}
+
+        public ItemDevolucion(Long idPrestamo, String isbn, EstadoDevolucion estadoDevolucion, String observaciones) {
+            this.idPrestamo = idPrestamo;
+            this.isbn = isbn;
+            this.estadoDevolucion = estadoDevolucion;
+            this.observaciones = observaciones;
+        }
+
+        public Long getIdPrestamo() {
+            return idPrestamo;
+        }
+
+        public void setIdPrestamo(Long idPrestamo) {
+            this.idPrestamo = idPrestamo;
+        }
+
+        public String getIsbn() {
+            return isbn;
+        }
+
+        public void setIsbn(String isbn) {
+            this.isbn = isbn;
+        }
+
+        public EstadoDevolucion getEstadoDevolucion() {
+            return estadoDevolucion;
+        }
+
+        public void setEstadoDevolucion(EstadoDevolucion estadoDevolucion) {
+            this.estadoDevolucion = estadoDevolucion;
+        }
+
+        public String getObservaciones() {
+            return observaciones;
+        }
+
+        public void setObservaciones(String observaciones) {
+            this.observaciones = observaciones;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.biblioteca.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "DTO con el resultado de una devolución en lote")
+public class DevolucionLoteResponse {
+
+    @Schema(description = "Cantidad de préstamos devueltos", example = "118")
+    private Integer devueltos;
+
+    @Schema(description = "Cantidad de ítems rechazados", example = "2")
+    private Integer rechazados;
+
+    @Schema(description = "Cantidad de multas generadas por el lote", example = "9")
+    private Integer multasGeneradas;
+
+    @Schema(description = "Suma de los montos de las multas generadas", example = "340.00")
+    private BigDecimal montoMultas;
+
+    @Schema(description = "Resultado de cada ítem, en el mismo orden del pedido")
+    private List<ResultadoDevolucion> resultados = new ArrayList<>();
+
+    public DevolucionLoteResponse() {}
+
+    public Integer getDevueltos() {
+        return devueltos;
+    }
+
+    public void setDevueltos(Integer devueltos) {
+        this.devueltos = devueltos;
+    }
+
+    public Integer getRechazados() {
+        return rechazados;
+    }
+
+    public void setRechazados(Integer rechazados) {
+        this.rechazados = rechazados;
+    }
+
+    public Integer getMultasGeneradas() {
+        return multasGeneradas;
+    }
+
+    public void setMultasGeneradas(Integer multasGeneradas) {
+        this.multasGeneradas = multasGeneradas;
+    }
+
+    public BigDecimal getMontoMultas() {
+        return montoMultas;
+    }
+
+    public void setMontoMultas(BigDecimal montoMultas) {
+        this.montoMultas = montoMultas;
+    }
+
+    public List<ResultadoDevolucion> getResultados() {
+        return resultados;
+    }
+
+    public void setResultados(List<ResultadoDevolucion> resultados) {
+        this.resultados = resultados;
+    }
+
+    @Schema(description = "Resultado de un ítem de la devolución en lote")
+    public static class ResultadoDevolucion {
+
+        @Schema(description = "Posición del ítem en el pedido, comenzando en 1", example = "3")
+        private Integer posicion;
+
+        @Schema(description = "ID del préstamo, informado o resuelto a partir del ISBN", example = "1024")
+        private Long idPrestamo;
+
+        @Schema(description = "ISBN informado en el ítem", example = "978-84-376-0494-7")
+        private String isbn;
+
+        @Schema(description = "Indica si el préstamo quedó devuelto", example = "true")
+        private Boolean devuelto;
+
+        @Schema(description = "Días de retraso de la devolución", example = "4")
+        private Integer diasRetraso;
+
+        @Schema(description = "ID de la multa generada, si corresponde", example = "77")
+        private Long idMulta;
+
+        @Schema(description = "Monto de la multa generada, si corresponde", example = "20.00")
+        private BigDecimal montoMulta;
+
+        @Schema(description = "Motivo del rechazo o de la multa", example = "El préstamo ya ha sido devuelto o no está activo")
+        private String mensaje;
+
+        public ResultadoDevolucion() {}
+
+        public ResultadoDevolucion(Integer posicion, Long idPrestamo, String isbn) {
+            this.posicion = posicion;
+            this.idPrestamo = idPrestamo;
+            this.isbn = isbn;
+        }
+
+        public Integer getPosicion() {
+            return posicion;
+        }
+
+        public void setPosicion(Integer posicion) {
+            this.posicion = posicion;
+        }
+
+        public Long getIdPrestamo() {
+            return idPrestamo;
+        }
+
+        public void setIdPrestamo(Long idPrestamo) {
+            this.idPrestamo = idPrestamo;
+        }
+
+        public String getIsbn() {
+            return isbn;
+        }
+
+        public void setIsbn(String isbn) {
+            this.isbn = isbn;
+        }
+
+        public Boolean getDevuelto() {
+            return devuelto;
+        }
+
+        public void setDevuelto(Boolean devuelto) {
+            this.devuelto = devuelto;
+        }
+
+        public Integer getDiasRetraso() {
+            return diasRetraso;
+        }
+
+        public void setDiasRetraso(Integer diasRetraso) {
+            this.diasRetraso = diasRetraso;
+        }
+
+        public Long getIdMulta() {
+            return idMulta;
+        }
+
+        public void setIdMulta(Long idMulta) {
+            this.idMulta = idMulta;
+        }
+
+        public BigDecimal getMontoMulta() {
+            return montoMulta;
+        }
+
+        public void setMontoMulta(BigDecimal montoMulta) {
+            this.montoMulta = montoMulta;
+        }
+
+        public String getMensaje() {
+            return mensaje;
+        }
+
+        public void setMensaje(String mensaje) {
+            this.mensaje = mensaje;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.biblioteca.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "DTO con el resultado de una importación masiva de libros")
+public class ImportacionLibrosResponse {
+
+    @Schema(description = "Cantidad de filas de datos leídas del archivo", example = "50000")
+    private Integer filasLeidas;
+
+    @Schema(description = "Cantidad de libros creados", example = "49870")
+    private Integer librosCreados;
+
+    @Schema(description = "Cantidad de filas rechazadas", example = "130")
+    private Integer filasConError;
+
+    @Schema(description = "Detalle de las filas rechazadas, limitado a las primeras 1000")
+    private List<ErrorFila> errores = new ArrayList<>();
+
+    @Schema(description = "Duración de la importación en milisegundos", example = "2150")
+    private Long duracionMs;
+
+    public ImportacionLibrosResponse() {}
+
+    public Integer getFilasLeidas() {
+        return filasLeidas;
+    }
+
+    public void setFilasLeidas(Integer filasLeidas) {
+        this.filasLeidas = filasLeidas;
+    }
+
+    public Integer getLibrosCreados() {
+        return librosCreados;
+    }
+
+    public void setLibrosCreados(Integer librosCreados) {
+        this.librosCreados = librosCreados;
+    }
+
+    public Integer getFilasConError() {
+        return filasConError;
+    }
+
+    public void setFilasConError(Integer filasConError) {
+        this.filasConError = filasConError;
+    }
+
+    public List<ErrorFila> getErrores() {
+        return errores;
+    }
+
+    public void setErrores(List<ErrorFila> errores) {
+        this.errores = errores;
+    }
+
+    public Long getDuracionMs() {
+        return duracionMs;
+    }
+
+    public void setDuracionMs(Long duracionMs) {
+        this.duracionMs = duracionMs;
+    }
+
+    @Schema(description = "Fila rechazada durante la importación")
+    public static class ErrorFila {
+
+        @Schema(description = "Número de fila de datos, comenzando en 1 (sin contar el encabezado)", example = "17")
+        private Integer fila;
+
+        @Schema(description = "ISBN informado en la fila, si se pudo leer", example = "978-84-376-0494-7")
+        private String isbn;
+
+        @Schema(description = "Motivo del rechazo", example = "Ya existe un libro con el ISBN: 978-84-376-0494-7")
+        private String mensaje;
+
+        public ErrorFila() {}
+
+        public ErrorFila(Integer fila, String isbn, String mensaje) {
+            this.fila = fila;
+            this.isbn = isbn;
+            this.mensaje = mensaje;
+        }
+
+        public Integer getFila() {
+            return fila;
+        }
+
+        public void setFila(Integer fila) {
+            this.fila = fila;
+        }
+
+        public String getIsbn() {
+            return isbn;
+        }
+
+        public void setIsbn(String isbn) {
+            this.isbn = isbn;
+        }
+
+        public String getMensaje() {
+            return mensaje;
+        }
+
+        public void setMensaje(String mensaje) {
+            this.mensaje = mensaje;
+        }
+    }
+}
\ No newline at end of file
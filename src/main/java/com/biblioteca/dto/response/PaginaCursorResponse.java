@@ -0,0 +1,62 @@
+package com.biblioteca.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "DTO para una página de resultados paginada por cursor")
+public class PaginaCursorResponse<T> {
+
+    @Schema(description = "Elementos de la página")
+    private List<T> contenido;
+
+    @Schema(description = "Cursor opaco para pedir la página siguiente, nulo si no hay más", example = "djE6NTA")
+    private String siguienteCursor;
+
+    @Schema(description = "Indica si existen más elementos después de esta página", example = "true")
+    private Boolean tieneMas;
+
+    @Schema(description = "Cantidad de elementos devueltos", example = "50")
+    private Integer tamanio;
+
+    public PaginaCursorResponse() {}
+
+    public PaginaCursorResponse(List<T> contenido, String siguienteCursor) {
+        this.contenido = contenido;
+        this.siguienteCursor = siguienteCursor;
+        this.tieneMas = siguienteCursor != null;
+        this.tamanio = contenido.size();
+    }
+
+    public List<T> getContenido() {
+        return contenido;
+    }
+
+    public void setContenido(List<T> contenido) {
+        this.contenido = contenido;
+    }
+
+    public String getSiguienteCursor() {
+        return siguienteCursor;
+    }
+
+    public void setSiguienteCursor(String siguienteCursor) {
+        this.siguienteCursor = siguienteCursor;
+    }
+
+    public Boolean getTieneMas() {
+        return tieneMas;
+    }
+
+    public void setTieneMas(Boolean tieneMas) {
+        this.tieneMas = tieneMas;
+    }
+
+    public Integer getTamanio() {
+        return tamanio;
+    }
+
+    public void setTamanio(Integer tamanio) {
+        this.tamanio = tamanio;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.biblioteca.event;
+
+public final class CategoriaActualizadaEvent {
+
+    private final Long idCategoria;
+    private final String nombre;
+    private final String descripcion;
+
+    public CategoriaActualizadaEvent(Long idCategoria, String nombre, String descripcion) {
+        this.idCategoria = idCategoria;
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+    }
+
+    public Long getIdCategoria() {
+        return idCategoria;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+}
\ No newline at end of file
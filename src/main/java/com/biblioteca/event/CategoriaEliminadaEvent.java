@@ -0,0 +1,14 @@
+package com.biblioteca.event;
+
+public final class CategoriaEliminadaEvent {
+
+    private final Long idCategoria;
+
+    public CategoriaEliminadaEvent(Long idCategoria) {
+        this.idCategoria = idCategoria;
+    }
+
+    public Long getIdCategoria() {
+        return idCategoria;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.biblioteca.event;
+
+import com.biblioteca.model.enums.EstadoLibro;
+
+import java.util.List;
+
+/**
+ * Cambio de estado de uno o más libros por préstamos o devoluciones.
+ */
+public final class EstadoLibrosCambiadoEvent {
+
+    private final List<Long> idsLibros;
+    private final EstadoLibro estado;
+
+    public EstadoLibrosCambiadoEvent(List<Long> idsLibros, EstadoLibro estado) {
+        this.idsLibros = List.copyOf(idsLibros);
+        this.estado = estado;
+    }
+
+    public List<Long> getIdsLibros() {
+        return idsLibros;
+    }
+
+    public EstadoLibro getEstado() {
+        return estado;
+    }
+}
\ No newline at end of file
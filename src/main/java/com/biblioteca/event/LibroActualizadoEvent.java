@@ -0,0 +1,25 @@
+package com.biblioteca.event;
+
+import com.biblioteca.search.LibroIndexado;
+
+/**
+ * Modificación de título, autor o categoría de un libro.
+ */
+public final class LibroActualizadoEvent {
+
+    private final LibroIndexado libro;
+    private final Long idCategoriaAnterior;
+
+    public LibroActualizadoEvent(LibroIndexado libro, Long idCategoriaAnterior) {
+        this.libro = libro;
+        this.idCategoriaAnterior = idCategoriaAnterior;
+    }
+
+    public LibroIndexado getLibro() {
+        return libro;
+    }
+
+    public Long getIdCategoriaAnterior() {
+        return idCategoriaAnterior;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.biblioteca.event;
+
+public final class LibroEliminadoEvent {
+
+    private final Long idLibro;
+    private final Long idCategoria;
+
+    public LibroEliminadoEvent(Long idLibro, Long idCategoria) {
+        this.idLibro = idLibro;
+        this.idCategoria = idCategoria;
+    }
+
+    public Long getIdLibro() {
+        return idLibro;
+    }
+
+    public Long getIdCategoria() {
+        return idCategoria;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.biblioteca.event;
+
+import com.biblioteca.search.LibroIndexado;
+
+import java.util.List;
+
+/**
+ * Alta de uno o más libros. Las importaciones publican un evento por lote.
+ */
+public final class LibrosCreadosEvent {
+
+    private final List<LibroIndexado> libros;
+
+    public LibrosCreadosEvent(List<LibroIndexado> libros) {
+        this.libros = List.copyOf(libros);
+    }
+
+    public List<LibroIndexado> getLibros() {
+        return libros;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,622 @@
+package com.biblioteca.generador;
+
+import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.model.enums.EstadoDevolucion;
+import com.biblioteca.strategy.MultaPorDanio;
+import com.biblioteca.strategy.MultaPorRetraso;
+import com.biblioteca.strategy.MultaStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Genera un conjunto de datos sintético con volúmenes y distribuciones parecidos a los de
+ * producción: la popularidad de libros y socios sigue una distribución de Zipf, los préstamos se
+ * reparten a lo largo de la historia con ids crecientes en el tiempo y las multas se calculan con
+ * las mismas estrategias que usa el servicio. Con la misma semilla y los mismos parámetros
+ * siempre genera los mismos datos.
+ * Escribe con JDBC en lotes sobre tablas vacías y al terminar adelanta las secuencias para que
+ * Hibernate siga asignando ids a continuación.
+ */
+public class GeneradorDatos {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneradorDatos.class);
+
+    private static final int DIAS_PRESTAMO = 15;
+    private static final int DIAS_CON_VENCIDOS = 90;
+    private static final int INTENTOS_LIBRO_LIBRE = 8;
+
+    private static final String[] PALABRAS_TITULO = {
+        "historia", "sombra", "viaje", "ciudad", "memoria", "jardín", "río", "noche", "tiempo", "guerra",
+        "amor", "silencio", "mar", "fuego", "camino", "invierno", "casa", "luz", "secreto", "puerto",
+        "ciencia", "arte", "principios", "teoría", "manual", "introducción", "cálculo", "derecho",
+        "economía", "filosofía", "poemas", "cuentos", "crónica", "diario", "cartas", "leyendas"
+    };
+    private static final String[] NOMBRES = {
+        "Ana", "Juan", "María", "Carlos", "Lucía", "Pedro", "Sofía", "Martín", "Valentina", "Diego",
+        "Camila", "Julián", "Florencia", "Tomás", "Agustina", "Nicolás", "Paula", "Federico", "Elena", "Mateo"
+    };
+    private static final String[] APELLIDOS = {
+        "González", "Rodríguez", "Gómez", "Fernández", "López", "Díaz", "Martínez", "Pérez", "García",
+        "Sánchez", "Romero", "Sosa", "Torres", "Álvarez", "Ruiz", "Ramírez", "Flores", "Acosta", "Benítez", "Medina"
+    };
+    private static final EstadoDevolucion[] DANIOS = {
+        EstadoDevolucion.DANIO_LEVE, EstadoDevolucion.DANIO_LEVE, EstadoDevolucion.DANIO_LEVE,
+        EstadoDevolucion.DANIO_GRAVE, EstadoDevolucion.PERDIDA
+    };
+
+    private final DataSource dataSource;
+    private final Parametros parametros;
+    private final List<MultaStrategy> estrategiasMulta = List.of(new MultaPorRetraso(), new MultaPorDanio());
+
+    public GeneradorDatos(DataSource dataSource, Parametros parametros) {
+        this.dataSource = dataSource;
+        this.parametros = parametros;
+    }
+
+    public Resultado generar() throws SQLException {
+        SplittableRandom aleatorio = new SplittableRandom(parametros.getSemilla());
+        LocalDate hoy = parametros.getFechaReferencia() != null ? parametros.getFechaReferencia() : LocalDate.now();
+        Resultado resultado = new Resultado();
+        long inicio = System.currentTimeMillis();
+
+        try (Connection conexion = dataSource.getConnection()) {
+            conexion.setAutoCommit(false);
+            verificarTablasVacias(conexion);
+
+            long primeraCategoria = reservarIds(conexion, "categoria_seq");
+            long primerLibro = reservarIds(conexion, "libro_seq");
+            long primerSocio = reservarIds(conexion, "socio_seq");
+            long primerPrestamo = reservarIds(conexion, "prestamo_seq");
+            long primeraMulta = reservarIds(conexion, "multa_seq");
+
+            insertarCategorias(conexion, primeraCategoria);
+            insertarLibros(conexion, aleatorio.split(), primerLibro, primeraCategoria);
+            insertarSocios(conexion, aleatorio.split(), primerSocio);
+            insertarPrestamosYMultas(conexion, aleatorio.split(), hoy, primerLibro, primerSocio,
+                                     primerPrestamo, primeraMulta, resultado);
+
+            ajustarSecuencia(conexion, "categoria_seq", primeraCategoria + parametros.getCategorias());
+            ajustarSecuencia(conexion, "libro_seq", primerLibro + parametros.getLibros());
+            ajustarSecuencia(conexion, "socio_seq", primerSocio + parametros.getSocios());
+            ajustarSecuencia(conexion, "prestamo_seq", primerPrestamo + parametros.getPrestamos());
+            ajustarSecuencia(conexion, "multa_seq", primeraMulta + resultado.multas);
+            conexion.commit();
+        }
+
+        resultado.categorias = parametros.getCategorias();
+        resultado.libros = parametros.getLibros();
+        resultado.socios = parametros.getSocios();
+        resultado.prestamos = parametros.getPrestamos();
+        logger.info("Datos generados en {} s con semilla {}: {} categorías, {} libros, {} socios, {} préstamos " +
+                    "({} sin devolver), {} multas",
+                    (System.currentTimeMillis() - inicio) / 1000, parametros.getSemilla(), resultado.categorias,
+                    resultado.libros, resultado.socios, resultado.prestamos, resultado.prestamosSinDevolver,
+                    resultado.multas);
+        return resultado;
+    }
+
+    private void verificarTablasVacias(Connection conexion) throws SQLException {
+        for (String tabla : List.of("categoria", "libro", "socio", "prestamo", "multa")) {
+            try (Statement sentencia = conexion.createStatement();
+                 ResultSet filas = sentencia.executeQuery("SELECT COUNT(*) FROM " + tabla)) {
+                filas.next();
+                if (filas.getLong(1) > 0) {
+                    throw new IllegalStateException("La tabla " + tabla + " ya tiene datos; el generador necesita una base vacía");
+                }
+            }
+        }
+    }
+
+    private void insertarCategorias(Connection conexion, long primerId) throws SQLException {
+        try (Lote lote = new Lote(conexion, "categoria",
+                "INSERT INTO categoria (id_categoria, nombre, descripcion) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < parametros.getCategorias(); i++) {
+                lote.sentencia.setLong(1, primerId + i);
+                lote.sentencia.setString(2, "Categoría " + (i + 1));
+                lote.sentencia.setString(3, "Categoría generada número " + (i + 1));
+                lote.agregar();
+            }
+        }
+    }
+
+    private void insertarLibros(Connection conexion, SplittableRandom aleatorio, long primerId,
+                                long primeraCategoria) throws SQLException {
+        int autores = Math.max(1, parametros.getLibros() / 8);
+        try (Lote lote = new Lote(conexion, "libro",
+                "INSERT INTO libro (id_libro, titulo, autor, isbn, estado, id_categoria) VALUES (?, ?, ?, ?, 'DISPONIBLE', ?)")) {
+            for (int i = 0; i < parametros.getLibros(); i++) {
+                int autor = aleatorio.nextInt(autores);
+                lote.sentencia.setLong(1, primerId + i);
+                lote.sentencia.setString(2, titulo(aleatorio));
+                lote.sentencia.setString(3, NOMBRES[autor % NOMBRES.length] + " " +
+                                            APELLIDOS[(autor / NOMBRES.length) % APELLIDOS.length] + " " + (autor + 1));
+                lote.sentencia.setString(4, String.format("978%010d", i));
+                lote.sentencia.setLong(5, primeraCategoria + aleatorio.nextInt(parametros.getCategorias()));
+                lote.agregar();
+            }
+        }
+    }
+
+    private void insertarSocios(Connection conexion, SplittableRandom aleatorio, long primerId) throws SQLException {
+        try (Lote lote = new Lote(conexion, "socio",
+                "INSERT INTO socio (id_socio, nombre, nro_socio, dni) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < parametros.getSocios(); i++) {
+                lote.sentencia.setLong(1, primerId + i);
+                lote.sentencia.setString(2, NOMBRES[aleatorio.nextInt(NOMBRES.length)] + " " +
+                                            APELLIDOS[aleatorio.nextInt(APELLIDOS.length)]);
+                lote.sentencia.setInt(3, 100_000 + i);
+                lote.sentencia.setString(4, String.valueOf(20_000_000 + i));
+                lote.agregar();
+            }
+        }
+    }
+
+    /**
+     * Los préstamos se generan en orden cronológico. Los que empezaron en los últimos días del
+     * plazo pueden seguir activos y los de los últimos {@value #DIAS_CON_VENCIDOS} días pueden no
+     * haberse devuelto; un libro solo puede estar prestado una vez, así que si el elegido ya está
+     * afuera se prueba con otro y, si no, el préstamo queda devuelto.
+     */
+    private void insertarPrestamosYMultas(Connection conexion, SplittableRandom aleatorio, LocalDate hoy,
+                                          long primerLibro, long primerSocio, long primerPrestamo,
+                                          long primeraMulta, Resultado resultado) throws SQLException {
+        DistribucionZipf popularidadLibros = new DistribucionZipf(parametros.getLibros(), parametros.getSesgoLibros(), aleatorio.split());
+        DistribucionZipf actividadSocios = new DistribucionZipf(parametros.getSocios(), parametros.getSesgoSocios(), aleatorio.split());
+        BitSet librosPrestados = new BitSet(parametros.getLibros());
+        BigDecimal[] saldoPorSocio = new BigDecimal[parametros.getSocios()];
+        int[] multasPendientesPorSocio = new int[parametros.getSocios()];
+        Prestamo prestamo = new Prestamo();
+        long multas = 0;
+
+        try (Lote prestamos = new Lote(conexion, "prestamo",
+                "INSERT INTO prestamo (id_prestamo, fecha_inicio, fecha_fin_prevista, fecha_devolucion_real, estado, " +
+                "id_libro, id_socio, estado_devolucion, tiene_danio) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Lote lotesMultas = new Lote(conexion, "multa",
+                "INSERT INTO multa (id_multa, monto, motivo, id_prestamo, pagada, id_socio) VALUES (?, ?, ?, ?, ?, ?)",
+                prestamos)) {
+
+            long total = parametros.getPrestamos();
+            int dias = parametros.getDiasHistoria();
+            for (long i = 0; i < total; i++) {
+                LocalDate fechaInicio = hoy.minusDays(dias - (i * dias / total));
+                LocalDate fechaFinPrevista = fechaInicio.plusDays(DIAS_PRESTAMO);
+                long diasDesdeInicio = hoy.toEpochDay() - fechaInicio.toEpochDay();
+                int libro = popularidadLibros.siguiente();
+                int socio = actividadSocios.siguiente();
+
+                boolean sinDevolver = diasDesdeInicio <= DIAS_PRESTAMO
+                        ? aleatorio.nextDouble() < parametros.getTasaActivos()
+                        : diasDesdeInicio <= DIAS_CON_VENCIDOS && aleatorio.nextDouble() < parametros.getTasaVencidos();
+                if (sinDevolver) {
+                    for (int intento = 0; librosPrestados.get(libro) && intento < INTENTOS_LIBRO_LIBRE; intento++) {
+                        libro = popularidadLibros.siguiente();
+                    }
+                    sinDevolver = !librosPrestados.get(libro);
+                }
+
+                String estado;
+                LocalDate fechaDevolucion = null;
+                EstadoDevolucion estadoDevolucion = null;
+                if (sinDevolver) {
+                    librosPrestados.set(libro);
+                    estado = diasDesdeInicio > DIAS_PRESTAMO ? "VENCIDO" : "ACTIVO";
+                    resultado.prestamosSinDevolver++;
+                } else {
+                    estado = "FINALIZADO";
+                    fechaDevolucion = aleatorio.nextDouble() < parametros.getTasaRetraso()
+                            ? fechaFinPrevista.plusDays(1 + diasDeRetraso(aleatorio))
+                            : fechaInicio.plusDays(1 + aleatorio.nextInt(DIAS_PRESTAMO));
+                    if (fechaDevolucion.isAfter(hoy)) {
+                        fechaDevolucion = hoy;
+                    }
+                    if (aleatorio.nextDouble() < parametros.getTasaDanio()) {
+                        estadoDevolucion = DANIOS[aleatorio.nextInt(DANIOS.length)];
+                    }
+                }
+
+                long idPrestamo = primerPrestamo + i;
+                prestamos.sentencia.setLong(1, idPrestamo);
+                prestamos.sentencia.setObject(2, fechaInicio);
+                prestamos.sentencia.setObject(3, fechaFinPrevista);
+                prestamos.sentencia.setObject(4, fechaDevolucion);
+                prestamos.sentencia.setString(5, estado);
+                prestamos.sentencia.setLong(6, primerLibro + libro);
+                prestamos.sentencia.setLong(7, primerSocio + socio);
+                prestamos.sentencia.setString(8, estadoDevolucion != null ? estadoDevolucion.name() : null);
+                prestamos.sentencia.setObject(9, estadoDevolucion != null ? Boolean.TRUE : null);
+                prestamos.agregar();
+
+                if (fechaDevolucion == null) {
+                    continue;
+                }
+                prestamo.setFechaInicio(fechaInicio);
+                prestamo.setFechaDevolucionReal(fechaDevolucion);
+                prestamo.setEstadoDevolucion(estadoDevolucion);
+                int diasRetraso = Math.max(0, (int) (fechaDevolucion.toEpochDay() - fechaFinPrevista.toEpochDay()));
+                MultaStrategy estrategia = estrategiaAplicable(prestamo, diasRetraso);
+                if (estrategia == null) {
+                    continue;
+                }
+
+                BigDecimal monto = estrategia.calcularMonto(prestamo, diasRetraso);
+                boolean pagada = aleatorio.nextDouble() < parametros.getTasaMultasPagadas();
+                lotesMultas.sentencia.setLong(1, primeraMulta + multas++);
+                lotesMultas.sentencia.setBigDecimal(2, monto);
+                lotesMultas.sentencia.setString(3, estrategia.obtenerMotivo(diasRetraso));
+                lotesMultas.sentencia.setLong(4, idPrestamo);
+                lotesMultas.sentencia.setBoolean(5, pagada);
+                lotesMultas.sentencia.setLong(6, primerSocio + socio);
+                lotesMultas.agregar();
+                if (!pagada) {
+                    saldoPorSocio[socio] = saldoPorSocio[socio] == null ? monto : saldoPorSocio[socio].add(monto);
+                    multasPendientesPorSocio[socio]++;
+                }
+            }
+        }
+        resultado.multas = multas;
+
+        try (Statement sentencia = conexion.createStatement()) {
+            sentencia.executeUpdate("UPDATE libro SET estado = 'PRESTADO' WHERE id_libro IN " +
+                                    "(SELECT id_libro FROM prestamo WHERE estado IN ('ACTIVO', 'VENCIDO'))");
+        }
+        try (Lote lote = new Lote(conexion, "saldo_multa_socio",
+                "INSERT INTO saldo_multa_socio (id_socio, saldo_pendiente, multas_pendientes) VALUES (?, ?, ?)")) {
+            for (int socio = 0; socio < saldoPorSocio.length; socio++) {
+                if (saldoPorSocio[socio] != null) {
+                    lote.sentencia.setLong(1, primerSocio + socio);
+                    lote.sentencia.setBigDecimal(2, saldoPorSocio[socio]);
+                    lote.sentencia.setInt(3, multasPendientesPorSocio[socio]);
+                    lote.agregar();
+                }
+            }
+        }
+    }
+
+    private MultaStrategy estrategiaAplicable(Prestamo prestamo, int diasRetraso) {
+        for (MultaStrategy estrategia : estrategiasMulta) {
+            if (estrategia.aplica(prestamo, diasRetraso)) {
+                return estrategia;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Días de retraso con distribución geométrica: la mayoría devuelve a los pocos días y unos
+     * pocos semanas después.
+     */
+    private int diasDeRetraso(SplittableRandom aleatorio) {
+        double media = parametros.getMediaDiasRetraso();
+        return (int) Math.min(365, Math.floor(Math.log(1 - aleatorio.nextDouble()) / Math.log(1 - 1 / media)));
+    }
+
+    private static String titulo(SplittableRandom aleatorio) {
+        int palabras = 2 + aleatorio.nextInt(4);
+        StringBuilder titulo = new StringBuilder();
+        for (int i = 0; i < palabras; i++) {
+            String palabra = PALABRAS_TITULO[aleatorio.nextInt(PALABRAS_TITULO.length)];
+            if (i == 0) {
+                titulo.append(Character.toUpperCase(palabra.charAt(0))).append(palabra, 1, palabra.length());
+            } else {
+                titulo.append(i == palabras - 1 && palabras > 2 ? " y " : " de ").append(palabra);
+            }
+        }
+        return titulo.toString();
+    }
+
+    private static long reservarIds(Connection conexion, String secuencia) throws SQLException {
+        try (Statement sentencia = conexion.createStatement();
+             ResultSet valor = sentencia.executeQuery("SELECT nextval('" + secuencia + "')")) {
+            valor.next();
+            return valor.getLong(1);
+        }
+    }
+
+    /**
+     * Las secuencias avanzan de a 50 y Hibernate usa cada valor como tope del bloque que asigna,
+     * así que el próximo valor tiene que dejar todo el bloque por encima del último id generado.
+     */
+    private static void ajustarSecuencia(Connection conexion, String secuencia, long siguienteId) throws SQLException {
+        try (Statement sentencia = conexion.createStatement()) {
+            sentencia.execute("ALTER SEQUENCE " + secuencia + " RESTART WITH " + (siguienteId + 50));
+        }
+    }
+
+    /**
+     * Inserción en lotes que confirma la transacción cada {@code tamanioLote} filas. Si depende
+     * de otro lote (las multas de los préstamos), lo envía antes para respetar las claves foráneas.
+     */
+    private final class Lote implements AutoCloseable {
+
+        private final Connection conexion;
+        private final String tabla;
+        private final PreparedStatement sentencia;
+        private final Lote anterior;
+        private final long inicio = System.currentTimeMillis();
+        private long filas;
+
+        private Lote(Connection conexion, String tabla, String sql) throws SQLException {
+            this(conexion, tabla, sql, null);
+        }
+
+        private Lote(Connection conexion, String tabla, String sql, Lote anterior) throws SQLException {
+            this.conexion = conexion;
+            this.tabla = tabla;
+            this.sentencia = conexion.prepareStatement(sql);
+            this.anterior = anterior;
+        }
+
+        private void agregar() throws SQLException {
+            sentencia.addBatch();
+            if (++filas % parametros.getTamanioLote() == 0) {
+                enviar();
+                conexion.commit();
+                if (filas % (parametros.getTamanioLote() * 100L) == 0) {
+                    logger.info("{}: {} filas insertadas", tabla, filas);
+                }
+            }
+        }
+
+        private void enviar() throws SQLException {
+            if (anterior != null) {
+                anterior.sentencia.executeBatch();
+            }
+            sentencia.executeBatch();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                enviar();
+                conexion.commit();
+            } finally {
+                sentencia.close();
+            }
+            long milisegundos = Math.max(1, System.currentTimeMillis() - inicio);
+            logger.info("{}: {} filas en {} ms ({} filas/s)", tabla, filas, milisegundos, filas * 1000 / milisegundos);
+        }
+    }
+
+    /**
+     * Muestreo de una distribución de Zipf sobre n elementos por búsqueda binaria en la función
+     * de distribución acumulada. El rango de popularidad se asigna a los ids con una permutación
+     * aleatoria para que los elementos más pedidos no sean siempre los primeros.
+     */
+    static final class DistribucionZipf {
+
+        private final double[] acumulada;
+        private final int[] elementoPorRango;
+        private final SplittableRandom aleatorio;
+
+        DistribucionZipf(int elementos, double exponente, SplittableRandom aleatorio) {
+            this.aleatorio = aleatorio;
+            this.acumulada = new double[elementos];
+            double suma = 0;
+            for (int rango = 0; rango < elementos; rango++) {
+                suma += 1 / Math.pow(rango + 1, exponente);
+                acumulada[rango] = suma;
+            }
+            for (int rango = 0; rango < elementos; rango++) {
+                acumulada[rango] /= suma;
+            }
+
+            this.elementoPorRango = new int[elementos];
+            for (int i = 0; i < elementos; i++) {
+                elementoPorRango[i] = i;
+            }
+            for (int i = elementos - 1; i > 0; i--) {
+                int j = aleatorio.nextInt(i + 1);
+                int temporal = elementoPorRango[i];
+                elementoPorRango[i] = elementoPorRango[j];
+                elementoPorRango[j] = temporal;
+            }
+        }
+
+        int siguiente() {
+            int rango = Arrays.binarySearch(acumulada, aleatorio.nextDouble());
+            if (rango < 0) {
+                rango = -rango - 1;
+            }
+            return elementoPorRango[Math.min(rango, elementoPorRango.length - 1)];
+        }
+    }
+
+    public static class Resultado {
+
+        private long categorias;
+        private long libros;
+        private long socios;
+        private long prestamos;
+        private long prestamosSinDevolver;
+        private long multas;
+
+        public long getCategorias() {
+            return categorias;
+        }
+
+        public long getLibros() {
+            return libros;
+        }
+
+        public long getSocios() {
+            return socios;
+        }
+
+        public long getPrestamos() {
+            return prestamos;
+        }
+
+        public long getPrestamosSinDevolver() {
+            return prestamosSinDevolver;
+        }
+
+        public long getMultas() {
+            return multas;
+        }
+    }
+
+    /**
+     * Cardinalidades y distribuciones del conjunto generado. Los valores por defecto reproducen
+     * el volumen de producción: 500k libros, 120k socios, 8M préstamos y alrededor de 1M multas.
+     */
+    public static class Parametros {
+
+        private long semilla = 42;
+        private LocalDate fechaReferencia;
+        private int categorias = 60;
+        private int libros = 500_000;
+        private int socios = 120_000;
+        private long prestamos = 8_000_000;
+        private int diasHistoria = 1095;
+        private double sesgoLibros = 0.8;
+        private double sesgoSocios = 0.5;
+        private double tasaActivos = 0.8;
+        private double tasaVencidos = 0.05;
+        private double tasaRetraso = 0.15;
+        private double mediaDiasRetraso = 7;
+        private double tasaDanio = 0.02;
+        private double tasaMultasPagadas = 0.85;
+        private int tamanioLote = 5000;
+
+        public long getSemilla() {
+            return semilla;
+        }
+
+        public void setSemilla(long semilla) {
+            this.semilla = semilla;
+        }
+
+        public LocalDate getFechaReferencia() {
+            return fechaReferencia;
+        }
+
+        public void setFechaReferencia(LocalDate fechaReferencia) {
+            this.fechaReferencia = fechaReferencia;
+        }
+
+        public int getCategorias() {
+            return categorias;
+        }
+
+        public void setCategorias(int categorias) {
+            this.categorias = categorias;
+        }
+
+        public int getLibros() {
+            return libros;
+        }
+
+        public void setLibros(int libros) {
+            this.libros = libros;
+        }
+
+        public int getSocios() {
+            return socios;
+        }
+
+        public void setSocios(int socios) {
+            this.socios = socios;
+        }
+
+        public long getPrestamos() {
+            return prestamos;
+        }
+
+        public void setPrestamos(long prestamos) {
+            this.prestamos = prestamos;
+        }
+
+        public int getDiasHistoria() {
+            return diasHistoria;
+        }
+
+        public void setDiasHistoria(int diasHistoria) {
+            this.diasHistoria = diasHistoria;
+        }
+
+        public double getSesgoLibros() {
+            return sesgoLibros;
+        }
+
+        public void setSesgoLibros(double sesgoLibros) {
+            this.sesgoLibros = sesgoLibros;
+        }
+
+        public double getSesgoSocios() {
+            return sesgoSocios;
+        }
+
+        public void setSesgoSocios(double sesgoSocios) {
+            this.sesgoSocios = sesgoSocios;
+        }
+
+        public double getTasaActivos() {
+            return tasaActivos;
+        }
+
+        public void setTasaActivos(double tasaActivos) {
+            this.tasaActivos = tasaActivos;
+        }
+
+        public double getTasaVencidos() {
+            return tasaVencidos;
+        }
+
+        public void setTasaVencidos(double tasaVencidos) {
+            this.tasaVencidos = tasaVencidos;
+        }
+
+        public double getTasaRetraso() {
+            return tasaRetraso;
+        }
+
+        public void setTasaRetraso(double tasaRetraso) {
+            this.tasaRetraso = tasaRetraso;
+        }
+
+        public double getMediaDiasRetraso() {
+            return mediaDiasRetraso;
+        }
+
+        public void setMediaDiasRetraso(double mediaDiasRetraso) {
+            this.mediaDiasRetraso = mediaDiasRetraso;
+        }
+
+        public double getTasaDanio() {
+            return tasaDanio;
+        }
+
+        public void setTasaDanio(double tasaDanio) {
+            this.tasaDanio = tasaDanio;
+        }
+
+        public double getTasaMultasPagadas() {
+            return tasaMultasPagadas;
+        }
+
+        public void setTasaMultasPagadas(double tasaMultasPagadas) {
+            this.tasaMultasPagadas = tasaMultasPagadas;
+        }
+
+        public int getTamanioLote() {
+            return tamanioLote;
+        }
+
+        public void setTamanioLote(int tamanioLote) {
+            this.tamanioLote = tamanioLote;
+        }
+    }
+}
\ No newline at end of file
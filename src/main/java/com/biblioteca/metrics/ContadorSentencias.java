@@ -0,0 +1,34 @@
+package com.biblioteca.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta las sentencias SQL que Hibernate prepara en el hilo actual mientras hay una medición
+ * abierta. Fuera de una petición HTTP no cuenta nada.
+ */
+public class ContadorSentencias implements StatementInspector {
+
+    private static final ThreadLocal<long[]> SENTENCIAS = new ThreadLocal<>();
+
+    public static void iniciar() {
+        SENTENCIAS.set(new long[1]);
+    }
+
+    /**
+     * Termina la medición del hilo actual y devuelve la cantidad de sentencias preparadas.
+     */
+    public static long finalizar() {
+        long[] contador = SENTENCIAS.get();
+        SENTENCIAS.remove();
+        return contador != null ? contador[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] contador = SENTENCIAS.get();
+        if (contador != null) {
+            contador[0]++;
+        }
+        return sql;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.biblioteca.metrics;
+
+import com.biblioteca.service.MultaService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publica cuántas evaluaciones de multa agotaron sus reintentos y esperan ser reencoladas. Se consulta
+ * en cada lectura de la métrica, así que refleja lo que ven todas las instancias.
+ */
+@Component
+public class MetricasEvaluacionesMulta {
+
+    public MetricasEvaluacionesMulta(MeterRegistry meterRegistry, MultaService multaService) {
+        Gauge.builder("biblioteca.multas.evaluaciones.agotadas", multaService, MultaService::contarEvaluacionesAgotadas)
+            .description("Evaluaciones de multa que agotaron sus reintentos")
+            .register(meterRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.biblioteca.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mide la duración de cada método público de las implementaciones de servicios. Los endpoints
+ * y los repositorios ya los mide Spring Boot (http.server.requests y
+ * spring.data.repository.invocations).
+ */
+@Aspect
+@Component
+public class MetricasServiciosAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricasServiciosAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.biblioteca.service.impl..*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample muestra = Timer.start(meterRegistry);
+        String excepcion = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            excepcion = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            muestra.stop(Timer.builder("biblioteca.servicio")
+                .description("Duración de los métodos de servicio")
+                .tag("clase", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("metodo", joinPoint.getSignature().getName())
+                .tag("excepcion", excepcion)
+                .register(meterRegistry));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.biblioteca.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Registra cuántas sentencias SQL ejecutó cada petición, etiquetadas con el patrón del endpoint
+ * para que un N+1 se vea en el endpoint que lo provoca.
+ */
+@Component
+public class SentenciasPorPeticionFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public SentenciasPorPeticionFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContadorSentencias.iniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long sentencias = ContadorSentencias.finalizar();
+            Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("biblioteca.sql.sentencias.por.peticion")
+                .description("Sentencias SQL preparadas por Hibernate en cada petición HTTP")
+                .tag("method", request.getMethod())
+                .tag("uri", patron != null ? patron.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(sentencias);
+        }
+    }
+}
\ No newline at end of file
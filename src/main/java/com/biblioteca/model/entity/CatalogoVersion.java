@@ -0,0 +1,31 @@
+package com.biblioteca.model.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Versión compartida del catálogo de libros y categorías: una única fila que avanza con cada cambio
+ * confirmado, la misma para todas las instancias.
+ */
+@Entity
+@Table(name = "catalogo_version")
+public class CatalogoVersion {
+
+    public static final int ID_UNICO = 1;
+
+    @Id
+    @Column(name = "id_catalogo_version")
+    private Integer idCatalogoVersion;
+
+    @Column(name = "valor", nullable = false)
+    private Long valor;
+
+    public CatalogoVersion() {}
+
+    public Integer getIdCatalogoVersion() {
+        return idCatalogoVersion;
+    }
+
+    public Long getValor() {
+        return valor;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.biblioteca.model.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Fila de outbox: un préstamo devuelto cuya multa automática todavía no se evaluó.
+ */
+@Entity
+@Table(name = "evaluacion_multa_pendiente")
+public class EvaluacionMultaPendiente {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evaluacion_multa_pendiente_seq")
+    @SequenceGenerator(name = "evaluacion_multa_pendiente_seq", sequenceName = "evaluacion_multa_pendiente_seq", allocationSize = 50)
+    @Column(name = "id_evaluacion")
+    private Long idEvaluacion;
+
+    @Column(name = "id_prestamo", nullable = false, unique = true)
+    private Long idPrestamo;
+
+    @Column(name = "fecha_creacion", nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(name = "intentos", nullable = false)
+    private Integer intentos = 0;
+
+    @Column(name = "ultimo_error", length = 500)
+    private String ultimoError;
+
+    public EvaluacionMultaPendiente() {}
+
+    public EvaluacionMultaPendiente(Long idPrestamo) {
+        this.idPrestamo = idPrestamo;
+        this.fechaCreacion = LocalDateTime.now();
+    }
+
+    public Long getIdEvaluacion() {
+        return idEvaluacion;
+    }
+
+    public void setIdEvaluacion(Long idEvaluacion) {
+        this.idEvaluacion = idEvaluacion;
+    }
+
+    public Long getIdPrestamo() {
+        return idPrestamo;
+    }
+
+    public void setIdPrestamo(Long idPrestamo) {
+        this.idPrestamo = idPrestamo;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public Integer getIntentos() {
+        return intentos;
+    }
+
+    public void setIntentos(Integer intentos) {
+        this.intentos = intentos;
+    }
+
+    public String getUltimoError() {
+        return ultimoError;
+    }
+
+    public void setUltimoError(String ultimoError) {
+        this.ultimoError = ultimoError;
+    }
+
+    public void registrarFallo(String error) {
+        this.intentos++;
+        this.ultimoError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
\ No newline at end of file
@@ -4,13 +4,20 @@ import com.biblioteca.model.enums.EstadoLibro;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.DynamicUpdate;
 
+/**
+ * El estado solo lo cambian UPDATE condicionales (préstamo, devolución), por eso la columna no se escribe
+ * al guardar la entidad; con {@link DynamicUpdate} una edición solo escribe las columnas que modificó.
+ */
 @Entity
+@DynamicUpdate
 @Table(name = "libro")
 public class Libro {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "libro_seq")
+    @SequenceGenerator(name = "libro_seq", sequenceName = "libro_seq", allocationSize = 50)
     @Column(name = "id_libro")
     private Long idLibro;
 
@@ -28,7 +35,7 @@ public class Libro {
 
     @NotNull(message = "El estado es obligatorio")
     @Enumerated(EnumType.STRING)
-    @Column(name = "estado", nullable = false, length = 20)
+    @Column(name = "estado", nullable = false, length = 20, updatable = false)
     private EstadoLibro estado;
 
     @NotNull(message = "La categoría es obligatoria")
@@ -11,7 +11,8 @@ import java.math.BigDecimal;
 public class Multa {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "multa_seq")
+    @SequenceGenerator(name = "multa_seq", sequenceName = "multa_seq", allocationSize = 50)
     @Column(name = "id_multa")
     private Long idMulta;
 
@@ -32,6 +33,9 @@ public class Multa {
     @Column(name = "pagada", nullable = false)
     private Boolean pagada = false;
 
+    @Column(name = "id_socio")
+    private Long idSocio;
+
     public Multa() {}
 
     public Multa(BigDecimal monto, String motivo, Prestamo prestamo) {
@@ -70,6 +74,17 @@ public class Multa {
 
     public void setPrestamo(Prestamo prestamo) {
         this.prestamo = prestamo;
+        if (prestamo != null && prestamo.getSocio() != null) {
+            this.idSocio = prestamo.getSocio().getIdSocio();
+        }
+    }
+
+    public Long getIdSocio() {
+        return idSocio;
+    }
+
+    public void setIdSocio(Long idSocio) {
+        this.idSocio = idSocio;
     }
 
     public Boolean getPagada() {
@@ -11,7 +11,8 @@ import java.time.LocalDate;
 public class Prestamo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "prestamo_seq")
+    @SequenceGenerator(name = "prestamo_seq", sequenceName = "prestamo_seq", allocationSize = 50)
     @Column(name = "id_prestamo")
     private Long idPrestamo;
 
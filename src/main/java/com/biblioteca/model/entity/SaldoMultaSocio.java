@@ -0,0 +1,48 @@
+package com.biblioteca.model.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+
+/**
+ * Saldo de multas impagas por socio, mantenido junto con cada alta y pago de multa.
+ */
+@Entity
+@Table(name = "saldo_multa_socio")
+public class SaldoMultaSocio {
+
+    @Id
+    @Column(name = "id_socio")
+    private Long idSocio;
+
+    @Column(name = "saldo_pendiente", nullable = false, precision = 12, scale = 2)
+    private BigDecimal saldoPendiente = BigDecimal.ZERO;
+
+    @Column(name = "multas_pendientes", nullable = false)
+    private Integer multasPendientes = 0;
+
+    public SaldoMultaSocio() {}
+
+    public Long getIdSocio() {
+        return idSocio;
+    }
+
+    public void setIdSocio(Long idSocio) {
+        this.idSocio = idSocio;
+    }
+
+    public BigDecimal getSaldoPendiente() {
+        return saldoPendiente;
+    }
+
+    public void setSaldoPendiente(BigDecimal saldoPendiente) {
+        this.saldoPendiente = saldoPendiente;
+    }
+
+    public Integer getMultasPendientes() {
+        return multasPendientes;
+    }
+
+    public void setMultasPendientes(Integer multasPendientes) {
+        this.multasPendientes = multasPendientes;
+    }
+}
\ No newline at end of file
@@ -11,7 +11,8 @@ import java.util.List;
 public class Socio {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "socio_seq")
+    @SequenceGenerator(name = "socio_seq", sequenceName = "socio_seq", allocationSize = 50)
     @Column(name = "id_socio")
     private Long idSocio;
 
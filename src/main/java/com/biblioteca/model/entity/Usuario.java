@@ -14,7 +14,8 @@ import jakarta.validation.constraints.Size;
 public class Usuario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuario_seq")
+    @SequenceGenerator(name = "usuario_seq", sequenceName = "usuario_seq", allocationSize = 50)
     @Column(name = "id_usuario")
     private Integer id;
 
@@ -48,6 +49,13 @@ public class Usuario {
     @Column(name = "activo", nullable = false)
     private Boolean activo = true;
 
+    /**
+     * Instante (epoch en milisegundos) de la última revocación: los tokens emitidos hasta ese
+     * momento ya no son válidos. Se persiste para que todas las instancias lo conozcan.
+     */
+    @Column(name = "tokens_validos_desde")
+    private Long tokensValidosDesde;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_socio")
     private Socio socio;
@@ -128,6 +136,14 @@ public class Usuario {
         this.activo = activo;
     }
 
+    public Long getTokensValidosDesde() {
+        return tokensValidosDesde;
+    }
+
+    public void setTokensValidosDesde(Long tokensValidosDesde) {
+        this.tokensValidosDesde = tokensValidosDesde;
+    }
+
     public Socio getSocio() {
         return socio;
     }
@@ -0,0 +1,20 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.CatalogoVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface CatalogoVersionRepository extends JpaRepository<CatalogoVersion, Integer> {
+
+    @Query("SELECT c.valor FROM CatalogoVersion c WHERE c.idCatalogoVersion = " + CatalogoVersion.ID_UNICO)
+    long obtenerValor();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE CatalogoVersion c SET c.valor = c.valor + 1 WHERE c.idCatalogoVersion = " + CatalogoVersion.ID_UNICO)
+    int incrementar();
+}
\ No newline at end of file
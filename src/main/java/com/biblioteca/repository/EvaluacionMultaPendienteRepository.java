@@ -0,0 +1,38 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.EvaluacionMultaPendiente;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EvaluacionMultaPendienteRepository extends JpaRepository<EvaluacionMultaPendiente, Long> {
+
+    @Query("SELECT e.idEvaluacion FROM EvaluacionMultaPendiente e WHERE e.intentos < :maximoIntentos ORDER BY e.idEvaluacion")
+    List<Long> findIdsParaProcesar(@Param("maximoIntentos") int maximoIntentos, Limit limite);
+
+    /**
+     * Bloquea una evaluación salvo que ya la haya tomado otra instancia (SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM EvaluacionMultaPendiente e WHERE e.idEvaluacion = :idEvaluacion AND e.intentos < :maximoIntentos")
+    Optional<EvaluacionMultaPendiente> findParaProcesar(@Param("idEvaluacion") Long idEvaluacion,
+                                                        @Param("maximoIntentos") int maximoIntentos);
+
+    long countByIntentosGreaterThanEqual(int maximoIntentos);
+
+    @Modifying
+    @Query("UPDATE EvaluacionMultaPendiente e SET e.intentos = 0 WHERE e.intentos >= :maximoIntentos")
+    int reencolarAgotadas(@Param("maximoIntentos") int maximoIntentos);
+}
\ No newline at end of file
@@ -2,12 +2,20 @@ package com.biblioteca.repository;
 
 import com.biblioteca.model.entity.Libro;
 import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.search.LibroIndexado;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface LibroRepository extends JpaRepository<Libro, Long> {
@@ -26,9 +34,72 @@ public interface LibroRepository extends JpaRepository<Libro, Long> {
     @Query("SELECT l FROM Libro l WHERE l.estado = 'PRESTADO'")
     List<Libro> findLibrosPrestados();
 
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT l.idLibro FROM Libro l WHERE l.estado = com.biblioteca.model.enums.EstadoLibro.DISPONIBLE")
+    List<Long> findIdsDisponibles();
+
     boolean existsByIsbn(String isbn);
 
+    /**
+     * Recorre todos los ISBN del catálogo sin materializarlos en una lista. Requiere una transacción abierta.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT l.isbn FROM Libro l")
+    Stream<String> streamAllIsbn();
+
+    @Query("SELECT l.isbn FROM Libro l WHERE l.isbn IN :isbns")
+    List<String> findIsbnExistentes(@Param("isbns") Collection<String> isbns);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Libro l SET l.estado = com.biblioteca.model.enums.EstadoLibro.PRESTADO " +
+           "WHERE l.idLibro = :idLibro AND l.estado = com.biblioteca.model.enums.EstadoLibro.DISPONIBLE")
+    int marcarComoPrestadoSiDisponible(@Param("idLibro") Long idLibro);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Libro l SET l.estado = com.biblioteca.model.enums.EstadoLibro.PRESTADO " +
+           "WHERE l.idLibro IN :idsLibros AND l.estado = com.biblioteca.model.enums.EstadoLibro.DISPONIBLE")
+    int marcarComoPrestadosSiDisponibles(@Param("idsLibros") Collection<Long> idsLibros);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Libro l SET l.estado = com.biblioteca.model.enums.EstadoLibro.DISPONIBLE " +
+           "WHERE l.idLibro IN :idsLibros AND l.estado = com.biblioteca.model.enums.EstadoLibro.PRESTADO")
+    int marcarComoDisponibles(@Param("idsLibros") Collection<Long> idsLibros);
+
     List<Libro> findByTituloContainingIgnoreCaseAndAutorContainingIgnoreCase(String titulo, String autor);
 
     Long countByCategoriaIdCategoria(Long idCategoria);
+
+    @Query("SELECT l.categoria.idCategoria AS idCategoria, COUNT(l) AS cantidad FROM Libro l GROUP BY l.categoria.idCategoria")
+    List<CantidadPorCategoria> contarLibrosPorCategoria();
+
+    @Query("SELECT l FROM Libro l JOIN FETCH l.categoria WHERE l.idLibro > :despuesDe ORDER BY l.idLibro")
+    List<Libro> findPaginaDespuesDe(@Param("despuesDe") Long despuesDe, Limit limite);
+
+    @Query("SELECT l FROM Libro l JOIN FETCH l.categoria WHERE l.estado = :estado AND l.idLibro > :despuesDe " +
+           "ORDER BY l.idLibro")
+    List<Libro> findPaginaPorEstadoDespuesDe(@Param("estado") EstadoLibro estado,
+                                             @Param("despuesDe") Long despuesDe,
+                                             Limit limite);
+
+    @Query("SELECT l FROM Libro l JOIN FETCH l.categoria c WHERE c.idCategoria = :idCategoria " +
+           "AND l.idLibro > :despuesDe ORDER BY l.idLibro")
+    List<Libro> findPaginaPorCategoriaDespuesDe(@Param("idCategoria") Long idCategoria,
+                                                @Param("despuesDe") Long despuesDe,
+                                                Limit limite);
+
+    @Query("SELECT l FROM Libro l JOIN FETCH l.categoria c WHERE c.idCategoria = :idCategoria " +
+           "AND l.estado = :estado AND l.idLibro > :despuesDe ORDER BY l.idLibro")
+    List<Libro> findPaginaPorCategoriaYEstadoDespuesDe(@Param("idCategoria") Long idCategoria,
+                                                       @Param("estado") EstadoLibro estado,
+                                                       @Param("despuesDe") Long despuesDe,
+                                                       Limit limite);
+
+    @Query("SELECT new com.biblioteca.search.LibroIndexado(l.idLibro, l.titulo, l.autor, l.isbn, l.estado, " +
+           "c.idCategoria, c.nombre, c.descripcion) FROM Libro l JOIN l.categoria c")
+    List<LibroIndexado> findAllParaIndice();
+
+    interface CantidadPorCategoria {
+        Long getIdCategoria();
+        Long getCantidad();
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.biblioteca.repository;
 
 import com.biblioteca.model.entity.Multa;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,9 +23,14 @@ public interface MultaRepository extends JpaRepository<Multa, Long> {
     @Query("SELECT m FROM Multa m WHERE m.prestamo.socio.idSocio = :idSocio")
     List<Multa> findBySocioId(@Param("idSocio") Long idSocio);
 
-    @Query("SELECT m FROM Multa m WHERE m.prestamo.socio.idSocio = :idSocio AND m.pagada = false")
+    @Query("SELECT m FROM Multa m WHERE m.idSocio = :idSocio AND m.pagada = false")
     List<Multa> findMultasActivasBySocioId(@Param("idSocio") Long idSocio);
 
-    @Query("SELECT COALESCE(SUM(m.monto), 0) FROM Multa m WHERE m.prestamo.socio.idSocio = :idSocio AND m.pagada = false")
+    @Query("SELECT COALESCE(SUM(m.monto), 0) FROM Multa m WHERE m.idSocio = :idSocio AND m.pagada = false")
     BigDecimal sumMultasActivasBySocioId(@Param("idSocio") Long idSocio);
+
+    @Modifying
+    @Query("UPDATE Multa m SET m.idSocio = (SELECT p.socio.idSocio FROM Prestamo p WHERE p = m.prestamo) " +
+           "WHERE m.idSocio IS NULL")
+    int completarIdSocio();
 }
\ No newline at end of file
@@ -3,12 +3,15 @@ package com.biblioteca.repository;
 import com.biblioteca.model.entity.Prestamo;
 import com.biblioteca.model.enums.EstadoPrestamo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PrestamoRepository extends JpaRepository<Prestamo, Long> {
@@ -19,19 +22,77 @@ public interface PrestamoRepository extends JpaRepository<Prestamo, Long> {
 
     List<Prestamo> findByEstado(EstadoPrestamo estado);
 
-    @Query("SELECT p FROM Prestamo p WHERE p.socio.idSocio = :idSocio AND p.estado = 'ACTIVO'")
+    @Query("SELECT p FROM Prestamo p WHERE p.socio.idSocio = :idSocio AND p.estado IN ('ACTIVO', 'VENCIDO')")
     List<Prestamo> findPrestamosActivosBySocioId(@Param("idSocio") Long idSocio);
 
     @Query("SELECT p FROM Prestamo p WHERE p.estado IN ('ACTIVO', 'VENCIDO') AND p.fechaInicio < :fechaLimite")
     List<Prestamo> findPrestamosConRetraso(@Param("fechaLimite") LocalDate fechaLimite);
 
-    @Query("SELECT COUNT(p) > 0 FROM Prestamo p WHERE p.libro.idLibro = :idLibro AND p.estado = 'ACTIVO'")
+    @Query("SELECT COUNT(p) > 0 FROM Prestamo p WHERE p.libro.idLibro = :idLibro AND p.estado IN ('ACTIVO', 'VENCIDO')")
     boolean isLibroPrestado(@Param("idLibro") Long idLibro);
 
     List<Prestamo> findByFechaInicioBetween(LocalDate fechaInicio, LocalDate fechaFin);
 
     List<Prestamo> findBySocioIdSocioAndEstado(Long idSocio, EstadoPrestamo estado);
 
-    @Query("SELECT COUNT(p) FROM Prestamo p WHERE p.socio.idSocio = :idSocio AND p.estado = 'ACTIVO'")
+    @Query("SELECT COUNT(p) FROM Prestamo p WHERE p.socio.idSocio = :idSocio AND p.estado IN ('ACTIVO', 'VENCIDO')")
     Long countPrestamosActivosBySocioId(@Param("idSocio") Long idSocio);
+
+    @Query("SELECT p FROM Prestamo p JOIN FETCH p.libro JOIN FETCH p.socio LEFT JOIN FETCH p.multa")
+    List<Prestamo> findAllConDetalle();
+
+    @Query("SELECT p FROM Prestamo p JOIN FETCH p.libro JOIN FETCH p.socio LEFT JOIN FETCH p.multa WHERE p.idPrestamo = :idPrestamo")
+    Optional<Prestamo> findByIdConDetalle(@Param("idPrestamo") Long idPrestamo);
+
+    @Query("SELECT p FROM Prestamo p JOIN FETCH p.libro JOIN FETCH p.socio LEFT JOIN FETCH p.multa WHERE p.estado = :estado")
+    List<Prestamo> findByEstadoConDetalle(@Param("estado") EstadoPrestamo estado);
+
+    @Query("SELECT p FROM Prestamo p JOIN FETCH p.libro JOIN FETCH p.socio LEFT JOIN FETCH p.multa " +
+           "WHERE p.estado IN ('ACTIVO', 'VENCIDO')")
+    List<Prestamo> findEnCursoConDetalle();
+
+    @Query("SELECT p FROM Prestamo p JOIN FETCH p.libro JOIN FETCH p.socio s LEFT JOIN FETCH p.multa WHERE s.idSocio = :idSocio")
+    List<Prestamo> findBySocioIdConDetalle(@Param("idSocio") Long idSocio);
+
+    @Query("SELECT p FROM Prestamo p JOIN FETCH p.libro JOIN FETCH p.socio s LEFT JOIN FETCH p.multa " +
+           "WHERE s.idSocio = :idSocio AND p.estado IN ('ACTIVO', 'VENCIDO')")
+    List<Prestamo> findPrestamosActivosBySocioIdConDetalle(@Param("idSocio") Long idSocio);
+
+    @Query("SELECT p FROM Prestamo p JOIN FETCH p.libro JOIN FETCH p.socio LEFT JOIN FETCH p.multa " +
+           "WHERE p.estado IN ('ACTIVO', 'VENCIDO') AND p.fechaInicio < :fechaLimite")
+    List<Prestamo> findPrestamosConRetrasoConDetalle(@Param("fechaLimite") LocalDate fechaLimite);
+
+    @Query("SELECT p FROM Prestamo p JOIN FETCH p.libro JOIN FETCH p.socio LEFT JOIN FETCH p.multa " +
+           "WHERE p.idPrestamo IN :ids")
+    List<Prestamo> findByIdInConDetalle(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM Prestamo p JOIN FETCH p.libro l JOIN FETCH p.socio LEFT JOIN FETCH p.multa " +
+           "WHERE p.idPrestamo IN :ids OR (l.isbn IN :isbns AND p.estado IN ('ACTIVO', 'VENCIDO'))")
+    List<Prestamo> findParaDevolucionConDetalle(@Param("ids") Collection<Long> ids,
+                                                @Param("isbns") Collection<String> isbns);
+
+    @Query("SELECT p.socio.idSocio AS idSocio, COUNT(p) AS cantidad FROM Prestamo p " +
+           "WHERE p.estado IN ('ACTIVO', 'VENCIDO') AND p.socio.idSocio IN :idsSocios GROUP BY p.socio.idSocio")
+    List<CantidadPorSocio> contarPrestamosActivosPorSocios(@Param("idsSocios") Collection<Long> idsSocios);
+
+    @Query("SELECT p.socio.idSocio AS idSocio, COUNT(p) AS cantidad FROM Prestamo p " +
+           "WHERE p.estado IN ('ACTIVO', 'VENCIDO') GROUP BY p.socio.idSocio")
+    List<CantidadPorSocio> contarPrestamosActivosPorSocio();
+
+    @Query("SELECT MIN(p.idPrestamo) FROM Prestamo p WHERE p.estado = 'ACTIVO' AND p.fechaFinPrevista < :hoy")
+    Long findMinIdPrestamoVencido(@Param("hoy") LocalDate hoy);
+
+    @Query("SELECT MAX(p.idPrestamo) FROM Prestamo p WHERE p.estado = 'ACTIVO' AND p.fechaFinPrevista < :hoy")
+    Long findMaxIdPrestamoVencido(@Param("hoy") LocalDate hoy);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Prestamo p SET p.estado = com.biblioteca.model.enums.EstadoPrestamo.VENCIDO " +
+           "WHERE p.estado = com.biblioteca.model.enums.EstadoPrestamo.ACTIVO AND p.fechaFinPrevista < :hoy " +
+           "AND p.idPrestamo BETWEEN :desde AND :hasta")
+    int marcarVencidosEnRango(@Param("hoy") LocalDate hoy, @Param("desde") Long desde, @Param("hasta") Long hasta);
+
+    interface CantidadPorSocio {
+        Long getIdSocio();
+        Long getCantidad();
+    }
 }
\ No newline at end of file
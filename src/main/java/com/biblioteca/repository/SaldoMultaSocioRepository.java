@@ -0,0 +1,30 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.SaldoMultaSocio;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface SaldoMultaSocioRepository extends JpaRepository<SaldoMultaSocio, Long> {
+
+    @Modifying
+    @Query("INSERT INTO SaldoMultaSocio (idSocio, saldoPendiente, multasPendientes) " +
+           "VALUES (:idSocio, 0, 0) ON CONFLICT DO NOTHING")
+    int crearSiNoExiste(@Param("idSocio") Long idSocio);
+
+    @Modifying
+    @Query("UPDATE SaldoMultaSocio s SET s.saldoPendiente = s.saldoPendiente + :monto, " +
+           "s.multasPendientes = s.multasPendientes + :cantidad WHERE s.idSocio = :idSocio")
+    int ajustar(@Param("idSocio") Long idSocio, @Param("monto") BigDecimal monto, @Param("cantidad") int cantidad);
+
+    @Modifying
+    @Query("INSERT INTO SaldoMultaSocio (idSocio, saldoPendiente, multasPendientes) " +
+           "SELECT m.idSocio, SUM(m.monto), COUNT(m) FROM Multa m " +
+           "WHERE m.pagada = false AND m.idSocio IS NOT NULL GROUP BY m.idSocio")
+    int reconstruirDesdeMultas();
+}
\ No newline at end of file
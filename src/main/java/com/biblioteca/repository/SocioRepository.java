@@ -1,6 +1,7 @@
 package com.biblioteca.repository;
 
 import com.biblioteca.model.entity.Socio;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,9 +23,34 @@ public interface SocioRepository extends JpaRepository<Socio, Long> {
 
     List<Socio> findByNombreContainingIgnoreCase(String nombre);
 
-    @Query("SELECT DISTINCT s FROM Socio s JOIN s.prestamos p WHERE p.estado = 'ACTIVO'")
+    @Query("SELECT DISTINCT s FROM Socio s JOIN s.prestamos p WHERE p.estado IN ('ACTIVO', 'VENCIDO')")
     List<Socio> findSociosConPrestamosActivos();
 
-    @Query("SELECT COUNT(p) FROM Prestamo p WHERE p.socio.idSocio = :idSocio AND p.estado = 'ACTIVO'")
+    @Query("SELECT COUNT(p) FROM Prestamo p WHERE p.socio.idSocio = :idSocio AND p.estado IN ('ACTIVO', 'VENCIDO')")
     Long countPrestamosActivosBySocioId(@Param("idSocio") Long idSocio);
+
+    @Query("SELECT s.idSocio AS idSocio, s.nombre AS nombre, s.nroSocio AS nroSocio, s.dni AS dni, " +
+           "COUNT(p) AS prestamosActivos FROM Socio s LEFT JOIN s.prestamos p ON p.estado IN ('ACTIVO', 'VENCIDO') " +
+           "GROUP BY s.idSocio, s.nombre, s.nroSocio, s.dni ORDER BY s.idSocio")
+    List<ResumenSocio> findAllResumen();
+
+    @Query("SELECT s.idSocio AS idSocio, s.nombre AS nombre, s.nroSocio AS nroSocio, s.dni AS dni, " +
+           "COUNT(p) AS prestamosActivos FROM Socio s LEFT JOIN s.prestamos p ON p.estado IN ('ACTIVO', 'VENCIDO') " +
+           "WHERE LOWER(s.nombre) LIKE LOWER(CONCAT('%', :nombre, '%')) " +
+           "GROUP BY s.idSocio, s.nombre, s.nroSocio, s.dni ORDER BY s.idSocio")
+    List<ResumenSocio> findResumenByNombre(@Param("nombre") String nombre);
+
+    @Query("SELECT s.idSocio AS idSocio, s.nombre AS nombre, s.nroSocio AS nroSocio, s.dni AS dni, " +
+           "COUNT(p) AS prestamosActivos FROM Socio s LEFT JOIN s.prestamos p ON p.estado IN ('ACTIVO', 'VENCIDO') " +
+           "WHERE s.idSocio > :despuesDe " +
+           "GROUP BY s.idSocio, s.nombre, s.nroSocio, s.dni ORDER BY s.idSocio")
+    List<ResumenSocio> findResumenDespuesDe(@Param("despuesDe") Long despuesDe, Limit limite);
+
+    interface ResumenSocio {
+        Long getIdSocio();
+        String getNombre();
+        Integer getNroSocio();
+        String getDni();
+        Long getPrestamosActivos();
+    }
 }
\ No newline at end of file
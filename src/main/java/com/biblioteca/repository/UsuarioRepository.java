@@ -3,6 +3,8 @@ package com.biblioteca.repository;
 import com.biblioteca.model.entity.Usuario;
 import com.biblioteca.model.enums.Rol;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +13,14 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     List<Usuario> findByRol(Rol rol);
     boolean existsByEmail(String email);
     boolean existsByDni(String dni);
+
+    @Query("SELECT u.id AS idUsuario, u.activo AS activo, u.tokensValidosDesde AS tokensValidosDesde " +
+           "FROM Usuario u WHERE u.activo = false OR u.tokensValidosDesde > :desde")
+    List<Revocacion> findRevocacionesDesde(@Param("desde") long desde);
+
+    interface Revocacion {
+        Integer getIdUsuario();
+        Boolean getActivo();
+        Long getTokensValidosDesde();
+    }
 }
\ No newline at end of file
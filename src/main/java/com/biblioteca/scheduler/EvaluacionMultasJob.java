@@ -0,0 +1,40 @@
+package com.biblioteca.scheduler;
+
+import com.biblioteca.service.MultaService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Vacía el outbox de evaluaciones de multa generado por las devoluciones, lote por lote.
+ */
+@Component
+public class EvaluacionMultasJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(EvaluacionMultasJob.class);
+    private static final int MAXIMO_LOTES_POR_EJECUCION = 50;
+
+    private final MultaService multaService;
+    private final int tamanioLote;
+
+    public EvaluacionMultasJob(MultaService multaService,
+                               @Value("${multas.evaluacion.tamanio-lote:100}") int tamanioLote) {
+        this.multaService = multaService;
+        this.tamanioLote = tamanioLote;
+    }
+
+    @Scheduled(fixedDelayString = "${multas.evaluacion.intervalo-ms:5000}")
+    public void ejecutar() {
+        try {
+            for (int lote = 0; lote < MAXIMO_LOTES_POR_EJECUCION; lote++) {
+                if (multaService.procesarEvaluacionesPendientes(tamanioLote) < tamanioLote) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Error al procesar evaluaciones de multa pendientes: {}", e.getMessage(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.biblioteca.scheduler;
+
+import com.biblioteca.service.PrestamoService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marca como vencidos los préstamos activos cuya fecha de fin prevista ya pasó.
+ */
+@Component
+public class PrestamosVencidosJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrestamosVencidosJob.class);
+
+    private final PrestamoService prestamoService;
+
+    public PrestamosVencidosJob(PrestamoService prestamoService) {
+        this.prestamoService = prestamoService;
+    }
+
+    @Scheduled(cron = "${prestamos.vencidos.cron:0 5 0 * * *}")
+    public void ejecutar() {
+        try {
+            prestamoService.actualizarEstadosPrestamosVencidos();
+        } catch (Exception e) {
+            logger.error("Error al actualizar préstamos vencidos: {}", e.getMessage(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.biblioteca.scheduler;
+
+import com.biblioteca.cache.CatalogoLibros;
+import com.biblioteca.cache.VersionCatalogo;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Relee periódicamente el catálogo en memoria. Los eventos solo llegan a la instancia que hizo
+ * el cambio, así que esto acota cuánto puede atrasarse una instancia respecto de las demás.
+ * Tras cada recarga avanza la versión compartida, para que revaliden los clientes que recibieron
+ * datos atrasados de esta instancia.
+ */
+@Component
+public class RecargaCatalogoJob {
+
+    private final CatalogoLibros catalogoLibros;
+    private final VersionCatalogo versionCatalogo;
+
+    public RecargaCatalogoJob(CatalogoLibros catalogoLibros, VersionCatalogo versionCatalogo) {
+        this.catalogoLibros = catalogoLibros;
+        this.versionCatalogo = versionCatalogo;
+    }
+
+    @Scheduled(fixedDelayString = "${biblioteca.catalogo.intervalo-recarga-ms:300000}",
+               initialDelayString = "${biblioteca.catalogo.intervalo-recarga-ms:300000}")
+    public void ejecutar() {
+        catalogoLibros.recargar();
+        versionCatalogo.incrementar();
+    }
+}
\ No newline at end of file
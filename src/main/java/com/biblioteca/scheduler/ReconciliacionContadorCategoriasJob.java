@@ -0,0 +1,31 @@
+package com.biblioteca.scheduler;
+
+import com.biblioteca.cache.ContadorLibrosPorCategoria;
+import com.biblioteca.cache.VersionCatalogo;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compara periódicamente la cantidad de libros por categoría en memoria con la base, para corregir
+ * cambios hechos por otra instancia o directamente en la base.
+ */
+@Component
+public class ReconciliacionContadorCategoriasJob {
+
+    private final ContadorLibrosPorCategoria contadorLibrosPorCategoria;
+    private final VersionCatalogo versionCatalogo;
+
+    public ReconciliacionContadorCategoriasJob(ContadorLibrosPorCategoria contadorLibrosPorCategoria,
+                                               VersionCatalogo versionCatalogo) {
+        this.contadorLibrosPorCategoria = contadorLibrosPorCategoria;
+        this.versionCatalogo = versionCatalogo;
+    }
+
+    @Scheduled(fixedDelayString = "${biblioteca.contador-categorias.intervalo-reconciliacion-ms:60000}",
+               initialDelayString = "${biblioteca.contador-categorias.intervalo-reconciliacion-ms:60000}")
+    public void ejecutar() {
+        if (contadorLibrosPorCategoria.reconciliar() > 0) {
+            versionCatalogo.incrementar();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.biblioteca.scheduler;
+
+import com.biblioteca.cache.DisponibilidadLibros;
+import com.biblioteca.cache.VersionCatalogo;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compara periódicamente el mapa de disponibilidad con la columna libro.estado, para corregir
+ * cambios hechos por otra instancia o directamente en la base.
+ */
+@Component
+public class ReconciliacionDisponibilidadJob {
+
+    private final DisponibilidadLibros disponibilidadLibros;
+    private final VersionCatalogo versionCatalogo;
+
+    public ReconciliacionDisponibilidadJob(DisponibilidadLibros disponibilidadLibros, VersionCatalogo versionCatalogo) {
+        this.disponibilidadLibros = disponibilidadLibros;
+        this.versionCatalogo = versionCatalogo;
+    }
+
+    @Scheduled(fixedDelayString = "${biblioteca.disponibilidad.intervalo-reconciliacion-ms:60000}",
+               initialDelayString = "${biblioteca.disponibilidad.intervalo-reconciliacion-ms:60000}")
+    public void ejecutar() {
+        if (disponibilidadLibros.reconciliar() > 0) {
+            versionCatalogo.incrementar();
+        }
+    }
+}
\ No newline at end of file
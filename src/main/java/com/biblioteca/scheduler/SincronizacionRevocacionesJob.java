@@ -0,0 +1,25 @@
+package com.biblioteca.scheduler;
+
+import com.biblioteca.security.RegistroRevocaciones;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Relee periódicamente las revocaciones de tokens de la base, para que una desactivación o un
+ * cambio de contraseña hecho en otra instancia también se aplique en esta.
+ */
+@Component
+public class SincronizacionRevocacionesJob {
+
+    private final RegistroRevocaciones registroRevocaciones;
+
+    public SincronizacionRevocacionesJob(RegistroRevocaciones registroRevocaciones) {
+        this.registroRevocaciones = registroRevocaciones;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocaciones.intervalo-sincronizacion-ms:15000}",
+               initialDelayString = "${jwt.revocaciones.intervalo-sincronizacion-ms:15000}")
+    public void ejecutar() {
+        registroRevocaciones.sincronizar();
+    }
+}
\ No newline at end of file
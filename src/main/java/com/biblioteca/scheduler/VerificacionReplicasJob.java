@@ -0,0 +1,25 @@
+package com.biblioteca.scheduler;
+
+import com.biblioteca.datasource.ReplicasLectura;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mide el retraso de las réplicas de lectura para dejar de usar las que se atrasan.
+ */
+@Component
+@ConditionalOnProperty(name = "biblioteca.replicas.habilitadas", havingValue = "true")
+public class VerificacionReplicasJob {
+
+    private final ReplicasLectura replicasLectura;
+
+    public VerificacionReplicasJob(ReplicasLectura replicasLectura) {
+        this.replicasLectura = replicasLectura;
+    }
+
+    @Scheduled(fixedDelayString = "${biblioteca.replicas.intervalo-verificacion-ms:1000}")
+    public void ejecutar() {
+        replicasLectura.verificarRetrasos();
+    }
+}
\ No newline at end of file
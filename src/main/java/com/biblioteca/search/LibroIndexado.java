@@ -0,0 +1,84 @@
+package com.biblioteca.search;
+
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.enums.EstadoLibro;
+
+public final class LibroIndexado {
+
+    private final Long idLibro;
+    private final String titulo;
+    private final String autor;
+    private final String isbn;
+    private final EstadoLibro estado;
+    private final Long idCategoria;
+    private final String categoriaNombre;
+    private final String categoriaDescripcion;
+
+    public LibroIndexado(Long idLibro, String titulo, String autor, String isbn, EstadoLibro estado,
+                         Long idCategoria, String categoriaNombre, String categoriaDescripcion) {
+        this.idLibro = idLibro;
+        this.titulo = titulo;
+        this.autor = autor;
+        this.isbn = isbn;
+        this.estado = estado;
+        this.idCategoria = idCategoria;
+        this.categoriaNombre = categoriaNombre;
+        this.categoriaDescripcion = categoriaDescripcion;
+    }
+
+    public static LibroIndexado desde(Libro libro) {
+        Categoria categoria = libro.getCategoria();
+        return new LibroIndexado(
+            libro.getIdLibro(),
+            libro.getTitulo(),
+            libro.getAutor(),
+            libro.getIsbn(),
+            libro.getEstado(),
+            categoria != null ? categoria.getIdCategoria() : null,
+            categoria != null ? categoria.getNombre() : null,
+            categoria != null ? categoria.getDescripcion() : null
+        );
+    }
+
+    public LibroIndexado conEstado(EstadoLibro nuevoEstado) {
+        return new LibroIndexado(idLibro, titulo, autor, isbn, nuevoEstado,
+                                 idCategoria, categoriaNombre, categoriaDescripcion);
+    }
+
+    public LibroIndexado conCategoria(String nombre, String descripcion) {
+        return new LibroIndexado(idLibro, titulo, autor, isbn, estado, idCategoria, nombre, descripcion);
+    }
+
+    public Long getIdLibro() {
+        return idLibro;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public String getAutor() {
+        return autor;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public EstadoLibro getEstado() {
+        return estado;
+    }
+
+    public Long getIdCategoria() {
+        return idCategoria;
+    }
+
+    public String getCategoriaNombre() {
+        return categoriaNombre;
+    }
+
+    public String getCategoriaDescripcion() {
+        return categoriaDescripcion;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,412 @@
+package com.biblioteca.search;
+
+import com.biblioteca.event.CategoriaActualizadaEvent;
+import com.biblioteca.event.EstadoLibrosCambiadoEvent;
+import com.biblioteca.event.LibroActualizadoEvent;
+import com.biblioteca.event.LibroEliminadoEvent;
+import com.biblioteca.event.LibrosCreadosEvent;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.LibroRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido de trigramas sobre título y autor de los libros.
+ * Resuelve las búsquedas por subcadena en memoria, sin consultar la base de datos.
+ */
+@Component
+public class LibroSearchIndex {
+
+    public enum Campo { TITULO, AUTOR }
+
+    private static final Logger logger = LoggerFactory.getLogger(LibroSearchIndex.class);
+    private static final int LONGITUD_NGRAMA = 3;
+    private static final int MINIMO_ELIMINADOS_PARA_COMPACTAR = 1000;
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+
+    private final LibroRepository libroRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean listo = false;
+    private Estructura estructura = new Estructura(16);
+    private List<Consumer<Estructura>> cambiosDuranteCarga;
+
+    public LibroSearchIndex(LibroRepository libroRepository) {
+        this.libroRepository = libroRepository;
+    }
+
+    /**
+     * Relee todos los libros y reemplaza el índice. Los eventos que llegan mientras se lee la base se
+     * aplican sobre el índice vigente y además se guardan, para repetirlos sobre el nuevo antes de publicarlo.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        lock.writeLock().lock();
+        try {
+            if (cambiosDuranteCarga != null) {
+                logger.debug("Reconstrucción del índice de búsqueda omitida: ya hay otra en curso");
+                return;
+            }
+            cambiosDuranteCarga = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        long inicio = System.currentTimeMillis();
+        try {
+            List<LibroIndexado> libros = libroRepository.findAllParaIndice();
+            cargar(libros);
+            logger.info("Índice de búsqueda de libros construido con {} libros en {} ms",
+                       libros.size(), System.currentTimeMillis() - inicio);
+        } catch (Exception e) {
+            logger.error("No se pudo construir el índice de búsqueda, se usará la base de datos: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                cambiosDuranteCarga = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public void cargar(Collection<LibroIndexado> libros) {
+        Estructura nueva = new Estructura(Math.max(16, libros.size()));
+        for (LibroIndexado libro : libros) {
+            nueva.agregar(libro);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (cambiosDuranteCarga != null) {
+                cambiosDuranteCarga.forEach(cambio -> cambio.accept(nueva));
+            }
+            estructura = compactarSiCorresponde(nueva);
+            listo = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean estaListo() {
+        return listo;
+    }
+
+    public int cantidadLibros() {
+        lock.readLock().lock();
+        try {
+            return estructura.ordinalPorId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<LibroIndexado> buscarPorTitulo(String titulo) {
+        return buscar(Campo.TITULO, titulo);
+    }
+
+    public List<LibroIndexado> buscarPorAutor(String autor) {
+        return buscar(Campo.AUTOR, autor);
+    }
+
+    public List<LibroIndexado> buscar(Campo campo, String texto) {
+        String consulta = normalizar(texto);
+
+        lock.readLock().lock();
+        try {
+            List<Coincidencia> coincidencias = new ArrayList<>();
+            if (consulta.length() < LONGITUD_NGRAMA) {
+                for (int ordinal = 0; ordinal < estructura.siguienteOrdinal; ordinal++) {
+                    evaluar(campo, consulta, ordinal, coincidencias);
+                }
+            } else {
+                for (int ordinal : estructura.candidatos(campo, consulta)) {
+                    evaluar(campo, consulta, ordinal, coincidencias);
+                }
+            }
+
+            coincidencias.sort(Comparator
+                    .comparingInt((Coincidencia c) -> c.nivel)
+                    .thenComparingInt(c -> c.longitud)
+                    .thenComparingLong(c -> c.libro.getIdLibro()));
+
+            List<LibroIndexado> resultado = new ArrayList<>(coincidencias.size());
+            for (Coincidencia coincidencia : coincidencias) {
+                resultado.add(coincidencia.libro);
+            }
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void indexar(LibroIndexado libro) {
+        aplicar(destino -> {
+            Integer ordinal = destino.ordinalPorId.get(libro.getIdLibro());
+            if (ordinal != null) {
+                Entrada actual = destino.entradas[ordinal];
+                if (actual.titulo.equals(normalizar(libro.getTitulo()))
+                        && actual.autor.equals(normalizar(libro.getAutor()))) {
+                    destino.entradas[ordinal] = new Entrada(libro, actual.titulo, actual.autor);
+                    return;
+                }
+                destino.eliminar(libro.getIdLibro());
+            }
+            destino.agregar(libro);
+        });
+    }
+
+    public void eliminar(Long idLibro) {
+        aplicar(destino -> destino.eliminar(idLibro));
+    }
+
+    public void actualizarEstado(Long idLibro, EstadoLibro estado) {
+        aplicar(destino -> {
+            Integer ordinal = destino.ordinalPorId.get(idLibro);
+            if (ordinal != null) {
+                Entrada actual = destino.entradas[ordinal];
+                destino.entradas[ordinal] = new Entrada(actual.libro.conEstado(estado), actual.titulo, actual.autor);
+            }
+        });
+    }
+
+    public void actualizarCategoria(Long idCategoria, String nombre, String descripcion) {
+        aplicar(destino -> {
+            for (int ordinal = 0; ordinal < destino.siguienteOrdinal; ordinal++) {
+                Entrada actual = destino.entradas[ordinal];
+                if (actual != null && idCategoria.equals(actual.libro.getIdCategoria())) {
+                    destino.entradas[ordinal] = new Entrada(
+                        actual.libro.conCategoria(nombre, descripcion), actual.titulo, actual.autor);
+                }
+            }
+        });
+    }
+
+    /**
+     * Aplica un cambio sobre el índice vigente y, si hay una reconstrucción en curso, lo guarda para repetirlo
+     * sobre el índice nuevo. Los cambios son idempotentes, así que repetir uno que la lectura ya vio no altera nada.
+     */
+    private void aplicar(Consumer<Estructura> cambio) {
+        lock.writeLock().lock();
+        try {
+            cambio.accept(estructura);
+            estructura = compactarSiCorresponde(estructura);
+            if (cambiosDuranteCarga != null) {
+                cambiosDuranteCarga.add(cambio);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCrearLibros(LibrosCreadosEvent evento) {
+        evento.getLibros().forEach(this::indexar);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alActualizarLibro(LibroActualizadoEvent evento) {
+        indexar(evento.getLibro());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alEliminarLibro(LibroEliminadoEvent evento) {
+        eliminar(evento.getIdLibro());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCambiarEstado(EstadoLibrosCambiadoEvent evento) {
+        evento.getIdsLibros().forEach(idLibro -> actualizarEstado(idLibro, evento.getEstado()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alActualizarCategoria(CategoriaActualizadaEvent evento) {
+        actualizarCategoria(evento.getIdCategoria(), evento.getNombre(), evento.getDescripcion());
+    }
+
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String sinAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACIOS.matcher(sinAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private void evaluar(Campo campo, String consulta, int ordinal, List<Coincidencia> coincidencias) {
+        Entrada entrada = estructura.entradas[ordinal];
+        if (entrada == null) {
+            return;
+        }
+
+        String valor = campo == Campo.TITULO ? entrada.titulo : entrada.autor;
+        int posicion = valor.indexOf(consulta);
+        if (posicion < 0) {
+            return;
+        }
+
+        int nivel;
+        if (valor.length() == consulta.length()) {
+            nivel = 0;
+        } else if (posicion == 0) {
+            nivel = 1;
+        } else if (valor.charAt(posicion - 1) == ' ') {
+            nivel = 2;
+        } else {
+            nivel = 3;
+        }
+        coincidencias.add(new Coincidencia(entrada.libro, nivel, valor.length()));
+    }
+
+    private static Estructura compactarSiCorresponde(Estructura actual) {
+        if (actual.eliminados < MINIMO_ELIMINADOS_PARA_COMPACTAR
+                || actual.eliminados * 4 < actual.siguienteOrdinal) {
+            return actual;
+        }
+
+        Estructura compactada = new Estructura(Math.max(16, actual.ordinalPorId.size()));
+        for (int ordinal = 0; ordinal < actual.siguienteOrdinal; ordinal++) {
+            Entrada entrada = actual.entradas[ordinal];
+            if (entrada != null) {
+                compactada.agregar(entrada.libro);
+            }
+        }
+        logger.debug("Índice de búsqueda compactado: {} entradas eliminadas descartadas", actual.eliminados);
+        return compactada;
+    }
+
+    private static long[] trigramas(String texto) {
+        Set<Long> claves = new LinkedHashSet<>();
+        for (int i = 0; i + LONGITUD_NGRAMA <= texto.length(); i++) {
+            claves.add(((long) texto.charAt(i) << 32) | ((long) texto.charAt(i + 1) << 16) | texto.charAt(i + 2));
+        }
+        return claves.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static final class Estructura {
+
+        private Entrada[] entradas;
+        private int siguienteOrdinal;
+        private int eliminados;
+        private final Map<Long, Integer> ordinalPorId = new HashMap<>();
+        private final Map<Long, ListaOrdinales> indiceTitulo = new HashMap<>();
+        private final Map<Long, ListaOrdinales> indiceAutor = new HashMap<>();
+
+        private Estructura(int capacidad) {
+            this.entradas = new Entrada[capacidad];
+        }
+
+        private void agregar(LibroIndexado libro) {
+            if (siguienteOrdinal == entradas.length) {
+                entradas = Arrays.copyOf(entradas, entradas.length * 2);
+            }
+
+            int ordinal = siguienteOrdinal++;
+            Entrada entrada = new Entrada(libro, normalizar(libro.getTitulo()), normalizar(libro.getAutor()));
+            entradas[ordinal] = entrada;
+            ordinalPorId.put(libro.getIdLibro(), ordinal);
+
+            for (long trigrama : trigramas(entrada.titulo)) {
+                indiceTitulo.computeIfAbsent(trigrama, clave -> new ListaOrdinales()).agregar(ordinal);
+            }
+            for (long trigrama : trigramas(entrada.autor)) {
+                indiceAutor.computeIfAbsent(trigrama, clave -> new ListaOrdinales()).agregar(ordinal);
+            }
+        }
+
+        private void eliminar(Long idLibro) {
+            Integer ordinal = ordinalPorId.remove(idLibro);
+            if (ordinal != null) {
+                entradas[ordinal] = null;
+                eliminados++;
+            }
+        }
+
+        private int[] candidatos(Campo campo, String consulta) {
+            Map<Long, ListaOrdinales> indice = campo == Campo.TITULO ? indiceTitulo : indiceAutor;
+            long[] claves = trigramas(consulta);
+
+            ListaOrdinales[] listas = new ListaOrdinales[claves.length];
+            for (int i = 0; i < claves.length; i++) {
+                listas[i] = indice.get(claves[i]);
+                if (listas[i] == null) {
+                    return new int[0];
+                }
+            }
+            Arrays.sort(listas, Comparator.comparingInt(lista -> lista.tamanio));
+
+            int[] resultado = Arrays.copyOf(listas[0].ordinales, listas[0].tamanio);
+            int tamanio = resultado.length;
+            for (int i = 1; i < listas.length && tamanio > 0; i++) {
+                int conservados = 0;
+                for (int j = 0; j < tamanio; j++) {
+                    if (listas[i].contiene(resultado[j])) {
+                        resultado[conservados++] = resultado[j];
+                    }
+                }
+                tamanio = conservados;
+            }
+            return Arrays.copyOf(resultado, tamanio);
+        }
+    }
+
+    private static final class ListaOrdinales {
+
+        private int[] ordinales = new int[4];
+        private int tamanio;
+
+        private void agregar(int ordinal) {
+            if (tamanio == ordinales.length) {
+                ordinales = Arrays.copyOf(ordinales, tamanio * 2);
+            }
+            ordinales[tamanio++] = ordinal;
+        }
+
+        private boolean contiene(int ordinal) {
+            return Arrays.binarySearch(ordinales, 0, tamanio, ordinal) >= 0;
+        }
+    }
+
+    private static final class Entrada {
+
+        private final LibroIndexado libro;
+        private final String titulo;
+        private final String autor;
+
+        private Entrada(LibroIndexado libro, String titulo, String autor) {
+            this.libro = libro;
+            this.titulo = titulo;
+            this.autor = autor;
+        }
+    }
+
+    private static final class Coincidencia {
+
+        private final LibroIndexado libro;
+        private final int nivel;
+        private final int longitud;
+
+        private Coincidencia(LibroIndexado libro, int nivel, int longitud) {
+            this.libro = libro;
+            this.nivel = nivel;
+            this.longitud = longitud;
+        }
+    }
+}
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.biblioteca.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,6 +25,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private RegistroRevocaciones registroRevocaciones;
+
+    @Value("${jwt.principal-desde-claims:false}")
+    private boolean principalDesdeClaims;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response, 
@@ -31,6 +39,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String path = request.getServletPath();
         
         if (path.startsWith("/api/auth/") || 
+            ("POST".equals(request.getMethod()) && path.equals("/auth/login")) || 
             path.startsWith("/api-docs/") || 
             path.startsWith("/swagger-ui/") ||
             path.equals("/error")) {
@@ -41,17 +50,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = parseJwt(request);
             
-            if (jwt != null && jwtUtil.validateToken(jwt)) {
-                String email = jwtUtil.getEmailFromToken(jwt);
+            Claims claims = jwt != null ? jwtUtil.verificarToken(jwt) : null;
+            if (claims != null) {
+                String email = claims.getSubject();
                 
                 if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                    
-                    UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    // Sin el registro de revocaciones cargado no hay forma de saber si el usuario sigue activo
+                    UserDetails userDetails = principalDesdeClaims && registroRevocaciones.estaSincronizado()
+                        ? principalDesdeClaims(claims)
+                        : userDetailsService.loadUserByUsername(email);
+
+                    if (userDetails != null) {
+                        UsernamePasswordAuthenticationToken authentication = 
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
                 }
             }
         } catch (Exception e) {
@@ -61,6 +76,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails principalDesdeClaims(Claims claims) {
+        UserDetailsServiceImpl.UserDetailsImpl userDetails = UserDetailsServiceImpl.UserDetailsImpl.desdeClaims(claims);
+        if (userDetails == null || registroRevocaciones.estaRevocado(userDetails.getId(), claims)) {
+            return null;
+        }
+        return userDetails;
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
@@ -1,28 +1,51 @@
 package com.biblioteca.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    /**
+     * Instante de emisión en milisegundos. El claim estándar iat solo tiene resolución de segundos
+     * y no alcanza para ordenar un token respecto de una revocación hecha en el mismo segundo.
+     */
+    public static final String CLAIM_EMITIDO_MS = "iatMs";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpirationMs;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpirationMs;
+    private final long cacheTtlMs;
+    private final int cacheMaximoEntradas;
+    private final Map<String, TokenVerificado> tokensVerificados = new ConcurrentHashMap<>();
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    public JwtUtil(@Value("${jwt.secret}") String jwtSecret,
+                   @Value("${jwt.expiration}") long jwtExpirationMs,
+                   @Value("${jwt.cache.ttl-ms:60000}") long cacheTtlMs,
+                   @Value("${jwt.cache.maximo-entradas:10000}") int cacheMaximoEntradas) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.cacheTtlMs = cacheTtlMs;
+        this.cacheMaximoEntradas = cacheMaximoEntradas;
     }
 
     public String generateJwtToken(String email, String role, Integer userId, String dni, String apellido, String nombre) {
         String fullRole = "ROLE_" + role;
+        long ahora = System.currentTimeMillis();
         
         return Jwts.builder()
                 .setSubject(email)
@@ -31,30 +54,86 @@ public class JwtUtil {
                 .claim("dni", dni)
                 .claim("apellido", apellido)
                 .claim("nombre", nombre)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey())
+                .claim(CLAIM_EMITIDO_MS, ahora)
+                .setIssuedAt(new Date(ahora))
+                .setExpiration(new Date(ahora + jwtExpirationMs))
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifica la firma y la expiración del token una sola vez y devuelve sus claims,
+     * o null si no es válido. Los tokens verificados se recuerdan durante un TTL acotado
+     * por su propia expiración, para no repetir el HMAC en cada request.
+     */
+    public Claims verificarToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        long ahora = System.currentTimeMillis();
+        String clave = hash(token);
+        TokenVerificado verificado = tokensVerificados.get(clave);
+        if (verificado != null) {
+            if (verificado.venceEn > ahora) {
+                return verificado.claims;
+            }
+            tokensVerificados.remove(clave, verificado);
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (Exception e) {
+            return null;
+        }
+
+        long venceEn = ahora + cacheTtlMs;
+        if (claims.getExpiration() != null) {
+            venceEn = Math.min(venceEn, claims.getExpiration().getTime());
+        }
+        if (cacheTtlMs > 0) {
+            if (tokensVerificados.size() >= cacheMaximoEntradas) {
+                depurarCache(ahora);
+            }
+            tokensVerificados.put(clave, new TokenVerificado(claims, venceEn));
+        }
+        return claims;
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        Claims claims = verificarToken(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
     public boolean validateToken(String token) {
+        return verificarToken(token) != null;
+    }
+
+    private void depurarCache(long ahora) {
+        tokensVerificados.values().removeIf(verificado -> verificado.venceEn <= ahora);
+        if (tokensVerificados.size() >= cacheMaximoEntradas) {
+            tokensVerificados.clear();
+        }
+    }
+
+    private static String hash(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private static final class TokenVerificado {
+
+        private final Claims claims;
+        private final long venceEn;
+
+        private TokenVerificado(Claims claims, long venceEn) {
+            this.claims = claims;
+            this.venceEn = venceEn;
         }
     }
 }
\ No newline at end of file
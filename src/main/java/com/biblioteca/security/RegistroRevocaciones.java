@@ -0,0 +1,137 @@
+package com.biblioteca.security;
+
+import com.biblioteca.repository.UsuarioRepository;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro en memoria de usuarios cuyos tokens emitidos hasta cierto instante ya no son válidos,
+ * por desactivación o cambio de contraseña. La fuente de verdad es la columna
+ * usuario.tokens_validos_desde (y usuario.activo): el registro se carga al arrancar y se resincroniza
+ * periódicamente, para que una instancia reiniciada u otra instancia del balanceador no vuelvan a
+ * aceptar tokens revocados. Las entradas se descartan cuando cualquier token afectado ya habría
+ * expirado por sí solo; las de usuarios inactivos se mantienen mientras sigan inactivos.
+ */
+@Component
+public class RegistroRevocaciones {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistroRevocaciones.class);
+    private static final long TODOS_LOS_TOKENS = Long.MAX_VALUE;
+
+    private final long jwtExpirationMs;
+    private final UsuarioRepository usuarioRepository;
+    private final Map<Integer, Long> revocadosHasta = new ConcurrentHashMap<>();
+    private Map<Integer, Long> cambiosDuranteSincronizacion;
+    private volatile boolean sincronizado;
+
+    public RegistroRevocaciones(@Value("${jwt.expiration}") long jwtExpirationMs, UsuarioRepository usuarioRepository) {
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.usuarioRepository = usuarioRepository;
+    }
+
+    /**
+     * Relee las revocaciones vigentes de la base y reemplaza el registro. Los cambios locales que
+     * llegan mientras se lee se vuelven a aplicar sobre el resultado.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void sincronizar() {
+        synchronized (this) {
+            if (cambiosDuranteSincronizacion != null) {
+                return;
+            }
+            cambiosDuranteSincronizacion = new HashMap<>();
+        }
+        try {
+            List<UsuarioRepository.Revocacion> revocaciones =
+                    usuarioRepository.findRevocacionesDesde(System.currentTimeMillis() - jwtExpirationMs);
+            Map<Integer, Long> leidas = new HashMap<>();
+            for (UsuarioRepository.Revocacion revocacion : revocaciones) {
+                Long hasta = hasta(Boolean.TRUE.equals(revocacion.getActivo()), revocacion.getTokensValidosDesde());
+                if (hasta != null) {
+                    leidas.put(revocacion.getIdUsuario(), hasta);
+                }
+            }
+            synchronized (this) {
+                leidas.putAll(cambiosDuranteSincronizacion);
+                leidas.values().removeIf(instante -> instante == null);
+                revocadosHasta.keySet().retainAll(leidas.keySet());
+                revocadosHasta.putAll(leidas);
+                sincronizado = true;
+            }
+            logger.debug("Registro de revocaciones sincronizado con {} usuarios", leidas.size());
+        } catch (Exception e) {
+            logger.error("No se pudo sincronizar el registro de revocaciones: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                cambiosDuranteSincronizacion = null;
+            }
+        }
+    }
+
+    /**
+     * Indica si el registro ya se cargó de la base. Antes de eso no puede usarse para validar tokens
+     * sin consultar al usuario.
+     */
+    public boolean estaSincronizado() {
+        return sincronizado;
+    }
+
+    /**
+     * Registra el estado de un usuario recién confirmado en la base por esta instancia.
+     *
+     * @param tokensValidosDesde valor persistido en usuario.tokens_validos_desde
+     */
+    public synchronized void registrar(Integer idUsuario, boolean activo, Long tokensValidosDesde) {
+        long ahora = System.currentTimeMillis();
+        revocadosHasta.values().removeIf(instante -> instante != TODOS_LOS_TOKENS && instante < ahora - jwtExpirationMs);
+        Long hasta = hasta(activo, tokensValidosDesde);
+        if (hasta != null) {
+            revocadosHasta.put(idUsuario, hasta);
+        } else {
+            revocadosHasta.remove(idUsuario);
+        }
+        if (cambiosDuranteSincronizacion != null) {
+            cambiosDuranteSincronizacion.put(idUsuario, hasta);
+        }
+    }
+
+    /**
+     * Compara con el claim {@link JwtUtil#CLAIM_EMITIDO_MS}, así que un token emitido después de la
+     * revocación (por ejemplo, al volver a iniciar sesión tras cambiar la contraseña) se acepta aunque
+     * sea en el mismo segundo. Los tokens anteriores a ese claim solo tienen iat, en segundos: se comparan
+     * contra la revocación truncada al segundo.
+     */
+    public boolean estaRevocado(Integer idUsuario, Claims claims) {
+        if (idUsuario == null || claims == null) {
+            return true;
+        }
+        Long revocadoHasta = revocadosHasta.get(idUsuario);
+        if (revocadoHasta == null) {
+            return false;
+        }
+        if (revocadoHasta == TODOS_LOS_TOKENS) {
+            return true;
+        }
+        Number emitidoEnMs = claims.get(JwtUtil.CLAIM_EMITIDO_MS, Number.class);
+        if (emitidoEnMs != null) {
+            return emitidoEnMs.longValue() <= revocadoHasta;
+        }
+        Date emitidoEn = claims.getIssuedAt();
+        return emitidoEn == null || emitidoEn.getTime() < revocadoHasta / 1000 * 1000;
+    }
+
+    private static Long hasta(boolean activo, Long tokensValidosDesde) {
+        return activo ? tokensValidosDesde : TODOS_LOS_TOKENS;
+    }
+}
\ No newline at end of file
@@ -28,7 +28,10 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
+                .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
                 .requestMatchers("/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/libros/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/categorias/**").permitAll()
                 
@@ -46,6 +49,12 @@ public class SecurityConfig {
                 
                 .requestMatchers("/api/multas/**").hasAnyRole("ADMIN", "BIBLIOTECARIO")
                 
+                // Operaciones de mostrador, mapeadas sin el prefijo /api
+                .requestMatchers(HttpMethod.POST, "/prestamos/devoluciones").hasAnyRole("ADMIN", "BIBLIOTECARIO")
+                .requestMatchers(HttpMethod.POST, "/prestamos/lote").hasAnyRole("ADMIN", "BIBLIOTECARIO")
+                .requestMatchers(HttpMethod.POST, "/libros/importacion").hasAnyRole("ADMIN", "BIBLIOTECARIO")
+                .requestMatchers(HttpMethod.POST, "/multas/evaluaciones/reencolar").hasRole("ADMIN")
+                
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
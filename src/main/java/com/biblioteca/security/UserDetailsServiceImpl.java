@@ -1,7 +1,9 @@
 package com.biblioteca.security;
 
 import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.model.enums.Rol;
 import com.biblioteca.repository.UsuarioRepository;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -34,6 +36,28 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             this.usuario = usuario;
         }
 
+        /**
+         * Arma el principal a partir de los claims de un token ya verificado, sin consultar la base.
+         * Devuelve null si al token le falta algún dato necesario.
+         */
+        public static UserDetailsImpl desdeClaims(Claims claims) {
+            String rol = claims.get("role", String.class);
+            Integer id = claims.get("id", Integer.class);
+            if (claims.getSubject() == null || rol == null || !rol.startsWith("ROLE_") || id == null) {
+                return null;
+            }
+
+            Usuario usuario = new Usuario();
+            usuario.setId(id);
+            usuario.setEmail(claims.getSubject());
+            usuario.setRol(Rol.fromString(rol.substring("ROLE_".length())));
+            usuario.setDni(claims.get("dni", String.class));
+            usuario.setNombre(claims.get("nombre", String.class));
+            usuario.setApellido(claims.get("apellido", String.class));
+            usuario.setActivo(true);
+            return new UserDetailsImpl(usuario);
+        }
+
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
             return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + usuario.getRol().name()));
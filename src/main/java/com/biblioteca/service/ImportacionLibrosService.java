@@ -0,0 +1,13 @@
+package com.biblioteca.service;
+
+import com.biblioteca.dto.response.ImportacionLibrosResponse;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+public interface ImportacionLibrosService {
+
+    enum Formato { CSV, NDJSON }
+
+    ImportacionLibrosResponse importarLibros(InputStream contenido, Charset charset, Formato formato);
+}
\ No newline at end of file
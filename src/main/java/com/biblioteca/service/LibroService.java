@@ -3,19 +3,24 @@ package com.biblioteca.service;
 import com.biblioteca.dto.request.CreateLibroRequest;
 import com.biblioteca.dto.request.UpdateLibroRequest;
 import com.biblioteca.dto.response.LibroResponse;
+import com.biblioteca.dto.response.PaginaCursorResponse;
 import com.biblioteca.model.enums.EstadoLibro;
 
 import java.util.List;
+import java.util.Map;
 
 public interface LibroService {
     LibroResponse actualizarLibro(Long id, UpdateLibroRequest request);
     LibroResponse crearLibro(CreateLibroRequest request);
     LibroResponse obtenerLibroPorId(Long id);
+    LibroResponse obtenerLibroPorIsbn(String isbn);
     List<LibroResponse> obtenerTodosLosLibros();
+    PaginaCursorResponse<LibroResponse> obtenerLibrosPaginados(String cursor, int tamanio, EstadoLibro estado, Long idCategoria);
     List<LibroResponse> buscarLibrosPorTitulo(String titulo);
     List<LibroResponse> buscarLibrosPorAutor(String autor);
     List<LibroResponse> obtenerLibrosPorEstado(EstadoLibro estado);
     List<LibroResponse> obtenerLibrosDisponibles();
     boolean estaDisponible(Long idLibro);
+    Map<Long, Boolean> obtenerDisponibilidad(List<Long> idsLibros);
     void eliminarLibro(Long id);
 }
\ No newline at end of file
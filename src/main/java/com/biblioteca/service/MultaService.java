@@ -2,6 +2,8 @@ package com.biblioteca.service;
 
 import com.biblioteca.dto.request.CreateMultaRequest;
 import com.biblioteca.dto.response.MultaResponse;
+import com.biblioteca.model.entity.Multa;
+import com.biblioteca.model.entity.Prestamo;
 
 import java.util.List;
 
@@ -16,4 +18,9 @@ public interface MultaService {
     Double calcularTotalMultasPendientes(Long idSocio);
     boolean tieneMultasPendientes(Long idSocio);
     MultaResponse crearMultaManual(CreateMultaRequest request);
+    int procesarEvaluacionesPendientes(int tamanioLote);
+    long contarEvaluacionesAgotadas();
+    int reencolarEvaluacionesAgotadas();
+    List<Multa> generarMultasEnLote(List<Prestamo> prestamos);
+    void completarSaldosDeMultas();
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.biblioteca.service;
 
+import com.biblioteca.dto.request.CreatePrestamoLoteRequest;
 import com.biblioteca.dto.request.CreatePrestamoRequest;
+import com.biblioteca.dto.request.DevolucionLoteRequest;
 import com.biblioteca.dto.request.DevolucionPrestamoRequest;
+import com.biblioteca.dto.response.DevolucionLoteResponse;
 import com.biblioteca.dto.response.PrestamoResponse;
 import com.biblioteca.model.enums.EstadoPrestamo;
 
@@ -10,15 +13,17 @@ import java.util.List;
 public interface PrestamoService {
     
     PrestamoResponse crearPrestamo(CreatePrestamoRequest request);
+    List<PrestamoResponse> crearPrestamosEnLote(CreatePrestamoLoteRequest request);
     PrestamoResponse obtenerPrestamoPorId(Long id);
     List<PrestamoResponse> obtenerTodosLosPrestamos();
     List<PrestamoResponse> obtenerPrestamosActivosPorSocio(Long idSocio);
     List<PrestamoResponse> obtenerPrestamosActivos();
     PrestamoResponse devolverPrestamo(Long idPrestamo, DevolucionPrestamoRequest request);
+    DevolucionLoteResponse devolverPrestamosEnLote(DevolucionLoteRequest request);
     List<PrestamoResponse> obtenerPrestamosConRetraso();
     boolean estaLibroPrestado(Long idLibro);
     List<PrestamoResponse> obtenerHistorialPorSocio(Long idSocio);
     
-    void actualizarEstadosPrestamosVencidos();
+    int actualizarEstadosPrestamosVencidos();
     List<PrestamoResponse> obtenerPrestamosPorEstado(EstadoPrestamo estado);
 }
\ No newline at end of file
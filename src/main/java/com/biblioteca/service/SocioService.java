@@ -2,6 +2,7 @@ package com.biblioteca.service;
 
 import com.biblioteca.dto.request.CreateSocioRequest;
 import com.biblioteca.dto.request.UpdateSocioRequest;
+import com.biblioteca.dto.response.PaginaCursorResponse;
 import com.biblioteca.dto.response.SocioResponse;
 
 import java.util.List;
@@ -11,6 +12,7 @@ public interface SocioService {
     SocioResponse crearSocio(CreateSocioRequest request);
     SocioResponse obtenerSocioPorId(Long id);
     List<SocioResponse> obtenerTodosLosSocios();
+    PaginaCursorResponse<SocioResponse> obtenerSociosPaginados(String cursor, int tamanio);
     List<SocioResponse> buscarSociosPorNombre(String nombre);
     SocioResponse obtenerSocioPorNumero(Integer nroSocio);
     SocioResponse obtenerSocioPorDni(String dni);
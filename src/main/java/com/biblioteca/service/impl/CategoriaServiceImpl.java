@@ -1,16 +1,22 @@
 package com.biblioteca.service.impl;
 
+import com.biblioteca.cache.ContadorLibrosPorCategoria;
 import com.biblioteca.dto.request.CreateCategoriaRequest;
 import com.biblioteca.dto.request.UpdateCategoriaRequest;
 import com.biblioteca.dto.response.CategoriaResponse;
 import com.biblioteca.exception.OperationNotAllowedException;
+import com.biblioteca.event.CategoriaActualizadaEvent;
+import com.biblioteca.event.CategoriaCreadaEvent;
+import com.biblioteca.event.CategoriaEliminadaEvent;
 import com.biblioteca.exception.ResourceNotFoundException;
 import com.biblioteca.model.entity.Categoria;
 import com.biblioteca.repository.CategoriaRepository;
 import com.biblioteca.repository.LibroRepository;
 import com.biblioteca.service.CategoriaService;
+import com.biblioteca.util.TransaccionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,10 +30,16 @@ public class CategoriaServiceImpl implements CategoriaService {
     private static final Logger logger = LoggerFactory.getLogger(CategoriaServiceImpl.class);
     private final CategoriaRepository categoriaRepository;
     private final LibroRepository libroRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContadorLibrosPorCategoria contadorLibrosPorCategoria;
 
-    public CategoriaServiceImpl(CategoriaRepository categoriaRepository, LibroRepository libroRepository) {
+    public CategoriaServiceImpl(CategoriaRepository categoriaRepository, LibroRepository libroRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                ContadorLibrosPorCategoria contadorLibrosPorCategoria) {
         this.categoriaRepository = categoriaRepository;
         this.libroRepository = libroRepository;
+        this.eventPublisher = eventPublisher;
+        this.contadorLibrosPorCategoria = contadorLibrosPorCategoria;
     }
 
     @Override
@@ -82,6 +94,8 @@ public class CategoriaServiceImpl implements CategoriaService {
         Categoria categoriaGuardada = categoriaRepository.save(categoria);
         logger.info("Categoría creada exitosamente con ID: {}", categoriaGuardada.getIdCategoria());
 
+        eventPublisher.publishEvent(new CategoriaCreadaEvent(categoriaGuardada.getIdCategoria()));
+
         return convertirAResponse(categoriaGuardada);
     }
 
@@ -103,6 +117,9 @@ public class CategoriaServiceImpl implements CategoriaService {
 
         Categoria categoriaActualizada = categoriaRepository.save(categoriaExistente);
         logger.info("Categoría actualizada exitosamente con ID: {}", id);
+
+        eventPublisher.publishEvent(new CategoriaActualizadaEvent(
+                id, categoriaActualizada.getNombre(), categoriaActualizada.getDescripcion()));
         
         return convertirAResponse(categoriaActualizada);
     }
@@ -124,17 +141,18 @@ public class CategoriaServiceImpl implements CategoriaService {
 
         categoriaRepository.delete(categoria);
         logger.info("Categoría eliminada exitosamente con ID: {}", id);
+
+        TransaccionUtils.despuesDelCommit(() -> contadorLibrosPorCategoria.eliminarCategoria(id));
+        eventPublisher.publishEvent(new CategoriaEliminadaEvent(id));
     }
 
-    private CategoriaResponse convertirAResponse(Categoria categoria) {
+    CategoriaResponse convertirAResponse(Categoria categoria) {
         CategoriaResponse response = new CategoriaResponse();
         response.setIdCategoria(categoria.getIdCategoria());
         response.setNombre(categoria.getNombre());
         response.setDescripcion(categoria.getDescripcion());
-        
-        Long cantidadLibros = libroRepository.countByCategoriaIdCategoria(categoria.getIdCategoria());
-        response.setCantidadLibros(cantidadLibros != null ? cantidadLibros.intValue() : 0);
-        
+        response.setCantidadLibros(contadorLibrosPorCategoria.cantidad(categoria.getIdCategoria()));
+
         return response;
     }
 }
\ No newline at end of file
@@ -0,0 +1,397 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.request.CreateLibroRequest;
+import com.biblioteca.dto.response.ImportacionLibrosResponse;
+import com.biblioteca.event.LibrosCreadosEvent;
+import com.biblioteca.exception.OperationNotAllowedException;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.search.LibroIndexado;
+import com.biblioteca.service.ImportacionLibrosService;
+import com.biblioteca.util.FiltroBloom;
+import com.biblioteca.util.LectorCsv;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Importa libros en masa desde un archivo CSV o NDJSON leído de forma incremental.
+ * Las filas válidas se insertan en lotes JDBC con una transacción por lote; las inválidas
+ * se informan sin detener la importación.
+ */
+@Service
+public class ImportacionLibrosServiceImpl implements ImportacionLibrosService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacionLibrosServiceImpl.class);
+    private static final int MAXIMO_ERRORES_REPORTADOS = 1000;
+    private static final double TASA_FALSOS_POSITIVOS_ISBN = 0.01;
+    private static final List<String> COLUMNAS_CSV = List.of("titulo", "autor", "isbn", "idcategoria");
+
+    private final LibroRepository libroRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaccionPorLote;
+    private final TransactionTemplate transaccionLectura;
+    private final int tamanioLote;
+
+    public ImportacionLibrosServiceImpl(LibroRepository libroRepository, CategoriaRepository categoriaRepository,
+                                        ApplicationEventPublisher eventPublisher,
+                                        ObjectMapper objectMapper, EntityManager entityManager,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${libros.importacion.tamanio-lote:1000}") int tamanioLote) {
+        this.libroRepository = libroRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transaccionPorLote = new TransactionTemplate(transactionManager);
+        this.transaccionPorLote.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transaccionLectura = new TransactionTemplate(transactionManager);
+        this.transaccionLectura.setReadOnly(true);
+        this.tamanioLote = tamanioLote;
+    }
+
+    @Override
+    public ImportacionLibrosResponse importarLibros(InputStream contenido, Charset charset, Formato formato) {
+        long inicio = System.currentTimeMillis();
+        logger.info("Iniciando importación de libros en formato {}", formato);
+
+        Map<Long, Categoria> categorias = categoriaRepository.findAll().stream()
+                .collect(Collectors.toMap(Categoria::getIdCategoria, Function.identity()));
+        Importacion importacion = new Importacion(cargarIsbnsExistentes());
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(contenido, charset));
+        try (LectorFilas lector = formato == Formato.CSV ? new LectorFilasCsv(reader) : new LectorFilasNdjson(reader)) {
+            FilaLibro fila;
+            while ((fila = lector.siguiente()) != null) {
+                importacion.filasLeidas++;
+                Libro libro = validarFila(fila, categorias, importacion);
+                if (libro != null) {
+                    importacion.lote.add(new FilaValida(fila.numero, libro));
+                    if (importacion.lote.size() >= tamanioLote) {
+                        guardarLote(importacion);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Importación interrumpida tras crear {} libros: {}", importacion.librosCreados, e.getMessage());
+            throw new OperationNotAllowedException("No se pudo leer el archivo de importación. Libros creados antes del error: "
+                    + importacion.librosCreados);
+        }
+        guardarLote(importacion);
+
+        long duracion = System.currentTimeMillis() - inicio;
+        logger.info("Importación finalizada: {} filas leídas, {} libros creados, {} filas con error en {} ms",
+                   importacion.filasLeidas, importacion.librosCreados, importacion.filasConError, duracion);
+
+        ImportacionLibrosResponse response = new ImportacionLibrosResponse();
+        response.setFilasLeidas(importacion.filasLeidas);
+        response.setLibrosCreados(importacion.librosCreados);
+        response.setFilasConError(importacion.filasConError);
+        response.setErrores(importacion.errores);
+        response.setDuracionMs(duracion);
+        return response;
+    }
+
+    private FiltroBloom cargarIsbnsExistentes() {
+        return transaccionLectura.execute(status -> {
+            FiltroBloom filtro = new FiltroBloom(libroRepository.count(), TASA_FALSOS_POSITIVOS_ISBN);
+            try (Stream<String> isbns = libroRepository.streamAllIsbn()) {
+                isbns.forEach(filtro::agregar);
+            }
+            return filtro;
+        });
+    }
+
+    private Libro validarFila(FilaLibro fila, Map<Long, Categoria> categorias, Importacion importacion) {
+        if (fila.error != null) {
+            importacion.registrarError(fila.numero, null, fila.error);
+            return null;
+        }
+
+        CreateLibroRequest request = fila.request;
+        request.setTitulo(recortar(request.getTitulo()));
+        request.setAutor(recortar(request.getAutor()));
+        request.setIsbn(recortar(request.getIsbn()));
+
+        String invalidos = validarCampos(request);
+        if (invalidos != null) {
+            importacion.registrarError(fila.numero, request.getIsbn(), invalidos);
+            return null;
+        }
+
+        Categoria categoria = categorias.get(request.getIdCategoria());
+        if (categoria == null) {
+            importacion.registrarError(fila.numero, request.getIsbn(),
+                    "Categoría no encontrada con ID: " + request.getIdCategoria());
+            return null;
+        }
+
+        if (!importacion.isbnsDelArchivo.add(request.getIsbn())) {
+            importacion.registrarError(fila.numero, request.getIsbn(), "ISBN repetido en el archivo: " + request.getIsbn());
+            return null;
+        }
+
+        return new Libro(request.getTitulo(), request.getAutor(), request.getIsbn(), categoria);
+    }
+
+    /**
+     * Descarta los ISBN ya existentes (el filtro de Bloom evita consultar los que seguro son nuevos),
+     * inserta el resto en su propia transacción y, una vez confirmada, actualiza el índice y los contadores.
+     * El contexto de persistencia se vacía en cada lote porque con open-in-view se comparte durante todo el request.
+     */
+    private void guardarLote(Importacion importacion) {
+        if (importacion.lote.isEmpty()) {
+            return;
+        }
+
+        List<String> candidatos = importacion.lote.stream()
+                .map(fila -> fila.libro.getIsbn())
+                .filter(importacion.isbnsExistentes::puedeContener)
+                .collect(Collectors.toList());
+        Set<String> existentes = candidatos.isEmpty()
+                ? Set.of()
+                : new HashSet<>(libroRepository.findIsbnExistentes(candidatos));
+
+        List<FilaValida> aGuardar = new ArrayList<>(importacion.lote.size());
+        for (FilaValida fila : importacion.lote) {
+            if (existentes.contains(fila.libro.getIsbn())) {
+                importacion.registrarError(fila.numero, fila.libro.getIsbn(),
+                        "Ya existe un libro con el ISBN: " + fila.libro.getIsbn());
+            } else {
+                aGuardar.add(fila);
+            }
+        }
+        importacion.lote.clear();
+
+        List<Libro> libros = aGuardar.stream().map(fila -> fila.libro).collect(Collectors.toList());
+        try {
+            transaccionPorLote.executeWithoutResult(status -> {
+                // El flush pasa por el repositorio para que un ISBN duplicado llegue traducido a DataIntegrityViolationException
+                libroRepository.saveAllAndFlush(libros);
+                entityManager.clear();
+            });
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Lote de {} libros rechazado por la base de datos: {}", libros.size(), e.getMostSpecificCause().getMessage());
+            for (FilaValida fila : aGuardar) {
+                importacion.registrarError(fila.numero, fila.libro.getIsbn(),
+                        "Lote rechazado por un conflicto de datos, reintente estas filas");
+            }
+            return;
+        }
+
+        importacion.librosCreados += libros.size();
+        eventPublisher.publishEvent(new LibrosCreadosEvent(
+                libros.stream().map(LibroIndexado::desde).collect(Collectors.toList())));
+        logger.debug("Lote de {} libros importado ({} en total)", libros.size(), importacion.librosCreados);
+    }
+
+    /**
+     * Mismas reglas y mensajes que las anotaciones de {@link CreateLibroRequest}.
+     */
+    private static String validarCampos(CreateLibroRequest request) {
+        List<String> errores = new ArrayList<>();
+        validarTexto(request.getTitulo(), 255, "El título es obligatorio",
+                     "El título no puede exceder los 255 caracteres", errores);
+        validarTexto(request.getAutor(), 255, "El autor es obligatorio",
+                     "El autor no puede exceder los 255 caracteres", errores);
+        validarTexto(request.getIsbn(), 20, "El ISBN es obligatorio",
+                     "El ISBN no puede exceder los 20 caracteres", errores);
+        if (request.getIdCategoria() == null) {
+            errores.add("La categoría es obligatoria");
+        }
+        return errores.isEmpty() ? null : String.join("; ", errores);
+    }
+
+    private static void validarTexto(String valor, int longitudMaxima, String mensajeObligatorio,
+                                     String mensajeLongitud, List<String> errores) {
+        if (valor == null || valor.isBlank()) {
+            errores.add(mensajeObligatorio);
+        } else if (valor.length() > longitudMaxima) {
+            errores.add(mensajeLongitud);
+        }
+    }
+
+    private static String recortar(String valor) {
+        return valor != null ? valor.trim() : null;
+    }
+
+    private static final class Importacion {
+
+        private final FiltroBloom isbnsExistentes;
+        private final Set<String> isbnsDelArchivo = new HashSet<>();
+        private final List<FilaValida> lote = new ArrayList<>();
+        private final List<ImportacionLibrosResponse.ErrorFila> errores = new ArrayList<>();
+        private int filasLeidas;
+        private int librosCreados;
+        private int filasConError;
+
+        private Importacion(FiltroBloom isbnsExistentes) {
+            this.isbnsExistentes = isbnsExistentes;
+        }
+
+        private void registrarError(int fila, String isbn, String mensaje) {
+            filasConError++;
+            if (errores.size() < MAXIMO_ERRORES_REPORTADOS) {
+                errores.add(new ImportacionLibrosResponse.ErrorFila(fila, isbn, mensaje));
+            }
+        }
+    }
+
+    private static final class FilaValida {
+
+        private final int numero;
+        private final Libro libro;
+
+        private FilaValida(int numero, Libro libro) {
+            this.numero = numero;
+            this.libro = libro;
+        }
+    }
+
+    private static final class FilaLibro {
+
+        private final int numero;
+        private final CreateLibroRequest request;
+        private final String error;
+
+        private FilaLibro(int numero, CreateLibroRequest request, String error) {
+            this.numero = numero;
+            this.request = request;
+            this.error = error;
+        }
+    }
+
+    private interface LectorFilas extends Closeable {
+
+        /**
+         * Devuelve la siguiente fila de datos, o null al terminar el archivo.
+         */
+        FilaLibro siguiente() throws IOException;
+    }
+
+    /**
+     * CSV con encabezado obligatorio. Las columnas titulo, autor, isbn e idCategoria pueden venir en
+     * cualquier orden; las columnas adicionales se ignoran.
+     */
+    private static final class LectorFilasCsv implements LectorFilas {
+
+        private final LectorCsv lector;
+        private final Map<String, Integer> posiciones = new HashMap<>();
+        private int numero;
+
+        private LectorFilasCsv(BufferedReader reader) throws IOException {
+            this.lector = new LectorCsv(reader, ',');
+            List<String> encabezado = lector.siguienteRegistro();
+            if (encabezado != null) {
+                for (int i = 0; i < encabezado.size(); i++) {
+                    String columna = encabezado.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+                    posiciones.putIfAbsent(columna, i);
+                }
+            }
+            if (!posiciones.keySet().containsAll(COLUMNAS_CSV)) {
+                throw new OperationNotAllowedException("El encabezado CSV debe incluir las columnas: titulo, autor, isbn, idCategoria");
+            }
+        }
+
+        @Override
+        public FilaLibro siguiente() throws IOException {
+            List<String> campos = lector.siguienteRegistro();
+            if (campos == null) {
+                return null;
+            }
+            numero++;
+
+            if (campos.size() < posiciones.size()) {
+                return new FilaLibro(numero, null, "Cantidad de columnas inválida: se esperaban " + posiciones.size()
+                        + " y se recibieron " + campos.size());
+            }
+
+            String idCategoria = campos.get(posiciones.get("idcategoria")).trim();
+            CreateLibroRequest request = new CreateLibroRequest(
+                    campos.get(posiciones.get("titulo")),
+                    campos.get(posiciones.get("autor")),
+                    campos.get(posiciones.get("isbn")),
+                    null);
+            if (!idCategoria.isEmpty()) {
+                try {
+                    request.setIdCategoria(Long.parseLong(idCategoria));
+                } catch (NumberFormatException e) {
+                    return new FilaLibro(numero, null, "ID de categoría inválido: " + idCategoria);
+                }
+            }
+            return new FilaLibro(numero, request, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            lector.close();
+        }
+    }
+
+    /**
+     * Un objeto JSON por línea con los mismos campos que la creación individual de libros.
+     */
+    private final class LectorFilasNdjson implements LectorFilas {
+
+        private final BufferedReader reader;
+        private int numero;
+
+        private LectorFilasNdjson(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public FilaLibro siguiente() throws IOException {
+            String linea;
+            do {
+                linea = reader.readLine();
+                if (linea == null) {
+                    return null;
+                }
+            } while (linea.isBlank());
+            numero++;
+
+            try {
+                return new FilaLibro(numero, objectMapper.readValue(linea, CreateLibroRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new FilaLibro(numero, null, "JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
\ No newline at end of file
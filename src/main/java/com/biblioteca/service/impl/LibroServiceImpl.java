@@ -1,8 +1,14 @@
 package com.biblioteca.service.impl;
 
+import com.biblioteca.cache.CatalogoLibros;
+import com.biblioteca.cache.DisponibilidadLibros;
 import com.biblioteca.dto.request.CreateLibroRequest;
 import com.biblioteca.dto.request.UpdateLibroRequest;
 import com.biblioteca.dto.response.LibroResponse;
+import com.biblioteca.dto.response.PaginaCursorResponse;
+import com.biblioteca.event.LibroActualizadoEvent;
+import com.biblioteca.event.LibroEliminadoEvent;
+import com.biblioteca.event.LibrosCreadosEvent;
 import com.biblioteca.exception.OperationNotAllowedException;
 import com.biblioteca.exception.ResourceNotFoundException;
 import com.biblioteca.model.entity.Libro;
@@ -10,13 +16,20 @@ import com.biblioteca.model.entity.Categoria;
 import com.biblioteca.model.enums.EstadoLibro;
 import com.biblioteca.repository.LibroRepository;
 import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.search.LibroIndexado;
+import com.biblioteca.search.LibroSearchIndex;
 import com.biblioteca.service.LibroService;
+import com.biblioteca.util.CursorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,12 +37,24 @@ import java.util.stream.Collectors;
 public class LibroServiceImpl implements LibroService {
 
     private static final Logger logger = LoggerFactory.getLogger(LibroServiceImpl.class);
+    private static final int TAMANIO_MAXIMO_PAGINA = 200;
+    private static final int MAXIMO_IDS_DISPONIBILIDAD = 1000;
     private final LibroRepository libroRepository;
     private final CategoriaRepository categoriaRepository;
+    private final LibroSearchIndex libroSearchIndex;
+    private final CatalogoLibros catalogoLibros;
+    private final DisponibilidadLibros disponibilidadLibros;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LibroServiceImpl(LibroRepository libroRepository, CategoriaRepository categoriaRepository) {
+    public LibroServiceImpl(LibroRepository libroRepository, CategoriaRepository categoriaRepository,
+                            LibroSearchIndex libroSearchIndex, CatalogoLibros catalogoLibros,
+                            DisponibilidadLibros disponibilidadLibros, ApplicationEventPublisher eventPublisher) {
         this.libroRepository = libroRepository;
         this.categoriaRepository = categoriaRepository;
+        this.libroSearchIndex = libroSearchIndex;
+        this.catalogoLibros = catalogoLibros;
+        this.disponibilidadLibros = disponibilidadLibros;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -54,6 +79,8 @@ public class LibroServiceImpl implements LibroService {
         Libro libroGuardado = libroRepository.save(libro);
         logger.info("Libro creado exitosamente con ID: {}", libroGuardado.getIdLibro());
 
+        eventPublisher.publishEvent(new LibrosCreadosEvent(List.of(LibroIndexado.desde(libroGuardado))));
+
         return convertirAResponse(libroGuardado);
     }
 
@@ -68,12 +95,15 @@ public class LibroServiceImpl implements LibroService {
         Categoria categoria = categoriaRepository.findById(request.getIdCategoria())
                 .orElseThrow(() -> new ResourceNotFoundException("Categoría no encontrada con ID: " + request.getIdCategoria()));
 
+        Long idCategoriaAnterior = libroExistente.getCategoria().getIdCategoria();
         libroExistente.setTitulo(request.getTitulo());
         libroExistente.setAutor(request.getAutor());
         libroExistente.setCategoria(categoria);
         
         Libro libroActualizado = libroRepository.save(libroExistente);
         logger.info("Libro actualizado exitosamente con ID: {}", id);
+
+        eventPublisher.publishEvent(new LibroActualizadoEvent(LibroIndexado.desde(libroActualizado), idCategoriaAnterior));
         
         return convertirAResponse(libroActualizado);
     }
@@ -81,6 +111,12 @@ public class LibroServiceImpl implements LibroService {
     @Override
     @Transactional(readOnly = true)
     public LibroResponse obtenerLibroPorId(Long id) {
+        if (catalogoLibros.estaListo()) {
+            LibroResponse libro = catalogoLibros.obtener(id);
+            if (libro != null) {
+                return libro;
+            }
+        }
         Libro libro = libroRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Libro no encontrado con ID: " + id));
         return convertirAResponse(libro);
@@ -89,14 +125,60 @@ public class LibroServiceImpl implements LibroService {
     @Override
     @Transactional(readOnly = true)
     public List<LibroResponse> obtenerTodosLosLibros() {
+        if (catalogoLibros.estaListo()) {
+            return catalogoLibros.obtenerTodos();
+        }
         return libroRepository.findAll().stream()
                 .map(this::convertirAResponse)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<LibroResponse> obtenerLibrosPaginados(String cursor, int tamanio,
+                                                                      EstadoLibro estado, Long idCategoria) {
+        if (tamanio < 1 || tamanio > TAMANIO_MAXIMO_PAGINA) {
+            throw new OperationNotAllowedException("El tamaño de página debe estar entre 1 y " + TAMANIO_MAXIMO_PAGINA);
+        }
+
+        Long despuesDe = CursorUtils.decodificar(cursor);
+        List<LibroResponse> libros = catalogoLibros.estaListo()
+                ? catalogoLibros.obtenerPagina(despuesDe, estado, idCategoria, tamanio + 1)
+                : buscarPaginaEnBase(despuesDe, estado, idCategoria, Limit.of(tamanio + 1)).stream()
+                        .map(this::convertirAResponse)
+                        .collect(Collectors.toList());
+
+        boolean tieneMas = libros.size() > tamanio;
+        List<LibroResponse> contenido = tieneMas ? libros.subList(0, tamanio) : libros;
+        String siguienteCursor = tieneMas ? CursorUtils.codificar(contenido.get(contenido.size() - 1).getIdLibro()) : null;
+        return new PaginaCursorResponse<>(contenido, siguienteCursor);
+    }
+
+    /**
+     * Una consulta por combinación de filtros, para que cada una recorra su índice
+     * ({@code (estado, id_libro)} o {@code (id_categoria, id_libro)}) en orden de id.
+     */
+    private List<Libro> buscarPaginaEnBase(Long despuesDe, EstadoLibro estado, Long idCategoria, Limit limite) {
+        if (idCategoria != null && estado != null) {
+            return libroRepository.findPaginaPorCategoriaYEstadoDespuesDe(idCategoria, estado, despuesDe, limite);
+        }
+        if (idCategoria != null) {
+            return libroRepository.findPaginaPorCategoriaDespuesDe(idCategoria, despuesDe, limite);
+        }
+        if (estado != null) {
+            return libroRepository.findPaginaPorEstadoDespuesDe(estado, despuesDe, limite);
+        }
+        return libroRepository.findPaginaDespuesDe(despuesDe, limite);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<LibroResponse> buscarLibrosPorTitulo(String titulo) {
+        if (libroSearchIndex.estaListo()) {
+            return libroSearchIndex.buscarPorTitulo(titulo).stream()
+                    .map(this::convertirAResponse)
+                    .collect(Collectors.toList());
+        }
         return libroRepository.findByTituloContainingIgnoreCase(titulo).stream()
                 .map(this::convertirAResponse)
                 .collect(Collectors.toList());
@@ -105,6 +187,11 @@ public class LibroServiceImpl implements LibroService {
     @Override
     @Transactional(readOnly = true)
     public List<LibroResponse> buscarLibrosPorAutor(String autor) {
+        if (libroSearchIndex.estaListo()) {
+            return libroSearchIndex.buscarPorAutor(autor).stream()
+                    .map(this::convertirAResponse)
+                    .collect(Collectors.toList());
+        }
         return libroRepository.findByAutorContainingIgnoreCase(autor).stream()
                 .map(this::convertirAResponse)
                 .collect(Collectors.toList());
@@ -113,6 +200,9 @@ public class LibroServiceImpl implements LibroService {
     @Override
     @Transactional(readOnly = true)
     public List<LibroResponse> obtenerLibrosPorEstado(EstadoLibro estado) {
+        if (catalogoLibros.estaListo()) {
+            return catalogoLibros.obtenerPorEstado(estado);
+        }
         return libroRepository.findByEstado(estado).stream()
                 .map(this::convertirAResponse)
                 .collect(Collectors.toList());
@@ -121,6 +211,9 @@ public class LibroServiceImpl implements LibroService {
     @Override
     @Transactional(readOnly = true)
     public List<LibroResponse> obtenerLibrosDisponibles() {
+        if (catalogoLibros.estaListo()) {
+            return catalogoLibros.obtenerPorEstado(EstadoLibro.DISPONIBLE);
+        }
         return libroRepository.findLibrosDisponibles().stream()
                 .map(this::convertirAResponse)
                 .collect(Collectors.toList());
@@ -129,11 +222,49 @@ public class LibroServiceImpl implements LibroService {
     @Override
     @Transactional(readOnly = true)
     public boolean estaDisponible(Long idLibro) {
+        if (disponibilidadLibros.estaListo() && disponibilidadLibros.cubre(idLibro)) {
+            return disponibilidadLibros.estaDisponible(idLibro);
+        }
+        if (catalogoLibros.estaListo()) {
+            LibroResponse libro = catalogoLibros.obtener(idLibro);
+            if (libro != null) {
+                return libro.getEstado() == EstadoLibro.DISPONIBLE;
+            }
+        }
         return libroRepository.findById(idLibro)
                 .map(Libro::estaDisponible)
                 .orElse(false);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> obtenerDisponibilidad(List<Long> idsLibros) {
+        if (idsLibros.size() > MAXIMO_IDS_DISPONIBILIDAD) {
+            throw new OperationNotAllowedException("No se puede consultar la disponibilidad de más de "
+                    + MAXIMO_IDS_DISPONIBILIDAD + " libros por vez");
+        }
+
+        Map<Long, Boolean> disponibilidad = new LinkedHashMap<>();
+        for (Long idLibro : idsLibros) {
+            disponibilidad.put(idLibro, estaDisponible(idLibro));
+        }
+        return disponibilidad;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LibroResponse obtenerLibroPorIsbn(String isbn) {
+        if (catalogoLibros.estaListo()) {
+            LibroResponse libro = catalogoLibros.obtenerPorIsbn(isbn);
+            if (libro != null) {
+                return libro;
+            }
+        }
+        Libro libro = libroRepository.findByIsbn(isbn)
+                .orElseThrow(() -> new ResourceNotFoundException("Libro no encontrado con ISBN: " + isbn));
+        return convertirAResponse(libro);
+    }
+
     @Override
     @Transactional
     public void eliminarLibro(Long id) {
@@ -144,11 +275,14 @@ public class LibroServiceImpl implements LibroService {
             throw new OperationNotAllowedException("No se puede eliminar un libro que está prestado");
         }
 
+        Long idCategoria = libro.getCategoria().getIdCategoria();
         libroRepository.delete(libro);
         logger.info("Libro eliminado exitosamente con ID: {}", id);
+
+        eventPublisher.publishEvent(new LibroEliminadoEvent(id, idCategoria));
     }
 
-    private LibroResponse convertirAResponse(Libro libro) {
+    LibroResponse convertirAResponse(Libro libro) {
         LibroResponse response = new LibroResponse();
         response.setIdLibro(libro.getIdLibro());
         response.setTitulo(libro.getTitulo());
@@ -166,4 +300,23 @@ public class LibroServiceImpl implements LibroService {
 
         return response;
     }
+
+    LibroResponse convertirAResponse(LibroIndexado libro) {
+        LibroResponse response = new LibroResponse();
+        response.setIdLibro(libro.getIdLibro());
+        response.setTitulo(libro.getTitulo());
+        response.setAutor(libro.getAutor());
+        response.setIsbn(libro.getIsbn());
+        response.setEstado(libro.getEstado());
+
+        if (libro.getIdCategoria() != null) {
+            LibroResponse.CategoriaInfo categoriaInfo = new LibroResponse.CategoriaInfo();
+            categoriaInfo.setIdCategoria(libro.getIdCategoria());
+            categoriaInfo.setNombre(libro.getCategoriaNombre());
+            categoriaInfo.setDescripcion(libro.getCategoriaDescripcion());
+            response.setCategoria(categoriaInfo);
+        }
+
+        return response;
+    }
 }
\ No newline at end of file
@@ -5,10 +5,14 @@ import com.biblioteca.dto.response.MultaResponse;
 import com.biblioteca.dto.response.PrestamoResponse;
 import com.biblioteca.exception.OperationNotAllowedException;
 import com.biblioteca.exception.ResourceNotFoundException;
+import com.biblioteca.model.entity.EvaluacionMultaPendiente;
 import com.biblioteca.model.entity.Multa;
 import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.model.entity.SaldoMultaSocio;
+import com.biblioteca.repository.EvaluacionMultaPendienteRepository;
 import com.biblioteca.repository.MultaRepository;
 import com.biblioteca.repository.PrestamoRepository;
+import com.biblioteca.repository.SaldoMultaSocioRepository;
 import com.biblioteca.service.MultaService;
 import com.biblioteca.strategy.MultaStrategy;
 import com.biblioteca.strategy.MultaPorRetraso;
@@ -16,11 +20,21 @@ import com.biblioteca.strategy.MultaPorDanio;
 import com.biblioteca.strategy.SinMulta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,17 +42,28 @@ import java.util.stream.Collectors;
 public class MultaServiceImpl implements MultaService {
 
     private static final Logger logger = LoggerFactory.getLogger(MultaServiceImpl.class);
+    private static final int MAXIMO_INTENTOS_EVALUACION = 5;
     private final MultaRepository multaRepository;
     private final PrestamoRepository prestamoRepository;
+    private final EvaluacionMultaPendienteRepository evaluacionMultaPendienteRepository;
+    private final SaldoMultaSocioRepository saldoMultaSocioRepository;
     private final List<MultaStrategy> estrategiasMulta;
+    private final TransactionTemplate transaccionPorEvaluacion;
 
-    public MultaServiceImpl(MultaRepository multaRepository, PrestamoRepository prestamoRepository) {
+    public MultaServiceImpl(MultaRepository multaRepository, PrestamoRepository prestamoRepository,
+                            EvaluacionMultaPendienteRepository evaluacionMultaPendienteRepository,
+                            SaldoMultaSocioRepository saldoMultaSocioRepository,
+                            PlatformTransactionManager transactionManager) {
         this.multaRepository = multaRepository;
         this.prestamoRepository = prestamoRepository;
+        this.evaluacionMultaPendienteRepository = evaluacionMultaPendienteRepository;
+        this.saldoMultaSocioRepository = saldoMultaSocioRepository;
         this.estrategiasMulta = new ArrayList<>();
         this.estrategiasMulta.add(new MultaPorRetraso());
         this.estrategiasMulta.add(new MultaPorDanio());
         this.estrategiasMulta.add(new SinMulta());
+        this.transaccionPorEvaluacion = new TransactionTemplate(transactionManager);
+        this.transaccionPorEvaluacion.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Override
@@ -69,6 +94,7 @@ public class MultaServiceImpl implements MultaService {
         multa.setPagada(false);
 
         Multa multaGuardada = multaRepository.save(multa);
+        acumularSaldo(multaGuardada.getIdSocio(), multaGuardada.getMonto(), 1);
         prestamo.setMulta(multaGuardada);
         prestamoRepository.save(prestamo);
 
@@ -86,38 +112,142 @@ public class MultaServiceImpl implements MultaService {
         Prestamo prestamo = prestamoRepository.findById(idPrestamo)
                 .orElseThrow(() -> new ResourceNotFoundException("Préstamo no encontrado con ID: " + idPrestamo));
 
-        if (prestamo.estaActivo()) {
-            throw new OperationNotAllowedException("No se puede generar multa para un préstamo activo");
+        if (!prestamo.estaFinalizado()) {
+            throw new OperationNotAllowedException("No se puede generar multa para un préstamo sin devolver. Estado actual: " +
+                                                  prestamo.getEstado());
         }
 
         if (prestamo.tieneMulta()) {
             throw new OperationNotAllowedException("Ya existe una multa para este préstamo");
         }
 
-        int diasRetraso = prestamo.calcularDiasRetraso();
-        MultaStrategy estrategiaAplicable = determinarEstrategiaAplicable(prestamo, diasRetraso);
-        BigDecimal monto = estrategiaAplicable.calcularMonto(prestamo, diasRetraso);
-        String motivo = estrategiaAplicable.obtenerMotivo(diasRetraso);
+        Multa multaGuardada = generarMultaSiCorresponde(prestamo);
+        return multaGuardada != null ? convertirAResponse(multaGuardada) : null;
+    }
 
-        if (monto.compareTo(BigDecimal.ZERO) == 0) {
-            logger.info("No se genera multa para préstamo ID: {} - Motivo: {}", idPrestamo, motivo);
-            return null;
+    /**
+     * Cada evaluación se procesa en su propia transacción: un préstamo que falla no revierte las
+     * multas ya generadas del lote, y el fallo se registra aparte para que cuente el intento.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int procesarEvaluacionesPendientes(int tamanioLote) {
+        List<Long> idsEvaluaciones = evaluacionMultaPendienteRepository
+                .findIdsParaProcesar(MAXIMO_INTENTOS_EVALUACION, Limit.of(tamanioLote));
+        if (idsEvaluaciones.isEmpty()) {
+            return 0;
         }
 
-        Multa multa = new Multa();
-        multa.setMonto(monto);
-        multa.setMotivo(motivo);
-        multa.setPrestamo(prestamo);
-        multa.setPagada(false);
+        int multasGeneradas = 0;
+        int fallidas = 0;
+        for (Long idEvaluacion : idsEvaluaciones) {
+            try {
+                if (Boolean.TRUE.equals(transaccionPorEvaluacion.execute(estado -> evaluarMulta(idEvaluacion)))) {
+                    multasGeneradas++;
+                }
+            } catch (RuntimeException e) {
+                fallidas++;
+                registrarFalloEvaluacion(idEvaluacion, e);
+            }
+        }
 
-        Multa multaGuardada = multaRepository.save(multa);
-        prestamo.setMulta(multaGuardada);
-        prestamoRepository.save(prestamo);
+        logger.info("Lote de evaluaciones de multa procesado: {} evaluadas, {} multas generadas, {} fallidas",
+                   idsEvaluaciones.size(), multasGeneradas, fallidas);
+        return idsEvaluaciones.size();
+    }
 
-        logger.info("Multa generada exitosamente con ID: {} para préstamo ID: {}", 
-                   multaGuardada.getIdMulta(), idPrestamo);
+    /**
+     * Evaluaciones que agotaron sus intentos: ya no las toma el job y quedan a la espera de
+     * {@link #reencolarEvaluacionesAgotadas()}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long contarEvaluacionesAgotadas() {
+        return evaluacionMultaPendienteRepository.countByIntentosGreaterThanEqual(MAXIMO_INTENTOS_EVALUACION);
+    }
 
-        return convertirAResponse(multaGuardada);
+    /**
+     * Devuelve a la cola las evaluaciones agotadas, con los intentos en cero, una vez corregida la causa
+     * del fallo. Se conserva el último error hasta el próximo intento.
+     */
+    @Override
+    @Transactional
+    public int reencolarEvaluacionesAgotadas() {
+        int reencoladas = evaluacionMultaPendienteRepository.reencolarAgotadas(MAXIMO_INTENTOS_EVALUACION);
+        logger.info("{} evaluaciones de multa agotadas devueltas a la cola", reencoladas);
+        return reencoladas;
+    }
+
+    private boolean evaluarMulta(Long idEvaluacion) {
+        EvaluacionMultaPendiente evaluacion = evaluacionMultaPendienteRepository
+                .findParaProcesar(idEvaluacion, MAXIMO_INTENTOS_EVALUACION)
+                .orElse(null);
+        if (evaluacion == null) {
+            return false;
+        }
+
+        Prestamo prestamo = prestamoRepository.findByIdInConDetalle(List.of(evaluacion.getIdPrestamo())).stream()
+                .findFirst()
+                .orElse(null);
+        boolean generada = prestamo != null && !prestamo.tieneMulta() && prestamo.estaFinalizado()
+                && generarMultaSiCorresponde(prestamo) != null;
+        evaluacionMultaPendienteRepository.delete(evaluacion);
+        return generada;
+    }
+
+    private void registrarFalloEvaluacion(Long idEvaluacion, RuntimeException error) {
+        String mensaje = NestedExceptionUtils.getMostSpecificCause(error).getMessage();
+        try {
+            transaccionPorEvaluacion.executeWithoutResult(estado ->
+                    evaluacionMultaPendienteRepository.findById(idEvaluacion).ifPresent(evaluacion -> {
+                        logger.error("Error al evaluar multa para préstamo ID {} (intento {}): {}",
+                                    evaluacion.getIdPrestamo(), evaluacion.getIntentos() + 1, mensaje);
+                        evaluacion.registrarFallo(mensaje);
+                        if (evaluacion.getIntentos() >= MAXIMO_INTENTOS_EVALUACION) {
+                            logger.error("La evaluación de multa del préstamo ID {} agotó sus {} intentos y queda " +
+                                        "detenida hasta que se reencole", evaluacion.getIdPrestamo(), MAXIMO_INTENTOS_EVALUACION);
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            logger.error("No se pudo registrar el fallo de la evaluación {}: {}", idEvaluacion, e.getMessage());
+        }
+    }
+
+    /**
+     * Evalúa la cadena de estrategias sobre préstamos ya finalizados e inserta todas las multas
+     * resultantes en un solo saveAll, ajustando el saldo una vez por socio.
+     */
+    @Override
+    @Transactional
+    public List<Multa> generarMultasEnLote(List<Prestamo> prestamos) {
+        List<Multa> multas = new ArrayList<>();
+        for (Prestamo prestamo : prestamos) {
+            if (!prestamo.tieneMulta() && prestamo.estaFinalizado()) {
+                Multa multa = construirMultaSiCorresponde(prestamo);
+                if (multa != null) {
+                    multas.add(multa);
+                }
+            }
+        }
+        if (multas.isEmpty()) {
+            return multas;
+        }
+
+        multaRepository.saveAll(multas);
+
+        Map<Long, BigDecimal> montoPorSocio = new HashMap<>();
+        Map<Long, Integer> cantidadPorSocio = new HashMap<>();
+        for (Multa multa : multas) {
+            multa.getPrestamo().setMulta(multa);
+            if (multa.getIdSocio() != null) {
+                montoPorSocio.merge(multa.getIdSocio(), multa.getMonto(), BigDecimal::add);
+                cantidadPorSocio.merge(multa.getIdSocio(), 1, Integer::sum);
+            }
+        }
+        montoPorSocio.forEach((idSocio, monto) -> acumularSaldo(idSocio, monto, cantidadPorSocio.get(idSocio)));
+
+        logger.info("{} multas generadas en lote para {} préstamos", multas.size(), prestamos.size());
+        return multas;
     }
 
     @Override
@@ -170,6 +300,7 @@ public class MultaServiceImpl implements MultaService {
 
         multa.marcarComoPagada();
         Multa multaActualizada = multaRepository.save(multa);
+        acumularSaldo(multaActualizada.getIdSocio(), multaActualizada.getMonto().negate(), -1);
         
         logger.info("Multa ID: {} marcada como pagada", idMulta);
         return convertirAResponse(multaActualizada);
@@ -179,19 +310,83 @@ public class MultaServiceImpl implements MultaService {
     @Transactional(readOnly = true)
     public Double calcularTotalMultasPendientes(Long idSocio) {
         logger.debug("Calculando total de multas pendientes para socio ID: {}", idSocio);
-        BigDecimal total = multaRepository.sumMultasActivasBySocioId(idSocio);
-        return total != null ? total.doubleValue() : 0.0;
+        return saldoPendiente(idSocio).doubleValue();
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean tieneMultasPendientes(Long idSocio) {
         logger.debug("Verificando si socio ID: {} tiene multas pendientes", idSocio);
-        BigDecimal total = multaRepository.sumMultasActivasBySocioId(idSocio);
-        return total != null && total.compareTo(BigDecimal.ZERO) > 0;
+        return saldoPendiente(idSocio).compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    /**
+     * Completa el id_socio de las multas anteriores a la columna y, si el saldo por socio
+     * todavía está vacío, lo arma a partir de las multas impagas.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void completarSaldosDeMultas() {
+        int multasCompletadas = multaRepository.completarIdSocio();
+        if (multasCompletadas > 0) {
+            logger.info("Socio completado en {} multas existentes", multasCompletadas);
+        }
+        if (saldoMultaSocioRepository.count() == 0) {
+            int socios = saldoMultaSocioRepository.reconstruirDesdeMultas();
+            logger.info("Saldo de multas inicializado para {} socios", socios);
+        }
+    }
+
+    private BigDecimal saldoPendiente(Long idSocio) {
+        return saldoMultaSocioRepository.findById(idSocio)
+                .map(SaldoMultaSocio::getSaldoPendiente)
+                .orElse(BigDecimal.ZERO);
+    }
+
+    private void acumularSaldo(Long idSocio, BigDecimal monto, int cantidad) {
+        if (idSocio == null) {
+            return;
+        }
+        saldoMultaSocioRepository.crearSiNoExiste(idSocio);
+        saldoMultaSocioRepository.ajustar(idSocio, monto, cantidad);
+    }
+
+    private Multa generarMultaSiCorresponde(Prestamo prestamo) {
+        Multa multa = construirMultaSiCorresponde(prestamo);
+        if (multa == null) {
+            return null;
+        }
+
+        Multa multaGuardada = multaRepository.save(multa);
+        acumularSaldo(multaGuardada.getIdSocio(), multaGuardada.getMonto(), 1);
+        prestamo.setMulta(multaGuardada);
+
+        logger.info("Multa generada exitosamente con ID: {} para préstamo ID: {}", 
+                   multaGuardada.getIdMulta(), prestamo.getIdPrestamo());
+        return multaGuardada;
+    }
+
+    private Multa construirMultaSiCorresponde(Prestamo prestamo) {
+        int diasRetraso = prestamo.calcularDiasRetraso();
+        MultaStrategy estrategiaAplicable = determinarEstrategiaAplicable(prestamo, diasRetraso);
+        BigDecimal monto = estrategiaAplicable.calcularMonto(prestamo, diasRetraso);
+        String motivo = estrategiaAplicable.obtenerMotivo(diasRetraso);
+
+        if (monto.compareTo(BigDecimal.ZERO) == 0) {
+            logger.info("No se genera multa para préstamo ID: {} - Motivo: {}", prestamo.getIdPrestamo(), motivo);
+            return null;
+        }
+
+        Multa multa = new Multa();
+        multa.setMonto(monto);
+        multa.setMotivo(motivo);
+        multa.setPrestamo(prestamo);
+        multa.setPagada(false);
+        return multa;
     }
 
-    private MultaStrategy determinarEstrategiaAplicable(Prestamo prestamo, int diasRetraso) {
+    MultaStrategy determinarEstrategiaAplicable(Prestamo prestamo, int diasRetraso) {
         for (MultaStrategy estrategia : estrategiasMulta) {
             if (estrategia.aplica(prestamo, diasRetraso)) {
                 logger.debug("Estrategia aplicable: {}", estrategia.getClass().getSimpleName());
@@ -201,7 +396,7 @@ public class MultaServiceImpl implements MultaService {
         return new SinMulta();
     }
 
-    private MultaResponse convertirAResponse(Multa multa) {
+    MultaResponse convertirAResponse(Multa multa) {
         MultaResponse response = new MultaResponse();
         response.setIdMulta(multa.getIdMulta());
         response.setMonto(multa.getMonto());
@@ -216,7 +411,7 @@ public class MultaServiceImpl implements MultaService {
             prestamoResponse.setFechaFinPrevista(multa.getPrestamo().getFechaFinPrevista());
             prestamoResponse.setFechaDevolucionReal(multa.getPrestamo().getFechaDevolucionReal());
             prestamoResponse.setEstado(multa.getPrestamo().getEstado());
-            prestamoResponse.setActivo(multa.getPrestamo().estaActivo());
+            prestamoResponse.setActivo(!multa.getPrestamo().estaFinalizado());
             prestamoResponse.setDiasRetraso(multa.getPrestamo().calcularDiasRetraso());
             prestamoResponse.setTieneMulta(multa.getPrestamo().tieneMulta());
             
@@ -1,29 +1,49 @@
 package com.biblioteca.service.impl;
 
+import com.biblioteca.dto.request.CreatePrestamoLoteRequest;
 import com.biblioteca.dto.request.CreatePrestamoRequest;
+import com.biblioteca.dto.request.DevolucionLoteRequest;
 import com.biblioteca.dto.request.DevolucionPrestamoRequest;
+import com.biblioteca.dto.response.DevolucionLoteResponse;
 import com.biblioteca.dto.response.LibroResponse;
-import com.biblioteca.dto.response.MultaResponse;
 import com.biblioteca.dto.response.PrestamoResponse;
 import com.biblioteca.dto.response.SocioResponse;
+import com.biblioteca.event.EstadoLibrosCambiadoEvent;
 import com.biblioteca.exception.OperationNotAllowedException;
 import com.biblioteca.exception.ResourceNotFoundException;
+import com.biblioteca.model.entity.EvaluacionMultaPendiente;
 import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Multa;
 import com.biblioteca.model.entity.Prestamo;
 import com.biblioteca.model.entity.Socio;
+import com.biblioteca.model.enums.EstadoLibro;
 import com.biblioteca.model.enums.EstadoPrestamo;
+import com.biblioteca.repository.EvaluacionMultaPendienteRepository;
 import com.biblioteca.repository.LibroRepository;
 import com.biblioteca.repository.PrestamoRepository;
 import com.biblioteca.repository.SocioRepository;
 import com.biblioteca.service.MultaService;
 import com.biblioteca.service.PrestamoService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,20 +52,36 @@ public class PrestamoServiceImpl implements PrestamoService {
 
     private static final Logger logger = LoggerFactory.getLogger(PrestamoServiceImpl.class);
     private static final int DIAS_PRESTAMO = 15;
+    private static final int MAXIMO_SOCIOS_POR_CONSULTA = 1000;
+    private static final int MAXIMO_DEVOLUCIONES_POR_LOTE = 1000;
+    private static final int MAXIMO_LIBROS_POR_RETIRO = 50;
 
     private final PrestamoRepository prestamoRepository;
     private final LibroRepository libroRepository;
     private final SocioRepository socioRepository;
+    private final EvaluacionMultaPendienteRepository evaluacionMultaPendienteRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final MultaService multaService;
+    private final TransactionTemplate transaccionPorLote;
+    private final int tamanioLoteVencidos;
 
     public PrestamoServiceImpl(PrestamoRepository prestamoRepository, 
                          LibroRepository libroRepository, 
                          SocioRepository socioRepository,
-                         MultaService multaService) {
+                         EvaluacionMultaPendienteRepository evaluacionMultaPendienteRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         MultaService multaService,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${prestamos.vencidos.tamanio-lote:5000}") int tamanioLoteVencidos) {
         this.prestamoRepository = prestamoRepository;
         this.libroRepository = libroRepository;
         this.socioRepository = socioRepository;
+        this.evaluacionMultaPendienteRepository = evaluacionMultaPendienteRepository;
+        this.eventPublisher = eventPublisher;
         this.multaService = multaService;
+        this.transaccionPorLote = new TransactionTemplate(transactionManager);
+        this.transaccionPorLote.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tamanioLoteVencidos = tamanioLoteVencidos;
     }
 
     @Override
@@ -53,16 +89,25 @@ public class PrestamoServiceImpl implements PrestamoService {
     public PrestamoResponse crearPrestamo(CreatePrestamoRequest request) {
         logger.info("Creando nuevo préstamo: {}", request);
 
-        Libro libro = libroRepository.findById(request.getIdLibro())
-                .orElseThrow(() -> new ResourceNotFoundException("Libro no encontrado con ID: " + request.getIdLibro()));
+        if (!socioRepository.existsById(request.getIdSocio())) {
+            throw new ResourceNotFoundException("Socio no encontrado con ID: " + request.getIdSocio());
+        }
 
-        if (!libro.estaDisponible()) {
+        // El UPDATE condicional reserva el libro de forma atómica: solo un préstamo concurrente puede ganarlo.
+        // Limpia el contexto de persistencia, así que las entidades se cargan después
+        if (libroRepository.marcarComoPrestadoSiDisponible(request.getIdLibro()) == 0) {
+            if (!libroRepository.existsById(request.getIdLibro())) {
+                throw new ResourceNotFoundException("Libro no encontrado con ID: " + request.getIdLibro());
+            }
             throw new OperationNotAllowedException("El libro no está disponible para préstamo");
         }
 
         Socio socio = socioRepository.findById(request.getIdSocio())
                 .orElseThrow(() -> new ResourceNotFoundException("Socio no encontrado con ID: " + request.getIdSocio()));
 
+        Libro libro = libroRepository.findById(request.getIdLibro())
+                .orElseThrow(() -> new ResourceNotFoundException("Libro no encontrado con ID: " + request.getIdLibro()));
+
         Prestamo prestamo = new Prestamo();
         prestamo.setLibro(libro);
         prestamo.setSocio(socio);
@@ -73,18 +118,80 @@ public class PrestamoServiceImpl implements PrestamoService {
         }
 
         prestamo.setFechaFinPrevista(request.getFechaFin());
-        libro.marcarComoPrestado();
         Prestamo prestamoGuardado = prestamoRepository.save(prestamo);
+        eventPublisher.publishEvent(new EstadoLibrosCambiadoEvent(List.of(libro.getIdLibro()), EstadoLibro.PRESTADO));
         
         logger.info("Préstamo creado exitosamente con ID: {}", prestamoGuardado.getIdPrestamo());
         return convertirAResponse(prestamoGuardado);
     }
 
+    /**
+     * Presta varios libros al mismo socio en una transacción: el socio se valida una vez, un único
+     * UPDATE condicional reserva todos los libros y, si alguno no se pudo reservar, no se presta ninguno.
+     */
+    @Override
+    @Transactional
+    public List<PrestamoResponse> crearPrestamosEnLote(CreatePrestamoLoteRequest request) {
+        List<Long> idsLibros = request.getIdsLibros();
+        if (idsLibros == null || idsLibros.isEmpty()) {
+            throw new OperationNotAllowedException("Debe indicar al menos un libro");
+        }
+        if (idsLibros.size() > MAXIMO_LIBROS_POR_RETIRO) {
+            throw new OperationNotAllowedException("No se pueden prestar más de " + MAXIMO_LIBROS_POR_RETIRO +
+                                                   " libros en una misma operación");
+        }
+        Set<Long> idsDistintos = new HashSet<>(idsLibros);
+        if (idsDistintos.size() != idsLibros.size()) {
+            throw new OperationNotAllowedException("El mismo libro figura más de una vez en el pedido");
+        }
+        logger.info("Creando {} préstamos para socio ID: {}", idsLibros.size(), request.getIdSocio());
+
+        if (!socioRepository.existsById(request.getIdSocio())) {
+            throw new ResourceNotFoundException("Socio no encontrado con ID: " + request.getIdSocio());
+        }
+
+        // Igual que en crearPrestamo, el UPDATE limpia el contexto de persistencia antes de cargar las entidades
+        if (libroRepository.marcarComoPrestadosSiDisponibles(idsDistintos) != idsDistintos.size()) {
+            // La excepción revierte también los libros que sí se alcanzaron a reservar
+            Set<Long> idsExistentes = libroRepository.findAllById(idsDistintos).stream()
+                    .map(Libro::getIdLibro)
+                    .collect(Collectors.toSet());
+            for (Long idLibro : idsLibros) {
+                if (!idsExistentes.contains(idLibro)) {
+                    throw new ResourceNotFoundException("Libro no encontrado con ID: " + idLibro);
+                }
+            }
+            throw new OperationNotAllowedException("Alguno de los libros solicitados no está disponible para préstamo");
+        }
+
+        Socio socio = socioRepository.findById(request.getIdSocio())
+                .orElseThrow(() -> new ResourceNotFoundException("Socio no encontrado con ID: " + request.getIdSocio()));
+        Map<Long, Libro> libros = libroRepository.findAllById(idsDistintos).stream()
+                .collect(Collectors.toMap(Libro::getIdLibro, libro -> libro));
+        List<Prestamo> prestamos = new ArrayList<>();
+        for (Long idLibro : idsLibros) {
+            Prestamo prestamo = new Prestamo();
+            prestamo.setLibro(libros.get(idLibro));
+            prestamo.setSocio(socio);
+            prestamo.setEstado(EstadoPrestamo.ACTIVO);
+            if (request.getFechaInicio() != null) {
+                prestamo.setFechaInicio(request.getFechaInicio());
+            }
+            prestamo.setFechaFinPrevista(request.getFechaFin());
+            prestamos.add(prestamo);
+        }
+        List<Prestamo> prestamosGuardados = prestamoRepository.saveAll(prestamos);
+        eventPublisher.publishEvent(new EstadoLibrosCambiadoEvent(idsLibros, EstadoLibro.PRESTADO));
+
+        logger.info("{} préstamos creados para socio ID: {}", prestamosGuardados.size(), socio.getIdSocio());
+        return convertirAResponses(prestamosGuardados);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PrestamoResponse obtenerPrestamoPorId(Long id) {
         logger.debug("Buscando préstamo por ID: {}", id);
-        Prestamo prestamo = prestamoRepository.findById(id)
+        Prestamo prestamo = prestamoRepository.findByIdConDetalle(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Préstamo no encontrado con ID: " + id));
         return convertirAResponse(prestamo);
     }
@@ -93,9 +200,7 @@ public class PrestamoServiceImpl implements PrestamoService {
     @Transactional(readOnly = true)
     public List<PrestamoResponse> obtenerTodosLosPrestamos() {
         logger.debug("Obteniendo todos los préstamos");
-        return prestamoRepository.findAll().stream()
-                .map(this::convertirAResponse)
-                .collect(Collectors.toList());
+        return convertirAResponses(prestamoRepository.findAllConDetalle());
     }
 
     @Override
@@ -105,21 +210,17 @@ public class PrestamoServiceImpl implements PrestamoService {
             throw new ResourceNotFoundException("Socio no encontrado con ID: " + idSocio);
         }
         
-        List<Prestamo> prestamosActivos = prestamoRepository.findPrestamosActivosBySocioId(idSocio);
+        List<Prestamo> prestamosActivos = prestamoRepository.findPrestamosActivosBySocioIdConDetalle(idSocio);
         logger.info("Encontrados {} préstamos activos para socio ID: {}", prestamosActivos.size(), idSocio);
         
-        return prestamosActivos.stream()
-                .map(this::convertirAResponse)
-                .collect(Collectors.toList());
+        return convertirAResponses(prestamosActivos);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PrestamoResponse> obtenerPrestamosActivos() {
         logger.debug("Obteniendo todos los préstamos activos");
-        return prestamoRepository.findByEstado(EstadoPrestamo.ACTIVO).stream()
-                .map(this::convertirAResponse)
-                .collect(Collectors.toList());
+        return convertirAResponses(prestamoRepository.findEnCursoConDetalle());
     }
 
     @Override
@@ -130,7 +231,7 @@ public class PrestamoServiceImpl implements PrestamoService {
         Prestamo prestamo = prestamoRepository.findById(idPrestamo)
                 .orElseThrow(() -> new ResourceNotFoundException("Préstamo no encontrado con ID: " + idPrestamo));
 
-        if (!prestamo.estaActivo()) {
+        if (prestamo.estaFinalizado()) {
             throw new OperationNotAllowedException("El préstamo ya ha sido devuelto o no está activo");
         }
 
@@ -142,46 +243,144 @@ public class PrestamoServiceImpl implements PrestamoService {
         Prestamo prestamoActualizado = prestamoRepository.save(prestamo);
         logger.info("Devolución procesada exitosamente para préstamo ID: {}", idPrestamo);
 
-        try {
-            generarMultaAutomaticaSiCorresponde(prestamoActualizado);
-        } catch (Exception e) {
-            logger.error("Error al generar multa automática para préstamo {}: {}", idPrestamo, e.getMessage());
-        }
+        Long idLibro = prestamoActualizado.getLibro().getIdLibro();
+        libroRepository.marcarComoDisponibles(List.of(idLibro));
+        eventPublisher.publishEvent(new EstadoLibrosCambiadoEvent(List.of(idLibro), EstadoLibro.DISPONIBLE));
+
+        encolarEvaluacionMultaSiCorresponde(prestamoActualizado);
 
         return convertirAResponse(prestamoActualizado);
     }
 
-    private void generarMultaAutomaticaSiCorresponde(Prestamo prestamo) {
-        boolean debeGenerarMulta = false;
-        
-        if (prestamo.getEstadoDevolucion() != null && prestamo.getEstadoDevolucion().isAplicaMulta()) {
-            debeGenerarMulta = true;
-            logger.info("Multa por daño aplicada para préstamo ID: {} - Estado: {}", 
-                       prestamo.getIdPrestamo(), prestamo.getEstadoDevolucion());
+    /**
+     * Registra las devoluciones del buzón en una sola transacción: una consulta trae todos los préstamos,
+     * los préstamos se actualizan en lotes JDBC, los libros con un solo UPDATE y las multas se insertan juntas.
+     * Los ítems inválidos se informan en el reporte sin impedir el resto de las devoluciones.
+     */
+    @Override
+    @Transactional
+    public DevolucionLoteResponse devolverPrestamosEnLote(DevolucionLoteRequest request) {
+        List<DevolucionLoteRequest.ItemDevolucion> items = request.getDevoluciones();
+        if (items == null || items.isEmpty()) {
+            throw new OperationNotAllowedException("Debe indicar al menos una devolución");
         }
-        
-        int diasRetraso = prestamo.calcularDiasRetraso();
-        if (diasRetraso > 0) {
-            debeGenerarMulta = true;
-            logger.info("Multa por retraso aplicada para préstamo ID: {} ({} días)", 
-                       prestamo.getIdPrestamo(), diasRetraso);
+        if (items.size() > MAXIMO_DEVOLUCIONES_POR_LOTE) {
+            throw new OperationNotAllowedException("No se pueden registrar más de " + MAXIMO_DEVOLUCIONES_POR_LOTE +
+                                                   " devoluciones por pedido");
         }
-        
-        if (debeGenerarMulta && !prestamo.tieneMulta()) {
-            try {
-                MultaResponse multaGenerada = multaService.generarMultaPorPrestamo(prestamo.getIdPrestamo());
-                if (multaGenerada != null) {
-                    logger.info("Multa automática generada exitosamente con ID: {} para préstamo ID: {}", 
-                               multaGenerada.getIdMulta(), prestamo.getIdPrestamo());
-                } else {
-                    logger.info("No se generó multa automática para préstamo ID: {}", prestamo.getIdPrestamo());
-                }
-            } catch (Exception e) {
-                logger.error("Error al generar multa automática para préstamo {}: {}", 
-                           prestamo.getIdPrestamo(), e.getMessage());
+        logger.info("Procesando devolución en lote de {} ítems", items.size());
+
+        Set<Long> ids = new HashSet<>();
+        Set<String> isbns = new HashSet<>();
+        for (DevolucionLoteRequest.ItemDevolucion item : items) {
+            if (item.getIdPrestamo() != null) {
+                ids.add(item.getIdPrestamo());
+            } else if (item.getIsbn() != null && !item.getIsbn().isBlank()) {
+                isbns.add(item.getIsbn().trim());
             }
-        } else if (prestamo.tieneMulta()) {
+        }
+
+        Map<Long, Prestamo> prestamosPorId = new HashMap<>();
+        Map<String, Prestamo> prestamosActivosPorIsbn = new HashMap<>();
+        for (Prestamo prestamo : prestamoRepository.findParaDevolucionConDetalle(ids, isbns)) {
+            prestamosPorId.put(prestamo.getIdPrestamo(), prestamo);
+            if (!prestamo.estaFinalizado() && isbns.contains(prestamo.getLibro().getIsbn())) {
+                prestamosActivosPorIsbn.put(prestamo.getLibro().getIsbn(), prestamo);
+            }
+        }
+
+        DevolucionLoteResponse response = new DevolucionLoteResponse();
+        Map<Long, DevolucionLoteResponse.ResultadoDevolucion> resultadosPorPrestamo = new HashMap<>();
+        List<Prestamo> devueltos = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            DevolucionLoteRequest.ItemDevolucion item = items.get(i);
+            DevolucionLoteResponse.ResultadoDevolucion resultado =
+                    new DevolucionLoteResponse.ResultadoDevolucion(i + 1, item.getIdPrestamo(), item.getIsbn());
+            response.getResultados().add(resultado);
+
+            Prestamo prestamo = item.getIdPrestamo() != null
+                    ? prestamosPorId.get(item.getIdPrestamo())
+                    : item.getIsbn() != null ? prestamosActivosPorIsbn.get(item.getIsbn().trim()) : null;
+            String rechazo = motivoRechazoDevolucion(item, prestamo, resultadosPorPrestamo);
+            if (rechazo != null) {
+                resultado.setDevuelto(false);
+                resultado.setMensaje(rechazo);
+                continue;
+            }
+
+            prestamo.setEstadoDevolucion(item.getEstadoDevolucion());
+            prestamo.setObservacionesDevolucion(item.getObservaciones());
+            prestamo.setTieneDanio(item.getEstadoDevolucion().isAplicaMulta());
+            prestamo.finalizarPrestamo();
+
+            resultado.setIdPrestamo(prestamo.getIdPrestamo());
+            resultado.setDevuelto(true);
+            resultado.setDiasRetraso(prestamo.calcularDiasRetraso());
+            resultadosPorPrestamo.put(prestamo.getIdPrestamo(), resultado);
+            devueltos.add(prestamo);
+        }
+
+        List<Multa> multas = multaService.generarMultasEnLote(devueltos);
+        BigDecimal montoMultas = BigDecimal.ZERO;
+        for (Multa multa : multas) {
+            DevolucionLoteResponse.ResultadoDevolucion resultado = resultadosPorPrestamo.get(multa.getPrestamo().getIdPrestamo());
+            resultado.setIdMulta(multa.getIdMulta());
+            resultado.setMontoMulta(multa.getMonto());
+            resultado.setMensaje(multa.getMotivo());
+            montoMultas = montoMultas.add(multa.getMonto());
+        }
+
+        List<Long> idsLibros = devueltos.stream()
+                .map(prestamo -> prestamo.getLibro().getIdLibro())
+                .collect(Collectors.toList());
+        if (!idsLibros.isEmpty()) {
+            libroRepository.marcarComoDisponibles(idsLibros);
+        }
+        eventPublisher.publishEvent(new EstadoLibrosCambiadoEvent(idsLibros, EstadoLibro.DISPONIBLE));
+
+        response.setDevueltos(devueltos.size());
+        response.setRechazados(items.size() - devueltos.size());
+        response.setMultasGeneradas(multas.size());
+        response.setMontoMultas(montoMultas);
+
+        logger.info("Devolución en lote procesada: {} devueltos, {} rechazados, {} multas generadas",
+                   response.getDevueltos(), response.getRechazados(), response.getMultasGeneradas());
+        return response;
+    }
+
+    private String motivoRechazoDevolucion(DevolucionLoteRequest.ItemDevolucion item, Prestamo prestamo,
+                                           Map<Long, DevolucionLoteResponse.ResultadoDevolucion> resultadosPorPrestamo) {
+        if (item.getEstadoDevolucion() == null) {
+            return "El estado de devolución es obligatorio";
+        }
+        if (item.getIdPrestamo() == null && (item.getIsbn() == null || item.getIsbn().isBlank())) {
+            return "Debe indicar el ID del préstamo o el ISBN del libro";
+        }
+        if (prestamo == null) {
+            return item.getIdPrestamo() != null
+                    ? "Préstamo no encontrado con ID: " + item.getIdPrestamo()
+                    : "No hay un préstamo activo para el ISBN: " + item.getIsbn().trim();
+        }
+        if (resultadosPorPrestamo.containsKey(prestamo.getIdPrestamo())) {
+            return "El préstamo ya figura en este lote";
+        }
+        if (prestamo.estaFinalizado()) {
+            return "El préstamo ya ha sido devuelto o no está activo";
+        }
+        return null;
+    }
+
+    private void encolarEvaluacionMultaSiCorresponde(Prestamo prestamo) {
+        boolean aplicaPorDanio = prestamo.getEstadoDevolucion() != null && prestamo.getEstadoDevolucion().isAplicaMulta();
+        int diasRetraso = prestamo.calcularDiasRetraso();
+
+        if (prestamo.tieneMulta()) {
             logger.info("Préstamo ID: {} ya tiene multa asociada, no se genera nueva", prestamo.getIdPrestamo());
+        } else if (aplicaPorDanio || diasRetraso > 0) {
+            evaluacionMultaPendienteRepository.save(new EvaluacionMultaPendiente(prestamo.getIdPrestamo()));
+            logger.info("Evaluación de multa encolada para préstamo ID: {} (daño: {}, días de retraso: {})",
+                       prestamo.getIdPrestamo(), aplicaPorDanio, diasRetraso);
         }
     }
 
@@ -190,9 +389,7 @@ public class PrestamoServiceImpl implements PrestamoService {
     public List<PrestamoResponse> obtenerPrestamosConRetraso() {
         logger.debug("Obteniendo préstamos con retraso");
         LocalDate fechaLimite = LocalDate.now().minusDays(DIAS_PRESTAMO);
-        return prestamoRepository.findPrestamosConRetraso(fechaLimite).stream()
-                .map(this::convertirAResponse)
-                .collect(Collectors.toList());
+        return convertirAResponses(prestamoRepository.findPrestamosConRetrasoConDetalle(fechaLimite));
     }
 
     @Override
@@ -211,50 +408,89 @@ public class PrestamoServiceImpl implements PrestamoService {
             throw new ResourceNotFoundException("Socio no encontrado con ID: " + idSocio);
         }
         
-        return prestamoRepository.findBySocioIdSocio(idSocio).stream()
-                .map(this::convertirAResponse)
-                .collect(Collectors.toList());
+        return convertirAResponses(prestamoRepository.findBySocioIdConDetalle(idSocio));
     }
 
     @Override
-    @Transactional
-    public void actualizarEstadosPrestamosVencidos() {
-        logger.info("Actualizando estados de préstamos vencidos");
-        
-        List<Prestamo> prestamosActivos = prestamoRepository.findByEstado(EstadoPrestamo.ACTIVO);
-        int contadorVencidos = 0;
-        
-        for (Prestamo prestamo : prestamosActivos) {
-            if (prestamo.getFechaFinPrevista() != null && 
-                LocalDate.now().isAfter(prestamo.getFechaFinPrevista())) {
-                prestamo.setEstado(EstadoPrestamo.VENCIDO);
-                contadorVencidos++;
-            }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int actualizarEstadosPrestamosVencidos() {
+        LocalDate hoy = LocalDate.now();
+        Long desde = prestamoRepository.findMinIdPrestamoVencido(hoy);
+        Long hastaMaximo = prestamoRepository.findMaxIdPrestamoVencido(hoy);
+        if (desde == null || hastaMaximo == null) {
+            logger.info("No hay préstamos para marcar como vencidos");
+            return 0;
         }
-        
-        if (contadorVencidos > 0) {
-            prestamoRepository.saveAll(prestamosActivos);
-            logger.info("{} préstamos marcados como vencidos", contadorVencidos);
+
+        logger.info("Actualizando estados de préstamos vencidos entre los ID {} y {}", desde, hastaMaximo);
+        long inicioTotal = System.currentTimeMillis();
+        int totalVencidos = 0;
+
+        while (desde <= hastaMaximo) {
+            Long inicioLote = desde;
+            Long finLote = Math.min(desde + tamanioLoteVencidos - 1, hastaMaximo);
+            long inicio = System.currentTimeMillis();
+
+            Integer marcados = transaccionPorLote.execute(estado ->
+                    prestamoRepository.marcarVencidosEnRango(hoy, inicioLote, finLote));
+            int cantidad = marcados != null ? marcados : 0;
+            totalVencidos += cantidad;
+
+            logger.info("Lote de préstamos [{} - {}]: {} marcados como vencidos en {} ms",
+                       inicioLote, finLote, cantidad, System.currentTimeMillis() - inicio);
+            desde = finLote + 1;
         }
+
+        logger.info("{} préstamos marcados como vencidos en {} ms", totalVencidos, System.currentTimeMillis() - inicioTotal);
+        return totalVencidos;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PrestamoResponse> obtenerPrestamosPorEstado(EstadoPrestamo estado) {
         logger.debug("Obteniendo préstamos con estado: {}", estado);
-        return prestamoRepository.findByEstado(estado).stream()
-                .map(this::convertirAResponse)
-                .collect(Collectors.toList());
+        return convertirAResponses(prestamoRepository.findByEstadoConDetalle(estado));
     }
 
     private PrestamoResponse convertirAResponse(Prestamo prestamo) {
+        return convertirAResponses(List.of(prestamo)).get(0);
+    }
+
+    private List<PrestamoResponse> convertirAResponses(List<Prestamo> prestamos) {
+        Set<Long> idsSocios = prestamos.stream()
+                .filter(prestamo -> prestamo.getSocio() != null)
+                .map(prestamo -> prestamo.getSocio().getIdSocio())
+                .collect(Collectors.toSet());
+        Map<Long, Long> activosPorSocio = contarPrestamosActivosPorSocio(idsSocios);
+
+        return prestamos.stream()
+                .map(prestamo -> convertirAResponse(prestamo, activosPorSocio))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Long> contarPrestamosActivosPorSocio(Collection<Long> idsSocios) {
+        Map<Long, Long> activosPorSocio = new HashMap<>();
+        if (idsSocios.isEmpty()) {
+            return activosPorSocio;
+        }
+
+        List<PrestamoRepository.CantidadPorSocio> cantidades = idsSocios.size() > MAXIMO_SOCIOS_POR_CONSULTA
+                ? prestamoRepository.contarPrestamosActivosPorSocio()
+                : prestamoRepository.contarPrestamosActivosPorSocios(idsSocios);
+        for (PrestamoRepository.CantidadPorSocio cantidad : cantidades) {
+            activosPorSocio.put(cantidad.getIdSocio(), cantidad.getCantidad());
+        }
+        return activosPorSocio;
+    }
+
+    PrestamoResponse convertirAResponse(Prestamo prestamo, Map<Long, Long> activosPorSocio) {
         PrestamoResponse response = new PrestamoResponse();
         response.setIdPrestamo(prestamo.getIdPrestamo());
         response.setFechaInicio(prestamo.getFechaInicio());
         response.setFechaFinPrevista(prestamo.getFechaFinPrevista());
         response.setFechaDevolucionReal(prestamo.getFechaDevolucionReal());
         response.setEstado(prestamo.getEstado());
-        response.setActivo(prestamo.estaActivo());
+        response.setActivo(!prestamo.estaFinalizado());
         response.setDiasRetraso(prestamo.calcularDiasRetraso());
         response.setTieneMulta(prestamo.tieneMulta());
 
@@ -275,8 +511,8 @@ public class PrestamoServiceImpl implements PrestamoService {
             socioResponse.setNroSocio(prestamo.getSocio().getNroSocio());
             socioResponse.setDni(prestamo.getSocio().getDni());
             
-            Long prestamosActivos = prestamoRepository.countPrestamosActivosBySocioId(prestamo.getSocio().getIdSocio());
-            socioResponse.setPrestamosActivos(prestamosActivos != null ? prestamosActivos.intValue() : 0);
+            Long prestamosActivos = activosPorSocio.getOrDefault(prestamo.getSocio().getIdSocio(), 0L);
+            socioResponse.setPrestamosActivos(prestamosActivos.intValue());
             
             response.setSocio(socioResponse);
         }
@@ -2,15 +2,17 @@ package com.biblioteca.service.impl;
 
 import com.biblioteca.dto.request.CreateSocioRequest;
 import com.biblioteca.dto.request.UpdateSocioRequest;
+import com.biblioteca.dto.response.PaginaCursorResponse;
 import com.biblioteca.dto.response.SocioResponse;
 import com.biblioteca.exception.OperationNotAllowedException;
 import com.biblioteca.exception.ResourceNotFoundException;
 import com.biblioteca.model.entity.Socio;
 import com.biblioteca.repository.SocioRepository;
-import com.biblioteca.repository.PrestamoRepository;
 import com.biblioteca.service.SocioService;
+import com.biblioteca.util.CursorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,12 +24,11 @@ import java.util.stream.Collectors;
 public class SocioServiceImpl implements SocioService {
 
     private static final Logger logger = LoggerFactory.getLogger(SocioServiceImpl.class);
+    private static final int TAMANIO_MAXIMO_PAGINA = 200;
     private final SocioRepository socioRepository;
-    private final PrestamoRepository prestamoRepository;
 
-    public SocioServiceImpl(SocioRepository socioRepository, PrestamoRepository prestamoRepository) {
+    public SocioServiceImpl(SocioRepository socioRepository) {
         this.socioRepository = socioRepository;
-        this.prestamoRepository = prestamoRepository;
     }
 
     @Override
@@ -87,24 +88,35 @@ public class SocioServiceImpl implements SocioService {
     @Override
     @Transactional(readOnly = true)
     public List<SocioResponse> obtenerTodosLosSocios() {
-        List<SocioResponse> socios = socioRepository.findAll().stream()
+        return socioRepository.findAllResumen().stream()
                 .map(this::convertirAResponse)
                 .collect(Collectors.toList());
-        
-        logger.info("=== DEBUG SOCIOS ===");
-        for (SocioResponse socio : socios) {
-            logger.info("Socio: {} (ID: {}) - Préstamos activos: {}", 
-                       socio.getNombre(), socio.getIdSocio(), socio.getPrestamosActivos());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<SocioResponse> obtenerSociosPaginados(String cursor, int tamanio) {
+        if (tamanio < 1 || tamanio > TAMANIO_MAXIMO_PAGINA) {
+            throw new OperationNotAllowedException("El tamaño de página debe estar entre 1 y " + TAMANIO_MAXIMO_PAGINA);
         }
-        logger.info("=== FIN DEBUG ===");
-        
-        return socios;
+
+        Long despuesDe = CursorUtils.decodificar(cursor);
+        List<SocioRepository.ResumenSocio> socios = socioRepository.findResumenDespuesDe(despuesDe, Limit.of(tamanio + 1));
+
+        boolean tieneMas = socios.size() > tamanio;
+        List<SocioRepository.ResumenSocio> pagina = tieneMas ? socios.subList(0, tamanio) : socios;
+        String siguienteCursor = tieneMas ? CursorUtils.codificar(pagina.get(pagina.size() - 1).getIdSocio()) : null;
+
+        List<SocioResponse> contenido = pagina.stream()
+                .map(this::convertirAResponse)
+                .collect(Collectors.toList());
+        return new PaginaCursorResponse<>(contenido, siguienteCursor);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<SocioResponse> buscarSociosPorNombre(String nombre) {
-        return socioRepository.findByNombreContainingIgnoreCase(nombre).stream()
+        return socioRepository.findResumenByNombre(nombre).stream()
                 .map(this::convertirAResponse)
                 .collect(Collectors.toList());
     }
@@ -155,35 +167,13 @@ public class SocioServiceImpl implements SocioService {
     }
 
     private SocioResponse convertirAResponse(Socio socio) {
-        SocioResponse response = new SocioResponse();
-        response.setIdSocio(socio.getIdSocio());
-        response.setNombre(socio.getNombre());
-        response.setNroSocio(socio.getNroSocio());
-        response.setDni(socio.getDni());
-        
-        try {
-            Long countFromSocioRepo = socioRepository.countPrestamosActivosBySocioId(socio.getIdSocio());
-            logger.debug("Método 1 - SocioRepository count: {} para socio ID: {}", 
-                        countFromSocioRepo, socio.getIdSocio());
-            
-            int countFromPrestamoRepo = prestamoRepository.findPrestamosActivosBySocioId(socio.getIdSocio()).size();
-            logger.debug("Método 2 - PrestamoRepository count: {} para socio ID: {}", 
-                        countFromPrestamoRepo, socio.getIdSocio());
-            
-            int prestamosActivos = countFromSocioRepo != null ? countFromSocioRepo.intValue() : 0;
-            response.setPrestamosActivos(prestamosActivos);
-            
-            if (prestamosActivos > 0) {
-                logger.info("🎉 SOCIO CON PRÉSTAMOS: '{}' (ID: {}) tiene {} préstamos activos", 
-                           socio.getNombre(), socio.getIdSocio(), prestamosActivos);
-            }
-            
-        } catch (Exception e) {
-            logger.error("❌ ERROR en convertirAResponse para socio ID {}: {}", 
-                        socio.getIdSocio(), e.getMessage());
-            response.setPrestamosActivos(0);
-        }
-        
-        return response;
+        Long prestamosActivos = socioRepository.countPrestamosActivosBySocioId(socio.getIdSocio());
+        return new SocioResponse(socio.getIdSocio(), socio.getNombre(), socio.getNroSocio(), socio.getDni(),
+                                 prestamosActivos != null ? prestamosActivos.intValue() : 0);
+    }
+
+    SocioResponse convertirAResponse(SocioRepository.ResumenSocio resumen) {
+        return new SocioResponse(resumen.getIdSocio(), resumen.getNombre(), resumen.getNroSocio(), resumen.getDni(),
+                                 resumen.getPrestamosActivos().intValue());
     }
 }
\ No newline at end of file
@@ -4,8 +4,10 @@ import com.biblioteca.model.entity.Usuario;
 import com.biblioteca.model.enums.Rol;
 import com.biblioteca.repository.UsuarioRepository;
 import com.biblioteca.repository.SocioRepository;
+import com.biblioteca.security.RegistroRevocaciones;
 import com.biblioteca.service.UsuarioService;
 import com.biblioteca.exception.OperationNotAllowedException;
+import com.biblioteca.util.TransaccionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,13 +25,16 @@ public class UsuarioServiceImpl implements UsuarioService {
     private final UsuarioRepository usuarioRepository;
     private final SocioRepository socioRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RegistroRevocaciones registroRevocaciones;
 
     public UsuarioServiceImpl(UsuarioRepository usuarioRepository, 
                              SocioRepository socioRepository,
-                             PasswordEncoder passwordEncoder) {
+                             PasswordEncoder passwordEncoder,
+                             RegistroRevocaciones registroRevocaciones) {
         this.usuarioRepository = usuarioRepository;
         this.socioRepository = socioRepository;
         this.passwordEncoder = passwordEncoder;
+        this.registroRevocaciones = registroRevocaciones;
     }
 
     @Override
@@ -102,7 +107,9 @@ public class UsuarioServiceImpl implements UsuarioService {
     public void desactivarUsuario(Long id) {
         Usuario usuario = obtenerUsuarioPorId(id);
         usuario.setActivo(false);
+        usuario.setTokensValidosDesde(System.currentTimeMillis());
         usuarioRepository.save(usuario);
+        registrarRevocacionDespuesDelCommit(usuario);
         logger.info("Usuario desactivado con ID: {}", id);
     }
 
@@ -112,6 +119,7 @@ public class UsuarioServiceImpl implements UsuarioService {
         Usuario usuario = obtenerUsuarioPorId(id);
         usuario.setActivo(true);
         usuarioRepository.save(usuario);
+        registrarRevocacionDespuesDelCommit(usuario);
         logger.info("Usuario activado con ID: {}", id);
     }
 
@@ -120,7 +128,16 @@ public class UsuarioServiceImpl implements UsuarioService {
     public void cambiarPassword(Long id, String nuevaPassword) {
         Usuario usuario = obtenerUsuarioPorId(id);
         usuario.setPassword(passwordEncoder.encode(nuevaPassword));
+        usuario.setTokensValidosDesde(System.currentTimeMillis());
         usuarioRepository.save(usuario);
+        registrarRevocacionDespuesDelCommit(usuario);
         logger.info("Password cambiado para usuario con ID: {}", id);
     }
+
+    private void registrarRevocacionDespuesDelCommit(Usuario usuario) {
+        Integer idUsuario = usuario.getId();
+        boolean activo = usuario.estaActivo();
+        Long tokensValidosDesde = usuario.getTokensValidosDesde();
+        TransaccionUtils.despuesDelCommit(() -> registroRevocaciones.registrar(idUsuario, activo, tokensValidosDesde));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.biblioteca.util;
+
+import com.biblioteca.exception.OperationNotAllowedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class CursorUtils {
+
+    private static final String PREFIJO_CURSOR = "v1:";
+
+    private CursorUtils() {}
+
+    /**
+     * Codifica el último ID de una página como cursor opaco para pedir la siguiente.
+     */
+    public static String codificar(Long ultimoId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIJO_CURSOR + ultimoId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Devuelve el ID a partir del cual continuar, o 0 si no se envió cursor.
+     */
+    public static Long decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!valor.startsWith(PREFIJO_CURSOR)) {
+                throw new IllegalArgumentException(valor);
+            }
+            return Long.parseLong(valor.substring(PREFIJO_CURSOR.length()));
+        } catch (IllegalArgumentException e) {
+            throw new OperationNotAllowedException("Cursor de paginación inválido: " + cursor);
+        }
+    }
+}
\ No newline at end of file
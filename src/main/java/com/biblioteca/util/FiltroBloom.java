@@ -0,0 +1,61 @@
+package com.biblioteca.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Filtro de Bloom para cadenas. Responde "seguro que no está" o "puede estar" usando una fracción
+ * de la memoria de un conjunto exacto; los positivos deben confirmarse contra la fuente real.
+ * No es seguro para uso concurrente.
+ */
+public final class FiltroBloom {
+
+    private final long[] bits;
+    private final long cantidadBits;
+    private final int cantidadFunciones;
+
+    public FiltroBloom(long elementosEsperados, double tasaFalsosPositivos) {
+        long elementos = Math.max(1, elementosEsperados);
+        long tamanio = (long) Math.ceil(-elementos * Math.log(tasaFalsosPositivos) / (Math.log(2) * Math.log(2)));
+        this.cantidadBits = Math.max(64, tamanio);
+        this.bits = new long[(int) ((cantidadBits + 63) / 64)];
+        this.cantidadFunciones = Math.max(1, (int) Math.round((double) cantidadBits / elementos * Math.log(2)));
+    }
+
+    public void agregar(String valor) {
+        long hash = hash64(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= cantidadFunciones; i++) {
+            long posicion = Math.floorMod(h1 + (long) i * h2, cantidadBits);
+            bits[(int) (posicion >>> 6)] |= 1L << posicion;
+        }
+    }
+
+    public boolean puedeContener(String valor) {
+        long hash = hash64(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= cantidadFunciones; i++) {
+            long posicion = Math.floorMod(h1 + (long) i * h2, cantidadBits);
+            if ((bits[(int) (posicion >>> 6)] & (1L << posicion)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a de 64 bits con un mezclado final, suficiente para derivar las k posiciones por doble hashing.
+     */
+    private static long hash64(String valor) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
\ No newline at end of file
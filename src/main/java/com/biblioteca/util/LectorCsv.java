@@ -0,0 +1,112 @@
+package com.biblioteca.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector incremental de CSV (RFC 4180): devuelve un registro por vez sin cargar el archivo completo.
+ * Admite campos entre comillas con separadores, saltos de línea y comillas dobladas ("").
+ */
+public final class LectorCsv implements Closeable {
+
+    private static final int TAMANIO_BUFFER = 64 * 1024;
+
+    private final Reader reader;
+    private final char separador;
+    private final char[] buffer = new char[TAMANIO_BUFFER];
+    private int posicion;
+    private int limite;
+    private boolean fin;
+
+    public LectorCsv(Reader reader, char separador) {
+        this.reader = reader;
+        this.separador = separador;
+    }
+
+    /**
+     * Devuelve los campos del siguiente registro, o null al llegar al final del archivo.
+     * Las líneas vacías se omiten.
+     */
+    public List<String> siguienteRegistro() throws IOException {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        boolean hayContenido = false;
+
+        int c;
+        while ((c = leer()) != -1) {
+            char caracter = (char) c;
+            if (entreComillas) {
+                if (caracter == '"') {
+                    if (espiar() == '"') {
+                        leer();
+                        campo.append('"');
+                    } else {
+                        entreComillas = false;
+                    }
+                } else {
+                    campo.append(caracter);
+                }
+            } else if (caracter == '"') {
+                entreComillas = true;
+                hayContenido = true;
+            } else if (caracter == separador) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+                hayContenido = true;
+            } else if (caracter == '\n' || caracter == '\r') {
+                if (caracter == '\r' && espiar() == '\n') {
+                    leer();
+                }
+                if (hayContenido || campo.length() > 0) {
+                    campos.add(campo.toString());
+                    return campos;
+                }
+            } else {
+                campo.append(caracter);
+            }
+        }
+
+        if (hayContenido || campo.length() > 0) {
+            campos.add(campo.toString());
+            return campos;
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int leer() throws IOException {
+        if (posicion == limite && !llenarBuffer()) {
+            return -1;
+        }
+        return buffer[posicion++];
+    }
+
+    private int espiar() throws IOException {
+        if (posicion == limite && !llenarBuffer()) {
+            return -1;
+        }
+        return buffer[posicion];
+    }
+
+    private boolean llenarBuffer() throws IOException {
+        if (fin) {
+            return false;
+        }
+        int leidos = reader.read(buffer, 0, buffer.length);
+        if (leidos <= 0) {
+            fin = true;
+            return false;
+        }
+        posicion = 0;
+        limite = leidos;
+        return true;
+    }
+}
\ No newline at end of file
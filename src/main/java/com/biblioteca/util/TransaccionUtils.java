@@ -0,0 +1,45 @@
+package com.biblioteca.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransaccionUtils {
+
+    private TransaccionUtils() {}
+
+    /**
+     * Ejecuta la acción una vez confirmada la transacción actual, o en el momento
+     * si no hay ninguna activa. Evita publicar en memoria cambios que luego se revierten.
+     */
+    public static void despuesDelCommit(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+
+    /**
+     * Ejecuta la acción cuando termina la transacción actual, confirmada o revertida, después de todas
+     * las acciones posteriores al commit; o en el momento si no hay ninguna activa.
+     */
+    public static void alTerminar(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                accion.run();
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+CREATE TABLE IF NOT EXISTS categoria (
+    id_categoria BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nombre VARCHAR(100) NOT NULL,
+    descripcion VARCHAR(500),
+    CONSTRAINT pk_categoria PRIMARY KEY (id_categoria),
+    CONSTRAINT uk_categoria_nombre UNIQUE (nombre)
+);
+
+CREATE TABLE IF NOT EXISTS libro (
+    id_libro BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    titulo VARCHAR(255) NOT NULL,
+    autor VARCHAR(255) NOT NULL,
+    isbn VARCHAR(20) NOT NULL,
+    estado VARCHAR(20) NOT NULL CHECK (estado IN ('DISPONIBLE', 'PRESTADO', 'MANTENIMIENTO')),
+    id_categoria BIGINT NOT NULL,
+    CONSTRAINT pk_libro PRIMARY KEY (id_libro),
+    CONSTRAINT uk_libro_isbn UNIQUE (isbn),
+    CONSTRAINT fk_libro_categoria FOREIGN KEY (id_categoria) REFERENCES categoria (id_categoria)
+);
+
+CREATE TABLE IF NOT EXISTS socio (
+    id_socio BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nombre VARCHAR(255) NOT NULL,
+    nro_socio INTEGER NOT NULL,
+    dni VARCHAR(15) NOT NULL,
+    CONSTRAINT pk_socio PRIMARY KEY (id_socio),
+    CONSTRAINT uk_socio_nro_socio UNIQUE (nro_socio),
+    CONSTRAINT uk_socio_dni UNIQUE (dni)
+);
+
+CREATE TABLE IF NOT EXISTS prestamo (
+    id_prestamo BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    fecha_inicio DATE NOT NULL,
+    fecha_fin_prevista DATE,
+    fecha_devolucion_real DATE,
+    estado VARCHAR(20) NOT NULL CHECK (estado IN ('ACTIVO', 'FINALIZADO', 'VENCIDO')),
+    id_libro BIGINT NOT NULL,
+    id_socio BIGINT NOT NULL,
+    estado_devolucion VARCHAR(20) CHECK (estado_devolucion IN ('BUEN_ESTADO', 'DANIO_LEVE', 'DANIO_GRAVE', 'PERDIDA')),
+    observaciones_devolucion VARCHAR(500),
+    tiene_danio BOOLEAN,
+    CONSTRAINT pk_prestamo PRIMARY KEY (id_prestamo),
+    CONSTRAINT fk_prestamo_libro FOREIGN KEY (id_libro) REFERENCES libro (id_libro),
+    CONSTRAINT fk_prestamo_socio FOREIGN KEY (id_socio) REFERENCES socio (id_socio)
+);
+
+CREATE TABLE IF NOT EXISTS multa (
+    id_multa BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    monto NUMERIC(10, 2) NOT NULL,
+    motivo VARCHAR(500) NOT NULL,
+    id_prestamo BIGINT NOT NULL,
+    pagada BOOLEAN NOT NULL,
+    CONSTRAINT pk_multa PRIMARY KEY (id_multa),
+    CONSTRAINT uk_multa_prestamo UNIQUE (id_prestamo),
+    CONSTRAINT fk_multa_prestamo FOREIGN KEY (id_prestamo) REFERENCES prestamo (id_prestamo)
+);
+
+CREATE TABLE IF NOT EXISTS usuario (
+    id_usuario INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    rol VARCHAR(20) NOT NULL CHECK (rol IN ('SOCIO', 'BIBLIOTECARIO', 'ADMIN')),
+    nombre VARCHAR(100) NOT NULL,
+    apellido VARCHAR(100) NOT NULL,
+    dni VARCHAR(20) NOT NULL,
+    activo BOOLEAN NOT NULL,
+    id_socio BIGINT,
+    CONSTRAINT pk_usuario PRIMARY KEY (id_usuario),
+    CONSTRAINT uk_usuario_email UNIQUE (email),
+    CONSTRAINT uk_usuario_dni UNIQUE (dni),
+    CONSTRAINT uk_usuario_socio UNIQUE (id_socio),
+    CONSTRAINT fk_usuario_socio FOREIGN KEY (id_socio) REFERENCES socio (id_socio)
+);
@@ -0,0 +1,21 @@
+CREATE TABLE IF NOT EXISTS evaluacion_multa_pendiente (
+    id_evaluacion BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    id_prestamo BIGINT NOT NULL,
+    fecha_creacion TIMESTAMP(6) NOT NULL,
+    intentos INTEGER NOT NULL,
+    ultimo_error VARCHAR(500),
+    CONSTRAINT pk_evaluacion_multa_pendiente PRIMARY KEY (id_evaluacion),
+    CONSTRAINT uk_evaluacion_multa_prestamo UNIQUE (id_prestamo)
+);
+
+CREATE TABLE IF NOT EXISTS saldo_multa_socio (
+    id_socio BIGINT NOT NULL,
+    saldo_pendiente NUMERIC(12, 2) NOT NULL,
+    multas_pendientes INTEGER NOT NULL,
+    CONSTRAINT pk_saldo_multa_socio PRIMARY KEY (id_socio)
+);
+
+ALTER TABLE multa ADD COLUMN IF NOT EXISTS id_socio BIGINT;
+
+UPDATE multa SET id_socio = (SELECT p.id_socio FROM prestamo p WHERE p.id_prestamo = multa.id_prestamo)
+WHERE id_socio IS NULL;
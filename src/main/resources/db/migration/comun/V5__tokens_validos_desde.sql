@@ -0,0 +1 @@
+ALTER TABLE usuario ADD COLUMN IF NOT EXISTS tokens_validos_desde BIGINT;
\ No newline at end of file
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS catalogo_version (
+    id_catalogo_version INTEGER NOT NULL,
+    valor BIGINT NOT NULL,
+    CONSTRAINT pk_catalogo_version PRIMARY KEY (id_catalogo_version)
+);
+
+INSERT INTO catalogo_version (id_catalogo_version, valor) VALUES (1, 0);
\ No newline at end of file
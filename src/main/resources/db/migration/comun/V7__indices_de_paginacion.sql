@@ -0,0 +1,7 @@
+-- Paginación por cursor filtrada: cada índice entrega los libros del filtro ya ordenados por id.
+-- Reemplazan a los índices de una sola columna, que son prefijos de estos.
+CREATE INDEX IF NOT EXISTS idx_libro_estado_id ON libro (estado, id_libro);
+CREATE INDEX IF NOT EXISTS idx_libro_categoria_id ON libro (id_categoria, id_libro);
+
+DROP INDEX IF EXISTS idx_libro_estado;
+DROP INDEX IF EXISTS idx_libro_categoria;
\ No newline at end of file
@@ -0,0 +1,10 @@
+-- H2 no soporta índices parciales: se usan índices compuestos equivalentes
+CREATE INDEX IF NOT EXISTS idx_prestamo_socio_estado ON prestamo (id_socio, estado);
+CREATE INDEX IF NOT EXISTS idx_prestamo_libro_estado ON prestamo (id_libro, estado);
+CREATE INDEX IF NOT EXISTS idx_prestamo_vencimiento_activos ON prestamo (estado, fecha_fin_prevista);
+
+CREATE INDEX IF NOT EXISTS idx_libro_estado ON libro (estado);
+CREATE INDEX IF NOT EXISTS idx_libro_categoria ON libro (id_categoria);
+
+CREATE INDEX IF NOT EXISTS idx_multa_socio_pendientes ON multa (id_socio, pagada);
+CREATE INDEX IF NOT EXISTS idx_multa_pendientes ON multa (pagada);
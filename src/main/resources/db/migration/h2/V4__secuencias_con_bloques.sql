@@ -0,0 +1,36 @@
+-- Misma estructura que la migración de PostgreSQL, con la sintaxis de H2 para reiniciar la secuencia.
+
+CREATE SEQUENCE IF NOT EXISTS categoria_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE categoria_seq RESTART WITH (SELECT COALESCE(MAX(id_categoria), 0) + 50 FROM categoria);
+ALTER TABLE categoria ALTER COLUMN id_categoria DROP IDENTITY;
+ALTER TABLE categoria ALTER COLUMN id_categoria SET DEFAULT NEXT VALUE FOR categoria_seq;
+
+CREATE SEQUENCE IF NOT EXISTS libro_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE libro_seq RESTART WITH (SELECT COALESCE(MAX(id_libro), 0) + 50 FROM libro);
+ALTER TABLE libro ALTER COLUMN id_libro DROP IDENTITY;
+ALTER TABLE libro ALTER COLUMN id_libro SET DEFAULT NEXT VALUE FOR libro_seq;
+
+CREATE SEQUENCE IF NOT EXISTS socio_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE socio_seq RESTART WITH (SELECT COALESCE(MAX(id_socio), 0) + 50 FROM socio);
+ALTER TABLE socio ALTER COLUMN id_socio DROP IDENTITY;
+ALTER TABLE socio ALTER COLUMN id_socio SET DEFAULT NEXT VALUE FOR socio_seq;
+
+CREATE SEQUENCE IF NOT EXISTS prestamo_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE prestamo_seq RESTART WITH (SELECT COALESCE(MAX(id_prestamo), 0) + 50 FROM prestamo);
+ALTER TABLE prestamo ALTER COLUMN id_prestamo DROP IDENTITY;
+ALTER TABLE prestamo ALTER COLUMN id_prestamo SET DEFAULT NEXT VALUE FOR prestamo_seq;
+
+CREATE SEQUENCE IF NOT EXISTS multa_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE multa_seq RESTART WITH (SELECT COALESCE(MAX(id_multa), 0) + 50 FROM multa);
+ALTER TABLE multa ALTER COLUMN id_multa DROP IDENTITY;
+ALTER TABLE multa ALTER COLUMN id_multa SET DEFAULT NEXT VALUE FOR multa_seq;
+
+CREATE SEQUENCE IF NOT EXISTS usuario_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE usuario_seq RESTART WITH (SELECT COALESCE(MAX(id_usuario), 0) + 50 FROM usuario);
+ALTER TABLE usuario ALTER COLUMN id_usuario DROP IDENTITY;
+ALTER TABLE usuario ALTER COLUMN id_usuario SET DEFAULT NEXT VALUE FOR usuario_seq;
+
+CREATE SEQUENCE IF NOT EXISTS evaluacion_multa_pendiente_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE evaluacion_multa_pendiente_seq RESTART WITH (SELECT COALESCE(MAX(id_evaluacion), 0) + 50 FROM evaluacion_multa_pendiente);
+ALTER TABLE evaluacion_multa_pendiente ALTER COLUMN id_evaluacion DROP IDENTITY;
+ALTER TABLE evaluacion_multa_pendiente ALTER COLUMN id_evaluacion SET DEFAULT NEXT VALUE FOR evaluacion_multa_pendiente_seq;
@@ -0,0 +1,9 @@
+CREATE INDEX IF NOT EXISTS idx_prestamo_socio_estado ON prestamo (id_socio, estado);
+CREATE INDEX IF NOT EXISTS idx_prestamo_libro_estado ON prestamo (id_libro, estado);
+CREATE INDEX IF NOT EXISTS idx_prestamo_vencimiento_activos ON prestamo (fecha_fin_prevista) WHERE estado = 'ACTIVO';
+
+CREATE INDEX IF NOT EXISTS idx_libro_estado ON libro (estado);
+CREATE INDEX IF NOT EXISTS idx_libro_categoria ON libro (id_categoria);
+
+CREATE INDEX IF NOT EXISTS idx_multa_socio_pendientes ON multa (id_socio) WHERE pagada = false;
+CREATE INDEX IF NOT EXISTS idx_multa_pendientes ON multa (id_multa) WHERE pagada = false;
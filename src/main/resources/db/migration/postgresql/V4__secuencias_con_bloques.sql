@@ -0,0 +1,47 @@
+-- Secuencias con incremento 50 para el optimizador pooled de Hibernate: cada nextval reserva un
+-- bloque de 50 ids y permite agrupar los INSERT en lotes JDBC. Cada secuencia arranca 50 por encima
+-- del máximo actual, de modo que el primer bloque empiece justo después del último id existente.
+-- El valor por defecto de la columna pasa a la secuencia para que los INSERT manuales no choquen
+-- con los bloques reservados por la aplicación.
+
+CREATE SEQUENCE IF NOT EXISTS categoria_seq INCREMENT BY 50;
+SELECT setval('categoria_seq', (SELECT COALESCE(MAX(id_categoria), 0) + 50 FROM categoria), false);
+ALTER TABLE categoria ALTER COLUMN id_categoria DROP IDENTITY IF EXISTS;
+ALTER TABLE categoria ALTER COLUMN id_categoria SET DEFAULT nextval('categoria_seq');
+ALTER SEQUENCE categoria_seq OWNED BY categoria.id_categoria;
+
+CREATE SEQUENCE IF NOT EXISTS libro_seq INCREMENT BY 50;
+SELECT setval('libro_seq', (SELECT COALESCE(MAX(id_libro), 0) + 50 FROM libro), false);
+ALTER TABLE libro ALTER COLUMN id_libro DROP IDENTITY IF EXISTS;
+ALTER TABLE libro ALTER COLUMN id_libro SET DEFAULT nextval('libro_seq');
+ALTER SEQUENCE libro_seq OWNED BY libro.id_libro;
+
+CREATE SEQUENCE IF NOT EXISTS socio_seq INCREMENT BY 50;
+SELECT setval('socio_seq', (SELECT COALESCE(MAX(id_socio), 0) + 50 FROM socio), false);
+ALTER TABLE socio ALTER COLUMN id_socio DROP IDENTITY IF EXISTS;
+ALTER TABLE socio ALTER COLUMN id_socio SET DEFAULT nextval('socio_seq');
+ALTER SEQUENCE socio_seq OWNED BY socio.id_socio;
+
+CREATE SEQUENCE IF NOT EXISTS prestamo_seq INCREMENT BY 50;
+SELECT setval('prestamo_seq', (SELECT COALESCE(MAX(id_prestamo), 0) + 50 FROM prestamo), false);
+ALTER TABLE prestamo ALTER COLUMN id_prestamo DROP IDENTITY IF EXISTS;
+ALTER TABLE prestamo ALTER COLUMN id_prestamo SET DEFAULT nextval('prestamo_seq');
+ALTER SEQUENCE prestamo_seq OWNED BY prestamo.id_prestamo;
+
+CREATE SEQUENCE IF NOT EXISTS multa_seq INCREMENT BY 50;
+SELECT setval('multa_seq', (SELECT COALESCE(MAX(id_multa), 0) + 50 FROM multa), false);
+ALTER TABLE multa ALTER COLUMN id_multa DROP IDENTITY IF EXISTS;
+ALTER TABLE multa ALTER COLUMN id_multa SET DEFAULT nextval('multa_seq');
+ALTER SEQUENCE multa_seq OWNED BY multa.id_multa;
+
+CREATE SEQUENCE IF NOT EXISTS usuario_seq INCREMENT BY 50;
+SELECT setval('usuario_seq', (SELECT COALESCE(MAX(id_usuario), 0) + 50 FROM usuario), false);
+ALTER TABLE usuario ALTER COLUMN id_usuario DROP IDENTITY IF EXISTS;
+ALTER TABLE usuario ALTER COLUMN id_usuario SET DEFAULT nextval('usuario_seq');
+ALTER SEQUENCE usuario_seq OWNED BY usuario.id_usuario;
+
+CREATE SEQUENCE IF NOT EXISTS evaluacion_multa_pendiente_seq INCREMENT BY 50;
+SELECT setval('evaluacion_multa_pendiente_seq', (SELECT COALESCE(MAX(id_evaluacion), 0) + 50 FROM evaluacion_multa_pendiente), false);
+ALTER TABLE evaluacion_multa_pendiente ALTER COLUMN id_evaluacion DROP IDENTITY IF EXISTS;
+ALTER TABLE evaluacion_multa_pendiente ALTER COLUMN id_evaluacion SET DEFAULT nextval('evaluacion_multa_pendiente_seq');
+ALTER SEQUENCE evaluacion_multa_pendiente_seq OWNED BY evaluacion_multa_pendiente.id_evaluacion;
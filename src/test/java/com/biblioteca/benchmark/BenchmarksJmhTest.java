@@ -0,0 +1,41 @@
+package com.biblioteca.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ejecuta todos los benchmarks JMH del proyecto y guarda los resultados en JSON para poder
+ * compararlos entre commits. Solo corre con el perfil benchmark:
+ * mvn test -Pbenchmark -Dtest=BenchmarksJmhTest [-Djmh.incluir=Serializacion]
+ */
+@Tag("benchmark")
+class BenchmarksJmhTest {
+
+    @Test
+    void ejecutarBenchmarks() throws Exception {
+        Path resultado = Path.of(System.getProperty("jmh.resultado", "target/jmh/resultados.json"));
+        Files.createDirectories(resultado.toAbsolutePath().getParent());
+
+        Options opciones = new OptionsBuilder()
+            .include("com\\.biblioteca\\..*" + System.getProperty("jmh.incluir", "Benchmark"))
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultado.toString())
+            .build();
+
+        Collection<RunResult> resultados = new Runner(opciones).run();
+
+        assertThat(resultados).isNotEmpty();
+        assertThat(resultado).exists();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.model.entity.Prestamo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Prestamo#calcularDiasRetraso()} sobre préstamos activos, vencidos y finalizados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculoRetrasoBenchmark {
+
+    private List<Prestamo> prestamos;
+
+    @Setup
+    public void setUp() {
+        prestamos = DatosBenchmark.prestamos(1000);
+    }
+
+    @Benchmark
+    public long calcularDiasRetraso1000() {
+        long total = 0;
+        for (Prestamo prestamo : prestamos) {
+            total += prestamo.calcularDiasRetraso();
+        }
+        return total;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Multa;
+import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.model.entity.Socio;
+import com.biblioteca.model.enums.EstadoDevolucion;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.model.enums.EstadoPrestamo;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entidades en memoria para los benchmarks. Se generan siempre iguales para que los resultados
+ * sean comparables entre ejecuciones: un tercio de préstamos activos, un tercio vencidos y un
+ * tercio finalizados, con fechas de inicio repartidas en los últimos 40 días.
+ */
+public final class DatosBenchmark {
+
+    private static final int CATEGORIAS = 20;
+    private static final int SOCIOS = 500;
+
+    private DatosBenchmark() {
+    }
+
+    public static List<Prestamo> prestamos(int cantidad) {
+        List<Categoria> categorias = new ArrayList<>(CATEGORIAS);
+        for (int i = 0; i < CATEGORIAS; i++) {
+            Categoria categoria = new Categoria("Categoría " + i, "Descripción de la categoría " + i);
+            categoria.setIdCategoria((long) i + 1);
+            categorias.add(categoria);
+        }
+        List<Socio> socios = new ArrayList<>(SOCIOS);
+        for (int i = 0; i < SOCIOS; i++) {
+            Socio socio = new Socio("Socio " + i, 1000 + i, String.valueOf(30_000_000 + i));
+            socio.setIdSocio((long) i + 1);
+            socios.add(socio);
+        }
+
+        LocalDate hoy = LocalDate.now();
+        List<Prestamo> prestamos = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            Libro libro = new Libro("Libro " + i, "Autor " + (i % 300), "ISBN-" + i, categorias.get(i % CATEGORIAS));
+            libro.setIdLibro((long) i + 1);
+            libro.setEstado(EstadoLibro.PRESTADO);
+
+            Prestamo prestamo = new Prestamo(libro, socios.get(i % SOCIOS), hoy.minusDays(i % 40));
+            prestamo.setIdPrestamo((long) i + 1);
+            prestamo.setFechaFinPrevista(prestamo.getFechaInicio().plusDays(15));
+            switch (i % 3) {
+                case 1 -> prestamo.setEstado(EstadoPrestamo.VENCIDO);
+                case 2 -> {
+                    prestamo.setEstado(EstadoPrestamo.FINALIZADO);
+                    prestamo.setFechaDevolucionReal(prestamo.getFechaInicio().plusDays(i % 30));
+                    prestamo.setEstadoDevolucion(EstadoDevolucion.values()[i % EstadoDevolucion.values().length]);
+                }
+                default -> prestamo.setEstado(EstadoPrestamo.ACTIVO);
+            }
+            prestamos.add(prestamo);
+        }
+        return prestamos;
+    }
+
+    public static List<Multa> multas(int cantidad) {
+        List<Multa> multas = new ArrayList<>(cantidad);
+        long id = 1;
+        for (Prestamo prestamo : prestamos(cantidad)) {
+            Multa multa = new Multa(BigDecimal.valueOf(100 + id % 900), "Multa por retraso", prestamo);
+            multa.setIdMulta(id++);
+            multas.add(multa);
+        }
+        return multas;
+    }
+}
\ No newline at end of file
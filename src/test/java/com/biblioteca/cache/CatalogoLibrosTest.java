@@ -0,0 +1,123 @@
+package com.biblioteca.cache;
+
+import com.biblioteca.dto.response.LibroResponse;
+import com.biblioteca.event.CategoriaActualizadaEvent;
+import com.biblioteca.event.EstadoLibrosCambiadoEvent;
+import com.biblioteca.event.LibroActualizadoEvent;
+import com.biblioteca.event.LibroEliminadoEvent;
+import com.biblioteca.event.LibrosCreadosEvent;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.search.LibroIndexado;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogoLibrosTest {
+
+    private LibroRepository libroRepository;
+    private CatalogoLibros catalogo;
+
+    @BeforeEach
+    void setUp() {
+        libroRepository = mock(LibroRepository.class);
+        catalogo = new CatalogoLibros(libroRepository);
+        catalogo.cargar(List.of(
+            libro(5L, "ISBN-5", EstadoLibro.DISPONIBLE, 1L),
+            libro(1L, "ISBN-1", EstadoLibro.DISPONIBLE, 1L),
+            libro(3L, "ISBN-3", EstadoLibro.PRESTADO, 2L),
+            libro(4L, "ISBN-4", EstadoLibro.DISPONIBLE, 2L),
+            libro(2L, "ISBN-2", EstadoLibro.DISPONIBLE, 1L)
+        ));
+    }
+
+    @Test
+    void resuelveLecturasPorIdIsbnYEstado() {
+        assertThat(catalogo.obtener(3L).getIsbn()).isEqualTo("ISBN-3");
+        assertThat(catalogo.obtener(99L)).isNull();
+        assertThat(catalogo.obtenerPorIsbn("ISBN-4").getIdLibro()).isEqualTo(4L);
+        assertThat(ids(catalogo.obtenerTodos())).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(ids(catalogo.obtenerPorEstado(EstadoLibro.DISPONIBLE))).containsExactly(1L, 2L, 4L, 5L);
+    }
+
+    @Test
+    void paginaConLosMismosFiltrosQueLaConsulta() {
+        assertThat(ids(catalogo.obtenerPagina(null, null, null, 2))).containsExactly(1L, 2L);
+        assertThat(ids(catalogo.obtenerPagina(2L, null, null, 10))).containsExactly(3L, 4L, 5L);
+        assertThat(ids(catalogo.obtenerPagina(1L, EstadoLibro.DISPONIBLE, null, 2))).containsExactly(2L, 4L);
+        assertThat(ids(catalogo.obtenerPagina(null, null, 2L, 10))).containsExactly(3L, 4L);
+        assertThat(ids(catalogo.obtenerPagina(null, EstadoLibro.DISPONIBLE, 2L, 10))).containsExactly(4L);
+        assertThat(ids(catalogo.obtenerPagina(null, EstadoLibro.PRESTADO, 1L, 10))).isEmpty();
+    }
+
+    @Test
+    void aplicaLosEventosSinAlterarLasRespuestasYaEntregadas() {
+        LibroResponse antes = catalogo.obtener(1L);
+
+        catalogo.alCambiarEstado(new EstadoLibrosCambiadoEvent(List.of(1L, 2L), EstadoLibro.PRESTADO));
+        catalogo.alCrearLibros(new LibrosCreadosEvent(List.of(libro(6L, "ISBN-6", EstadoLibro.DISPONIBLE, 2L))));
+        catalogo.alActualizarLibro(new LibroActualizadoEvent(libro(4L, "ISBN-4", EstadoLibro.DISPONIBLE, 1L), 2L));
+        catalogo.alEliminarLibro(new LibroEliminadoEvent(5L, 1L));
+        catalogo.alActualizarCategoria(new CategoriaActualizadaEvent(2L, "Ensayo", null));
+
+        assertThat(antes.getEstado()).isEqualTo(EstadoLibro.DISPONIBLE);
+        assertThat(catalogo.obtener(1L).getEstado()).isEqualTo(EstadoLibro.PRESTADO);
+        assertThat(ids(catalogo.obtenerPorEstado(EstadoLibro.DISPONIBLE))).containsExactly(4L, 6L);
+        assertThat(ids(catalogo.obtenerPorEstado(EstadoLibro.PRESTADO))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(catalogo.obtenerPagina(null, null, 1L, 10))).containsExactly(1L, 2L, 4L);
+        assertThat(catalogo.obtener(5L)).isNull();
+        assertThat(catalogo.obtenerPorIsbn("ISBN-6").getCategoria().getNombre()).isEqualTo("Ensayo");
+    }
+
+    @Test
+    void lasRespuestasEntregadasNoSePuedenModificar() {
+        LibroResponse libro = catalogo.obtener(1L);
+
+        assertThatThrownBy(() -> libro.setEstado(EstadoLibro.PRESTADO))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> libro.getCategoria().setNombre("Otra"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(catalogo.obtener(1L).getEstado()).isEqualTo(EstadoLibro.DISPONIBLE);
+        assertThat(catalogo.obtener(1L).getCategoria().getNombre()).isEqualTo("Categoría 1");
+    }
+
+    @Test
+    void laRecargaReaplicaLosEventosRecibidosMientrasLeiaLaBase() {
+        when(libroRepository.findAllParaIndice()).thenAnswer(invocacion -> {
+            // El préstamo se confirma después de que la consulta ya leyó el libro como disponible
+            catalogo.alCambiarEstado(new EstadoLibrosCambiadoEvent(List.of(4L), EstadoLibro.PRESTADO));
+            return List.of(
+                libro(1L, "ISBN-1", EstadoLibro.DISPONIBLE, 1L),
+                libro(4L, "ISBN-4", EstadoLibro.DISPONIBLE, 2L)
+            );
+        });
+
+        catalogo.recargar();
+
+        assertThat(catalogo.obtener(4L).getEstado()).isEqualTo(EstadoLibro.PRESTADO);
+        assertThat(ids(catalogo.obtenerPorEstado(EstadoLibro.DISPONIBLE))).containsExactly(1L);
+        assertThat(ids(catalogo.obtenerTodos())).containsExactly(1L, 4L);
+
+        // Terminada la recarga los eventos ya no se acumulan
+        catalogo.alCambiarEstado(new EstadoLibrosCambiadoEvent(List.of(1L), EstadoLibro.PRESTADO));
+        when(libroRepository.findAllParaIndice()).thenReturn(List.of(libro(1L, "ISBN-1", EstadoLibro.DISPONIBLE, 1L)));
+        catalogo.recargar();
+        assertThat(catalogo.obtener(1L).getEstado()).isEqualTo(EstadoLibro.DISPONIBLE);
+    }
+
+    private static LibroIndexado libro(Long id, String isbn, EstadoLibro estado, Long idCategoria) {
+        return new LibroIndexado(id, "Título " + id, "Autor " + id, isbn, estado,
+                                 idCategoria, "Categoría " + idCategoria, null);
+    }
+
+    private static List<Long> ids(List<LibroResponse> libros) {
+        return libros.stream().map(LibroResponse::getIdLibro).collect(Collectors.toList());
+    }
+}
\ No newline at end of file
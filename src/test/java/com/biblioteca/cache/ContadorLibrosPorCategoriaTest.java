@@ -0,0 +1,61 @@
+package com.biblioteca.cache;
+
+import com.biblioteca.event.LibroEliminadoEvent;
+import com.biblioteca.repository.LibroRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContadorLibrosPorCategoriaTest {
+
+    private LibroRepository libroRepository;
+    private ContadorLibrosPorCategoria contador;
+
+    @BeforeEach
+    void setUp() {
+        libroRepository = mock(LibroRepository.class);
+        when(libroRepository.contarLibrosPorCategoria()).thenReturn(List.of(fila(1L, 3L), fila(2L, 5L)));
+        contador = new ContadorLibrosPorCategoria(libroRepository);
+        contador.recargar();
+    }
+
+    @Test
+    void reconciliaContraLaBaseCuandoDifiere() {
+        assertThat(contador.reconciliar()).isZero();
+
+        when(libroRepository.contarLibrosPorCategoria()).thenReturn(List.of(fila(1L, 4L), fila(3L, 1L)));
+
+        assertThat(contador.reconciliar()).isEqualTo(3);
+        assertThat(contador.cantidad(1L)).isEqualTo(4);
+        assertThat(contador.cantidad(2L)).isZero();
+        assertThat(contador.cantidad(3L)).isEqualTo(1);
+    }
+
+    @Test
+    void losEventosAplicadosCoincidenConLaBase() {
+        contador.alEliminarLibro(new LibroEliminadoEvent(10L, 2L));
+        when(libroRepository.contarLibrosPorCategoria()).thenReturn(List.of(fila(1L, 3L), fila(2L, 4L)));
+
+        assertThat(contador.reconciliar()).isZero();
+        assertThat(contador.cantidad(2L)).isEqualTo(4);
+    }
+
+    private static LibroRepository.CantidadPorCategoria fila(Long idCategoria, Long cantidad) {
+        return new LibroRepository.CantidadPorCategoria() {
+            @Override
+            public Long getIdCategoria() {
+                return idCategoria;
+            }
+
+            @Override
+            public Long getCantidad() {
+                return cantidad;
+            }
+        };
+    }
+}
\ No newline at end of file
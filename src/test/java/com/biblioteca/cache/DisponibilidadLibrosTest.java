@@ -0,0 +1,63 @@
+package com.biblioteca.cache;
+
+import com.biblioteca.event.EstadoLibrosCambiadoEvent;
+import com.biblioteca.event.LibroEliminadoEvent;
+import com.biblioteca.event.LibrosCreadosEvent;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.search.LibroIndexado;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DisponibilidadLibrosTest {
+
+    private LibroRepository libroRepository;
+    private DisponibilidadLibros disponibilidad;
+
+    @BeforeEach
+    void setUp() {
+        libroRepository = mock(LibroRepository.class);
+        when(libroRepository.findIdsDisponibles()).thenReturn(List.of(1L, 63L, 64L, 130L));
+        disponibilidad = new DisponibilidadLibros(libroRepository);
+        disponibilidad.cargar();
+    }
+
+    @Test
+    void aplicaLosCambiosDeEstadoYCreceConIdsNuevos() {
+        assertThat(disponibilidad.estaDisponible(63L)).isTrue();
+        assertThat(disponibilidad.estaDisponible(2L)).isFalse();
+        assertThat(disponibilidad.estaDisponible(100_000L)).isFalse();
+
+        disponibilidad.alCambiarEstado(new EstadoLibrosCambiadoEvent(List.of(1L, 64L), EstadoLibro.PRESTADO));
+        disponibilidad.alCambiarEstado(new EstadoLibrosCambiadoEvent(List.of(2L), EstadoLibro.DISPONIBLE));
+        disponibilidad.alCrearLibros(new LibrosCreadosEvent(List.of(new LibroIndexado(
+            100_000L, "Nuevo", "Autor", "ISBN-N", EstadoLibro.DISPONIBLE, 1L, "Categoría", null))));
+        disponibilidad.alEliminarLibro(new LibroEliminadoEvent(130L, 1L));
+
+        assertThat(disponibilidad.estaDisponible(1L)).isFalse();
+        assertThat(disponibilidad.estaDisponible(64L)).isFalse();
+        assertThat(disponibilidad.estaDisponible(63L)).isTrue();
+        assertThat(disponibilidad.estaDisponible(2L)).isTrue();
+        assertThat(disponibilidad.estaDisponible(100_000L)).isTrue();
+        assertThat(disponibilidad.estaDisponible(130L)).isFalse();
+        assertThat(disponibilidad.cubre(-1L)).isFalse();
+    }
+
+    @Test
+    void reconciliaContraLaBaseCuandoDifiere() {
+        assertThat(disponibilidad.reconciliar()).isZero();
+
+        when(libroRepository.findIdsDisponibles()).thenReturn(List.of(1L, 63L, 200L));
+
+        assertThat(disponibilidad.reconciliar()).isEqualTo(3);
+        assertThat(disponibilidad.estaDisponible(64L)).isFalse();
+        assertThat(disponibilidad.estaDisponible(130L)).isFalse();
+        assertThat(disponibilidad.estaDisponible(200L)).isTrue();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.biblioteca.carga;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Parámetros de una corrida de carga. Se leen de propiedades de sistema carga.* para poder
+ * ajustarlos desde la línea de comandos sin recompilar.
+ */
+public class EscenarioCarga {
+
+    private String urlBase;
+    private String email;
+    private String password;
+    private double tasaPorSegundo = 50;
+    private Duration duracion = Duration.ofSeconds(30);
+    private Duration calentamiento = Duration.ofSeconds(5);
+    private int maximoPendientes = 500;
+    private int muestraLibros = 2000;
+    private int muestraSocios = 1000;
+    private long semilla = 42;
+    private final Map<GeneradorCarga.Operacion, Integer> proporciones = new EnumMap<>(GeneradorCarga.Operacion.class);
+
+    public EscenarioCarga() {
+        proporciones.put(GeneradorCarga.Operacion.BUSQUEDA_CATALOGO, 50);
+        proporciones.put(GeneradorCarga.Operacion.CONSULTA_SOCIO, 15);
+        proporciones.put(GeneradorCarga.Operacion.PRESTAMO, 15);
+        proporciones.put(GeneradorCarga.Operacion.DEVOLUCION, 15);
+        proporciones.put(GeneradorCarga.Operacion.PAGO_MULTA, 5);
+    }
+
+    /**
+     * Las credenciales del login se toman de -Dcarga.email y -Dcarga.password.
+     * Ejemplo: -Dcarga.tasa=200 -Dcarga.duracion-s=120
+     * -Dcarga.proporciones=BUSQUEDA_CATALOGO:60,PRESTAMO:20,DEVOLUCION:20
+     */
+    public static EscenarioCarga desdePropiedades(String urlPorDefecto, String emailPorDefecto, String passwordPorDefecto) {
+        EscenarioCarga escenario = new EscenarioCarga();
+        escenario.urlBase = System.getProperty("carga.url", urlPorDefecto);
+        escenario.email = System.getProperty("carga.email", emailPorDefecto);
+        escenario.password = System.getProperty("carga.password", passwordPorDefecto);
+        escenario.tasaPorSegundo = Double.parseDouble(System.getProperty("carga.tasa", String.valueOf(escenario.tasaPorSegundo)));
+        escenario.duracion = Duration.ofSeconds(Long.getLong("carga.duracion-s", escenario.duracion.getSeconds()));
+        escenario.calentamiento = Duration.ofSeconds(Long.getLong("carga.calentamiento-s", escenario.calentamiento.getSeconds()));
+        escenario.maximoPendientes = Integer.getInteger("carga.maximo-pendientes", escenario.maximoPendientes);
+        escenario.semilla = Long.getLong("carga.semilla", escenario.semilla);
+
+        String proporciones = System.getProperty("carga.proporciones");
+        if (proporciones != null && !proporciones.isBlank()) {
+            escenario.proporciones.clear();
+            for (String proporcion : proporciones.split(",")) {
+                String[] partes = proporcion.trim().split(":");
+                escenario.proporciones.put(GeneradorCarga.Operacion.valueOf(partes[0].trim()), Integer.parseInt(partes[1].trim()));
+            }
+        }
+        return escenario;
+    }
+
+    public String getUrlBase() {
+        return urlBase;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public double getTasaPorSegundo() {
+        return tasaPorSegundo;
+    }
+
+    public Duration getDuracion() {
+        return duracion;
+    }
+
+    public Duration getCalentamiento() {
+        return calentamiento;
+    }
+
+    public int getMaximoPendientes() {
+        return maximoPendientes;
+    }
+
+    public int getMuestraLibros() {
+        return muestraLibros;
+    }
+
+    public int getMuestraSocios() {
+        return muestraSocios;
+    }
+
+    public long getSemilla() {
+        return semilla;
+    }
+
+    public Map<GeneradorCarga.Operacion, Integer> getProporciones() {
+        return proporciones;
+    }
+}
\ No newline at end of file
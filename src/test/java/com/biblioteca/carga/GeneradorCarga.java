@@ -0,0 +1,352 @@
+package com.biblioteca.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga de modelo abierto contra la API HTTP. Las llegadas siguen un proceso de
+ * Poisson con la tasa del escenario, independiente de cuánto tarde el servidor, y la latencia
+ * se mide desde el instante en que la operación debía empezar para no esconder las esperas
+ * (coordinated omission). Cada operación reproduce lo que hace un bibliotecario en el mostrador.
+ */
+public class GeneradorCarga {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneradorCarga.class);
+    private static final long LATENCIA_MAXIMA_US = TimeUnit.MINUTES.toMicros(2);
+    private static final Duration TIMEOUT_PETICION = Duration.ofSeconds(30);
+
+    public enum Operacion {
+        BUSQUEDA_CATALOGO, CONSULTA_SOCIO, PRESTAMO, DEVOLUCION, PAGO_MULTA
+    }
+
+    enum Desenlace {
+        OK, RECHAZO, ERROR, SIN_DATOS
+    }
+
+    private final EscenarioCarga escenario;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SplittableRandom aleatorio;
+    private final Map<Operacion, Estadisticas> estadisticas = new EnumMap<>(Operacion.class);
+    private final ConcurrentLinkedQueue<Long> librosDisponibles = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<long[]> prestamosAbiertos = new ConcurrentLinkedQueue<>();
+    private final List<Long> socios = new ArrayList<>();
+    private final List<String> titulos = new ArrayList<>();
+    private final AtomicInteger pendientes = new AtomicInteger();
+    private String token;
+
+    public GeneradorCarga(EscenarioCarga escenario) {
+        this.escenario = escenario;
+        this.aleatorio = new SplittableRandom(escenario.getSemilla());
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        for (Operacion operacion : Operacion.values()) {
+            estadisticas.put(operacion, new Estadisticas());
+        }
+    }
+
+    public Map<Operacion, Estadisticas> ejecutar() throws Exception {
+        iniciarSesion();
+        cargarMuestras();
+
+        Operacion[] operaciones = Operacion.values();
+        int[] acumuladas = new int[operaciones.length];
+        int total = 0;
+        for (int i = 0; i < operaciones.length; i++) {
+            total += escenario.getProporciones().getOrDefault(operaciones[i], 0);
+            acumuladas[i] = total;
+        }
+
+        double intervaloMedioNanos = TimeUnit.SECONDS.toNanos(1) / escenario.getTasaPorSegundo();
+        long inicio = System.nanoTime();
+        long inicioMedicion = inicio + escenario.getCalentamiento().toNanos();
+        long fin = inicioMedicion + escenario.getDuracion().toNanos();
+        logger.info("Carga de {} operaciones/s durante {} s (más {} s de calentamiento) contra {}",
+                    escenario.getTasaPorSegundo(), escenario.getDuracion().getSeconds(),
+                    escenario.getCalentamiento().getSeconds(), escenario.getUrlBase());
+
+        long programado = inicio;
+        while (true) {
+            programado += (long) (-Math.log(1 - aleatorio.nextDouble()) * intervaloMedioNanos);
+            if (programado >= fin) {
+                break;
+            }
+            long espera = programado - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+
+            int sorteo = aleatorio.nextInt(total);
+            int indice = 0;
+            while (sorteo >= acumuladas[indice]) {
+                indice++;
+            }
+            Operacion operacion = operaciones[indice];
+            boolean medir = programado >= inicioMedicion;
+            Estadisticas estadisticasOperacion = estadisticas.get(operacion);
+
+            if (pendientes.incrementAndGet() > escenario.getMaximoPendientes()) {
+                pendientes.decrementAndGet();
+                if (medir) {
+                    estadisticasOperacion.descartadas.increment();
+                }
+                continue;
+            }
+            long instante = programado;
+            long semilla = aleatorio.nextLong();
+            ejecutar(operacion, new SplittableRandom(semilla)).whenComplete((desenlace, error) -> {
+                pendientes.decrementAndGet();
+                if (medir) {
+                    estadisticasOperacion.registrar(error != null ? Desenlace.ERROR : desenlace,
+                                                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - instante));
+                }
+            });
+        }
+
+        long limite = System.nanoTime() + TIMEOUT_PETICION.toNanos();
+        while (pendientes.get() > 0 && System.nanoTime() < limite) {
+            Thread.sleep(50);
+        }
+        return estadisticas;
+    }
+
+    private CompletableFuture<Desenlace> ejecutar(Operacion operacion, SplittableRandom aleatorio) {
+        return switch (operacion) {
+            case BUSQUEDA_CATALOGO -> {
+                String titulo = titulos.get(aleatorio.nextInt(titulos.size()));
+                yield enviar(get("/libros/buscar/titulo?titulo=" + URLEncoder.encode(titulo, StandardCharsets.UTF_8)))
+                    .thenApply(GeneradorCarga::desenlace);
+            }
+            case CONSULTA_SOCIO -> enviar(get("/socios/" + socioAlAzar(aleatorio))).thenApply(GeneradorCarga::desenlace);
+            case PRESTAMO -> prestar(aleatorio);
+            case DEVOLUCION -> devolver();
+            case PAGO_MULTA -> pagarMulta(aleatorio);
+        };
+    }
+
+    private CompletableFuture<Desenlace> prestar(SplittableRandom aleatorio) {
+        Long idLibro = librosDisponibles.poll();
+        if (idLibro == null) {
+            return CompletableFuture.completedFuture(Desenlace.SIN_DATOS);
+        }
+        String cuerpo = "{\"idLibro\":" + idLibro + ",\"idSocio\":" + socioAlAzar(aleatorio) + "}";
+        return enviar(post("/prestamos", cuerpo)).thenApply(respuesta -> {
+            Desenlace desenlace = desenlace(respuesta);
+            if (desenlace == Desenlace.OK) {
+                prestamosAbiertos.add(new long[]{leer(respuesta).path("idPrestamo").asLong(), idLibro});
+            }
+            return desenlace;
+        });
+    }
+
+    private CompletableFuture<Desenlace> devolver() {
+        long[] prestamo = prestamosAbiertos.poll();
+        if (prestamo == null) {
+            return CompletableFuture.completedFuture(Desenlace.SIN_DATOS);
+        }
+        return enviar(put("/prestamos/" + prestamo[0] + "/devolucion", "{\"estadoDevolucion\":\"BUEN_ESTADO\"}"))
+            .thenApply(respuesta -> {
+                Desenlace desenlace = desenlace(respuesta);
+                if (desenlace == Desenlace.OK) {
+                    librosDisponibles.add(prestamo[1]);
+                }
+                return desenlace;
+            });
+    }
+
+    /**
+     * Busca las multas activas de un socio y paga la primera, como se hace en el mostrador.
+     */
+    private CompletableFuture<Desenlace> pagarMulta(SplittableRandom aleatorio) {
+        return enviar(get("/multas/socio/" + socioAlAzar(aleatorio) + "/activas")).thenCompose(respuesta -> {
+            Desenlace desenlace = desenlace(respuesta);
+            JsonNode multas = desenlace == Desenlace.OK ? leer(respuesta) : null;
+            if (multas == null || multas.isEmpty()) {
+                return CompletableFuture.completedFuture(desenlace);
+            }
+            return enviar(put("/multas/" + multas.get(0).path("idMulta").asLong() + "/pagar", ""))
+                .thenApply(GeneradorCarga::desenlace);
+        });
+    }
+
+    private void iniciarSesion() throws IOException, InterruptedException {
+        String cuerpo = objectMapper.writeValueAsString(Map.of("email", escenario.getEmail(), "password", escenario.getPassword()));
+        HttpResponse<String> respuesta = httpClient.send(
+            HttpRequest.newBuilder(URI.create(escenario.getUrlBase() + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(cuerpo))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (respuesta.statusCode() != 200) {
+            throw new IllegalStateException("No se pudo iniciar sesión: " + respuesta.statusCode() + " " + respuesta.body());
+        }
+        token = objectMapper.readTree(respuesta.body()).path("token").asText();
+    }
+
+    /**
+     * Toma ids reales de libros disponibles y de socios recorriendo los listados paginados. Las
+     * búsquedas del catálogo usan los títulos de esos libros, como quien busca un libro puntual.
+     */
+    private void cargarMuestras() throws IOException, InterruptedException {
+        for (JsonNode libro : recorrerPaginas("/libros/pagina?estado=DISPONIBLE&tamanio=200", escenario.getMuestraLibros())) {
+            librosDisponibles.add(libro.path("idLibro").asLong());
+            titulos.add(libro.path("titulo").asText());
+        }
+        for (JsonNode socio : recorrerPaginas("/socios/pagina?tamanio=200", escenario.getMuestraSocios())) {
+            socios.add(socio.path("idSocio").asLong());
+        }
+        if (socios.isEmpty() || titulos.isEmpty()) {
+            throw new IllegalStateException("No hay libros disponibles o socios en " + escenario.getUrlBase());
+        }
+        logger.info("Muestra de {} libros disponibles y {} socios", librosDisponibles.size(), socios.size());
+    }
+
+    private List<JsonNode> recorrerPaginas(String ruta, int maximo) throws IOException, InterruptedException {
+        List<JsonNode> elementos = new ArrayList<>();
+        String cursor = null;
+        do {
+            String url = ruta + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+            HttpResponse<String> respuesta = httpClient.send(get(url), HttpResponse.BodyHandlers.ofString());
+            JsonNode pagina = objectMapper.readTree(respuesta.body());
+            pagina.path("contenido").forEach(elementos::add);
+            cursor = pagina.path("tieneMas").asBoolean() ? pagina.path("siguienteCursor").asText() : null;
+        } while (cursor != null && elementos.size() < maximo);
+        return elementos.size() > maximo ? elementos.subList(0, maximo) : elementos;
+    }
+
+    private long socioAlAzar(SplittableRandom aleatorio) {
+        return socios.get(aleatorio.nextInt(socios.size()));
+    }
+
+    private CompletableFuture<HttpResponse<String>> enviar(HttpRequest peticion) {
+        return httpClient.sendAsync(peticion, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest get(String ruta) {
+        return peticion(ruta).GET().build();
+    }
+
+    private HttpRequest post(String ruta, String cuerpo) {
+        return peticion(ruta).header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(cuerpo)).build();
+    }
+
+    private HttpRequest put(String ruta, String cuerpo) {
+        return peticion(ruta).header("Content-Type", "application/json").PUT(HttpRequest.BodyPublishers.ofString(cuerpo)).build();
+    }
+
+    private HttpRequest.Builder peticion(String ruta) {
+        return HttpRequest.newBuilder(URI.create(escenario.getUrlBase() + ruta))
+            .timeout(TIMEOUT_PETICION)
+            .header("Authorization", "Bearer " + token);
+    }
+
+    private JsonNode leer(HttpResponse<String> respuesta) {
+        try {
+            return objectMapper.readTree(respuesta.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Respuesta inválida de " + respuesta.uri(), e);
+        }
+    }
+
+    /**
+     * Los 4xx son rechazos del negocio (libro ya prestado, multa ya pagada) y no errores del servidor.
+     */
+    private static Desenlace desenlace(HttpResponse<String> respuesta) {
+        int estado = respuesta.statusCode();
+        if (estado < 400) {
+            return Desenlace.OK;
+        }
+        return estado < 500 ? Desenlace.RECHAZO : Desenlace.ERROR;
+    }
+
+    /**
+     * Escribe el resumen por operación y la distribución completa de latencias de cada una en
+     * formato .hgrm, que se puede graficar con HdrHistogram Plotter.
+     */
+    public void escribirReporte(Map<Operacion, Estadisticas> resultados, Path directorio) throws IOException {
+        Files.createDirectories(directorio);
+        double segundos = escenario.getDuracion().toMillis() / 1000.0;
+        StringBuilder resumen = new StringBuilder(String.format(
+            "%-18s %8s %8s %8s %8s %8s %10s %9s %9s %9s %9s %9s%n", "operacion", "total", "ok", "rechazos",
+            "errores", "descart.", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Map.Entry<Operacion, Estadisticas> entrada : resultados.entrySet()) {
+            Estadisticas e = entrada.getValue();
+            Histogram h = e.latencias;
+            resumen.append(String.format("%-18s %8d %8d %8d %8d %8d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                entrada.getKey(), e.total(), e.ok.sum(), e.rechazos.sum(), e.errores.sum(), e.descartadas.sum(),
+                h.getTotalCount() / segundos, h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(90) / 1000.0,
+                h.getValueAtPercentile(99) / 1000.0, h.getValueAtPercentile(99.9) / 1000.0, h.getMaxValue() / 1000.0));
+            try (PrintStream salida = new PrintStream(directorio.resolve(entrada.getKey().name().toLowerCase() + ".hgrm").toFile(),
+                                                      StandardCharsets.UTF_8)) {
+                h.outputPercentileDistribution(salida, 1000.0);
+            }
+        }
+        Files.writeString(directorio.resolve("resumen.txt"), resumen);
+        logger.info("Resultados de la carga:\n{}", resumen);
+    }
+
+    public static class Estadisticas {
+
+        private final Histogram latencias = new ConcurrentHistogram(LATENCIA_MAXIMA_US, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder rechazos = new LongAdder();
+        private final LongAdder errores = new LongAdder();
+        private final LongAdder sinDatos = new LongAdder();
+        private final LongAdder descartadas = new LongAdder();
+
+        void registrar(Desenlace desenlace, long latenciaUs) {
+            switch (desenlace) {
+                case OK -> ok.increment();
+                case RECHAZO -> rechazos.increment();
+                case ERROR -> errores.increment();
+                case SIN_DATOS -> {
+                    sinDatos.increment();
+                    return;
+                }
+            }
+            latencias.recordValue(Math.min(latenciaUs, LATENCIA_MAXIMA_US));
+        }
+
+        public long total() {
+            return ok.sum() + rechazos.sum() + errores.sum() + descartadas.sum();
+        }
+
+        public long getOk() {
+            return ok.sum();
+        }
+
+        public long getErrores() {
+            return errores.sum() + descartadas.sum();
+        }
+
+        public Histogram getLatencias() {
+            return latencias;
+        }
+    }
+}
\ No newline at end of file
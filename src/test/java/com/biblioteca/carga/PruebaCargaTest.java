@@ -0,0 +1,97 @@
+package com.biblioteca.carga;
+
+import com.biblioteca.cache.CatalogoLibros;
+import com.biblioteca.cache.ContadorLibrosPorCategoria;
+import com.biblioteca.cache.DisponibilidadLibros;
+import com.biblioteca.generador.GeneradorDatos;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.model.enums.Rol;
+import com.biblioteca.search.LibroSearchIndex;
+import com.biblioteca.service.UsuarioService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Levanta la aplicación con una base H2 propia, la puebla con el generador de datos y le aplica
+ * el escenario de carga. Con -Dcarga.url apunta a una instancia ya levantada y no genera datos;
+ * en ese caso el bibliotecario con el que inicia sesión se pasa con -Dcarga.email y -Dcarga.password.
+ * Solo corre con el perfil carga: mvn test -Pcarga -Dcarga.tasa=200 -Dcarga.duracion-s=120
+ */
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:biblioteca_carga;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "logging.level.com.biblioteca=WARN"
+})
+class PruebaCargaTest {
+
+    private static final String EMAIL = "carga@biblioteca.com";
+    private static final String PASSWORD = "carga12345";
+
+    @LocalServerPort
+    private int puerto;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private LibroSearchIndex libroSearchIndex;
+
+    @Autowired
+    private ContadorLibrosPorCategoria contadorLibrosPorCategoria;
+
+    @Autowired
+    private CatalogoLibros catalogoLibros;
+
+    @Autowired
+    private DisponibilidadLibros disponibilidadLibros;
+
+    @Test
+    void jornadaDeBiblioteca() throws Exception {
+        if (System.getProperty("carga.url") == null) {
+            poblarBase();
+        }
+        EscenarioCarga escenario = EscenarioCarga.desdePropiedades("http://localhost:" + puerto, EMAIL, PASSWORD);
+        GeneradorCarga generador = new GeneradorCarga(escenario);
+
+        Map<GeneradorCarga.Operacion, GeneradorCarga.Estadisticas> resultados = generador.ejecutar();
+        generador.escribirReporte(resultados, Path.of(System.getProperty("carga.reporte", "target/carga")));
+
+        double tasaErrorMaxima = Double.parseDouble(System.getProperty("carga.tasa-error-maxima", "0.01"));
+        resultados.forEach((operacion, estadisticas) -> {
+            if (estadisticas.total() > 0) {
+                assertThat((double) estadisticas.getErrores() / estadisticas.total())
+                    .as("tasa de errores de %s", operacion)
+                    .isLessThanOrEqualTo(tasaErrorMaxima);
+            }
+        });
+        assertThat(resultados.get(GeneradorCarga.Operacion.BUSQUEDA_CATALOGO).getOk()).isPositive();
+    }
+
+    private void poblarBase() throws Exception {
+        GeneradorDatos.Parametros parametros = new GeneradorDatos.Parametros();
+        parametros.setLibros(Integer.getInteger("carga.libros", 20_000));
+        parametros.setSocios(Integer.getInteger("carga.socios", 5_000));
+        parametros.setPrestamos(Long.getLong("carga.prestamos", 200_000L));
+        parametros.setDiasHistoria(365);
+        new GeneradorDatos(dataSource, parametros).generar();
+        libroSearchIndex.reconstruir();
+        contadorLibrosPorCategoria.recargar();
+        catalogoLibros.recargar();
+        disponibilidadLibros.cargar();
+
+        usuarioService.crearUsuario(new Usuario(EMAIL, PASSWORD, Rol.BIBLIOTECARIO, "Carga", "Prueba", "CARGA-1"),
+                                    Rol.BIBLIOTECARIO);
+    }
+}
\ No newline at end of file
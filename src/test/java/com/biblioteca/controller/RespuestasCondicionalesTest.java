@@ -0,0 +1,84 @@
+package com.biblioteca.controller;
+
+import com.biblioteca.dto.request.CreateCategoriaRequest;
+import com.biblioteca.security.JwtUtil;
+import com.biblioteca.service.CategoriaService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RespuestasCondicionalesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void elEtagEsLaVersionDelCatalogoYCambiaConCadaModificacion() throws Exception {
+        String token = "Bearer " + jwtUtil.generateJwtToken("etag@biblioteca.com", "BIBLIOTECARIO", 999_997, "1", "Etag", "Prueba");
+        String etag = mockMvc.perform(get("/categorias").header(HttpHeaders.AUTHORIZATION, token))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        mockMvc.perform(get("/categorias").header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        categoriaService.crearCategoria(new CreateCategoriaRequest("Etag " + System.nanoTime(), null));
+
+        String etagNuevo = mockMvc.perform(get("/categorias").header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etagNuevo).isNotEqualTo(etag);
+    }
+
+    @Test
+    void unaRevalidacionVigenteNoEjecutaLaConsulta() throws Exception {
+        String token = "Bearer " + jwtUtil.generateJwtToken("etag@biblioteca.com", "BIBLIOTECARIO", 999_997, "1", "Etag", "Prueba");
+        String etag = mockMvc.perform(get("/libros").header(HttpHeaders.AUTHORIZATION, token))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        mockMvc.perform(get("/categorias").header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unRecursoInexistenteNuncaRespondeNoModificado() throws Exception {
+        String token = "Bearer " + jwtUtil.generateJwtToken("etag@biblioteca.com", "BIBLIOTECARIO", 999_997, "1", "Etag", "Prueba");
+        mockMvc.perform(get("/categorias/{id}", Long.MAX_VALUE).header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, "*"))
+            .andExpect(status().isNotFound());
+    }
+}
\ No newline at end of file
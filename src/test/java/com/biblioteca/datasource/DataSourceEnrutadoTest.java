@@ -0,0 +1,107 @@
+package com.biblioteca.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Usa dos bases H2 independientes como primario y réplica; cada una contiene una marca con su
+ * nombre para saber a cuál se envió cada transacción.
+ */
+class DataSourceEnrutadoTest {
+
+    private JdbcTemplate primario;
+    private JdbcTemplate replica;
+    private ReplicasLectura replicas;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate lectura;
+    private TransactionTemplate escritura;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSourcePrimario = crearBase("enrutado_primario");
+        DataSource dataSourceReplica = crearBase("enrutado_replica");
+        primario = new JdbcTemplate(dataSourcePrimario);
+        replica = new JdbcTemplate(dataSourceReplica);
+        primario.execute("CREATE TABLE marca (origen VARCHAR(20))");
+        primario.update("INSERT INTO marca VALUES ('primario')");
+        replica.execute("CREATE TABLE marca (origen VARCHAR(20))");
+        replica.update("INSERT INTO marca VALUES ('replica')");
+        replica.execute("CREATE TABLE estado_replica (retraso_segundos DOUBLE)");
+        replica.update("INSERT INTO estado_replica VALUES (0)");
+
+        replicas = new ReplicasLectura(List.of(dataSourceReplica),
+            "SELECT retraso_segundos FROM estado_replica", 2000, 60_000);
+        DataSource enrutado = new LazyConnectionDataSourceProxy(new DataSourceEnrutado(dataSourcePrimario, replicas));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(enrutado);
+
+        jdbcTemplate = new JdbcTemplate(enrutado);
+        lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        escritura = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primario.execute("DROP TABLE marca");
+        replica.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void lasLecturasVanALaReplicaYLasEscriturasAlPrimario() {
+        assertThat(origenEn(lectura)).isEqualTo("replica");
+        assertThat(origenEn(escritura)).isEqualTo("primario");
+    }
+
+    @Test
+    void quienEscribioLeeDelPrimarioDuranteLaVentana() {
+        autenticar("ana@biblioteca.com");
+        escritura.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marca SET origen = origen"));
+
+        assertThat(origenEn(lectura)).isEqualTo("primario");
+
+        autenticar("beto@biblioteca.com");
+        assertThat(origenEn(lectura)).isEqualTo("replica");
+    }
+
+    @Test
+    void unaReplicaAtrasadaSeDejaDeUsarHastaPonerseAlDia() {
+        replica.update("UPDATE estado_replica SET retraso_segundos = 30");
+        replicas.verificarRetrasos();
+        assertThat(origenEn(lectura)).isEqualTo("primario");
+
+        replica.update("UPDATE estado_replica SET retraso_segundos = 0.5");
+        replicas.verificarRetrasos();
+        assertThat(origenEn(lectura)).isEqualTo("replica");
+    }
+
+    private String origenEn(TransactionTemplate transaccion) {
+        return transaccion.execute(status -> jdbcTemplate.queryForObject("SELECT origen FROM marca", String.class));
+    }
+
+    private static void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(usuario, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    private static DataSource crearBase(String nombre) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + nombre + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
\ No newline at end of file
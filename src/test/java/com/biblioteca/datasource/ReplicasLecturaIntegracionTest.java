@@ -0,0 +1,74 @@
+package com.biblioteca.datasource;
+
+import com.biblioteca.exception.ResourceNotFoundException;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.service.LibroService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Con las réplicas habilitadas, los métodos de servicio de solo lectura deben leer de la réplica.
+ * La réplica es otra base H2 con el mismo esquema y un libro que no existe en el primario.
+ */
+@SpringBootTest(properties = {
+    "biblioteca.replicas.habilitadas=true",
+    "biblioteca.replicas.urls=" + ReplicasLecturaIntegracionTest.URL_REPLICA,
+    "biblioteca.replicas.consulta-retraso=SELECT 0"
+})
+class ReplicasLecturaIntegracionTest {
+
+    static final String URL_REPLICA = "jdbc:h2:mem:biblioteca_replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final long ID_SOLO_EN_REPLICA = 987_654L;
+
+    @Autowired
+    private LibroService libroService;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private HikariDataSource dataSourcePrimario;
+
+    @BeforeAll
+    static void prepararReplica() {
+        DriverManagerDataSource replica = new DriverManagerDataSource(URL_REPLICA, "sa", "");
+        Flyway.configure()
+            .dataSource(replica)
+            .locations("classpath:db/migration/comun", "classpath:db/migration/h2")
+            .load()
+            .migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(replica);
+        jdbcTemplate.update("INSERT INTO categoria (id_categoria, nombre) VALUES (987654, 'Solo en réplica') ON CONFLICT DO NOTHING");
+        jdbcTemplate.update("INSERT INTO libro (id_libro, titulo, autor, isbn, estado, id_categoria) " +
+                            "VALUES (?, 'Replicado', 'Autor', 'REPLICA-1', 'DISPONIBLE', 987654) ON CONFLICT DO NOTHING",
+                            ID_SOLO_EN_REPLICA);
+    }
+
+    @Test
+    void lasLecturasDeSoloLecturaSeResuelvenEnLaReplica() {
+        assertThat(libroService.obtenerLibroPorId(ID_SOLO_EN_REPLICA).getTitulo()).isEqualTo("Replicado");
+    }
+
+    @Test
+    void lasEscriturasVanAlPrimario() {
+        Categoria categoria = categoriaRepository.save(new Categoria("Solo en primario", null));
+
+        String consulta = "SELECT COUNT(*) FROM categoria WHERE id_categoria = ?";
+        assertThat(new JdbcTemplate(dataSourcePrimario).queryForObject(consulta, Long.class, categoria.getIdCategoria())).isEqualTo(1);
+        assertThat(new JdbcTemplate(new DriverManagerDataSource(URL_REPLICA, "sa", ""))
+            .queryForObject(consulta, Long.class, categoria.getIdCategoria())).isZero();
+        assertThatThrownBy(() -> libroService.eliminarLibro(ID_SOLO_EN_REPLICA))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
\ No newline at end of file
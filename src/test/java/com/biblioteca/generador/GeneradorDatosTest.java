@@ -0,0 +1,92 @@
+package com.biblioteca.generador;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeneradorDatosTest {
+
+    private static final String HUELLA_PRESTAMOS =
+        "SELECT estado, COUNT(*) AS cantidad, SUM(id_libro) AS libros, SUM(id_socio) AS socios, " +
+        "MIN(fecha_inicio) AS desde, MAX(fecha_devolucion_real) AS hasta FROM prestamo GROUP BY estado ORDER BY estado";
+
+    @Test
+    void conLaMismaSemillaGeneraLosMismosDatos() throws Exception {
+        JdbcTemplate primera = generar("generador_a", 7);
+        JdbcTemplate segunda = generar("generador_b", 7);
+
+        List<Map<String, Object>> huella = primera.queryForList(HUELLA_PRESTAMOS);
+        assertThat(huella).hasSize(3);
+        assertThat(segunda.queryForList(HUELLA_PRESTAMOS)).isEqualTo(huella);
+        assertThat(segunda.queryForList("SELECT titulo, autor, id_categoria FROM libro ORDER BY id_libro"))
+            .isEqualTo(primera.queryForList("SELECT titulo, autor, id_categoria FROM libro ORDER BY id_libro"));
+        assertThat(segunda.queryForObject("SELECT SUM(monto) FROM multa", Double.class))
+            .isEqualTo(primera.queryForObject("SELECT SUM(monto) FROM multa", Double.class));
+    }
+
+    @Test
+    void losDatosGeneradosSonConsistentes() throws Exception {
+        JdbcTemplate jdbcTemplate = generar("generador_consistencia", 11);
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM (SELECT id_libro FROM prestamo WHERE estado IN ('ACTIVO', 'VENCIDO') " +
+            "GROUP BY id_libro HAVING COUNT(*) > 1)", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM libro WHERE estado = 'PRESTADO'", Long.class))
+            .isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM prestamo WHERE estado IN ('ACTIVO', 'VENCIDO')", Long.class))
+            .isPositive();
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(saldo_pendiente) FROM saldo_multa_socio", Double.class))
+            .isEqualTo(jdbcTemplate.queryForObject("SELECT SUM(monto) FROM multa WHERE pagada = false", Double.class));
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM multa m JOIN prestamo p ON p.id_prestamo = m.id_prestamo WHERE m.id_socio <> p.id_socio",
+            Long.class)).isZero();
+
+        List<Long> prestamosPorLibro = jdbcTemplate.queryForList(
+            "SELECT COUNT(*) FROM prestamo GROUP BY id_libro ORDER BY COUNT(*) DESC", Long.class);
+        assertThat(prestamosPorLibro.get(0)).isGreaterThan(10 * prestamosPorLibro.get(prestamosPorLibro.size() / 2));
+
+        long maximoId = jdbcTemplate.queryForObject("SELECT MAX(id_prestamo) FROM prestamo", Long.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT nextval('prestamo_seq')", Long.class) - 49).isGreaterThan(maximoId);
+    }
+
+    @Test
+    void rechazaUnaBaseConDatos() throws Exception {
+        JdbcTemplate jdbcTemplate = generar("generador_con_datos", 3);
+
+        assertThatThrownBy(() -> new GeneradorDatos(jdbcTemplate.getDataSource(), parametros(3)).generar())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static JdbcTemplate generar(String base, long semilla) throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + base + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration/comun", "classpath:db/migration/h2")
+            .load()
+            .migrate();
+
+        new GeneradorDatos(dataSource, parametros(semilla)).generar();
+        return new JdbcTemplate(dataSource);
+    }
+
+    private static GeneradorDatos.Parametros parametros(long semilla) {
+        GeneradorDatos.Parametros parametros = new GeneradorDatos.Parametros();
+        parametros.setSemilla(semilla);
+        parametros.setFechaReferencia(LocalDate.of(2025, 6, 30));
+        parametros.setCategorias(10);
+        parametros.setLibros(2_000);
+        parametros.setSocios(500);
+        parametros.setPrestamos(30_000);
+        parametros.setDiasHistoria(365);
+        parametros.setTamanioLote(1_000);
+        return parametros;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.biblioteca.metrics;
+
+import com.biblioteca.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricasPrometheusTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void publicaTiemposPorCapaYEstadisticasDelPoolYDeHibernate() throws Exception {
+        String token = jwtUtil.generateJwtToken("metricas@biblioteca.com", "BIBLIOTECARIO", 999_998, "1", "Metricas", "Prueba");
+        mockMvc.perform(get("/categorias").header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk());
+
+        String metricas = mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(metricas)
+            .contains("http_server_requests_seconds_bucket{")
+            .contains("biblioteca_servicio_seconds_bucket{clase=\"CategoriaServiceImpl\"")
+            .contains("spring_data_repository_invocations_seconds_bucket{")
+            .contains("biblioteca_sql_sentencias_por_peticion_bucket{")
+            .contains("uri=\"/categorias\"")
+            .contains("hikaricp_connections_active")
+            .contains("hibernate_entities_loads_total")
+            .contains("hibernate_second_level_cache_requests_total");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.biblioteca.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ejecuta con EXPLAIN el SQL de las consultas frecuentes de los repositorios sobre un conjunto
+ * de datos sembrado y falla si alguna recorre la tabla completa en lugar de usar un índice.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IndicesConsultasTest {
+
+    private static final int CATEGORIAS = 10;
+    private static final int LIBROS = 1_000;
+    private static final int SOCIOS = 300;
+    private static final int PRESTAMOS = 4_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long idSocio;
+    private long idLibro;
+    private long idCategoria;
+
+    @BeforeAll
+    void sembrarDatos() {
+        for (int i = 0; i < CATEGORIAS; i++) {
+            jdbcTemplate.update("INSERT INTO categoria (nombre) VALUES (?)", "Explain " + i);
+        }
+        List<Long> categorias = jdbcTemplate.queryForList(
+            "SELECT id_categoria FROM categoria WHERE nombre LIKE 'Explain %' ORDER BY id_categoria", Long.class);
+        idCategoria = categorias.get(0);
+
+        List<Object[]> libros = new ArrayList<>();
+        for (int i = 0; i < LIBROS; i++) {
+            libros.add(new Object[]{"Libro " + i, "Autor " + i, "EXP-" + i, i % 10 == 0 ? "PRESTADO" : "DISPONIBLE",
+                                    categorias.get(i % CATEGORIAS)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO libro (titulo, autor, isbn, estado, id_categoria) VALUES (?, ?, ?, ?, ?)", libros);
+        List<Long> idsLibros = jdbcTemplate.queryForList(
+            "SELECT id_libro FROM libro WHERE isbn LIKE 'EXP-%' ORDER BY id_libro", Long.class);
+        idLibro = idsLibros.get(0);
+
+        List<Object[]> socios = new ArrayList<>();
+        for (int i = 0; i < SOCIOS; i++) {
+            socios.add(new Object[]{"Socio " + i, 2_000_000 + i, "EXP-" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO socio (nombre, nro_socio, dni) VALUES (?, ?, ?)", socios);
+        List<Long> idsSocios = jdbcTemplate.queryForList(
+            "SELECT id_socio FROM socio WHERE dni LIKE 'EXP-%' ORDER BY id_socio", Long.class);
+        idSocio = idsSocios.get(0);
+
+        LocalDate hoy = LocalDate.now();
+        List<Object[]> prestamos = new ArrayList<>();
+        for (int i = 0; i < PRESTAMOS; i++) {
+            String estado = i % 20 == 0 ? "ACTIVO" : "FINALIZADO";
+            prestamos.add(new Object[]{Date.valueOf(hoy.minusDays(i % 60)), Date.valueOf(hoy.minusDays(i % 60 - 15)),
+                                       estado, idsLibros.get(i % LIBROS), idsSocios.get(i % SOCIOS)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO prestamo (fecha_inicio, fecha_fin_prevista, estado, id_libro, id_socio) " +
+                                 "VALUES (?, ?, ?, ?, ?)", prestamos);
+
+        jdbcTemplate.update("INSERT INTO multa (monto, motivo, id_prestamo, pagada, id_socio) " +
+                            "SELECT 100, 'Explain', p.id_prestamo, MOD(p.id_prestamo, 11) <> 0, p.id_socio " +
+                            "FROM prestamo p JOIN socio s ON s.id_socio = p.id_socio " +
+                            "WHERE p.estado = 'FINALIZADO' AND MOD(p.id_prestamo, 7) = 0 AND s.dni LIKE 'EXP-%'");
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void limpiarDatos() {
+        jdbcTemplate.update("DELETE FROM multa WHERE motivo = 'Explain'");
+        jdbcTemplate.update("DELETE FROM prestamo WHERE id_socio IN (SELECT id_socio FROM socio WHERE dni LIKE 'EXP-%')");
+        jdbcTemplate.update("DELETE FROM socio WHERE dni LIKE 'EXP-%'");
+        jdbcTemplate.update("DELETE FROM libro WHERE isbn LIKE 'EXP-%'");
+        jdbcTemplate.update("DELETE FROM categoria WHERE nombre LIKE 'Explain %'");
+    }
+
+    Stream<Arguments> consultas() {
+        return Stream.of(
+            Arguments.of("SocioRepository.countPrestamosActivosBySocioId",
+                "SELECT COUNT(*) FROM prestamo p WHERE p.id_socio = " + idSocio + " AND p.estado = 'ACTIVO'"),
+            Arguments.of("PrestamoRepository.existsPrestamoActivoByLibroId",
+                "SELECT COUNT(*) FROM prestamo p WHERE p.id_libro = " + idLibro + " AND p.estado = 'ACTIVO'"),
+            Arguments.of("PrestamoRepository.findPrestamosActivosBySocioIdConDetalle",
+                "SELECT p.*, l.*, s.* FROM prestamo p JOIN libro l ON l.id_libro = p.id_libro " +
+                "JOIN socio s ON s.id_socio = p.id_socio WHERE s.id_socio = " + idSocio + " AND p.estado = 'ACTIVO'"),
+            Arguments.of("PrestamoRepository.findMinIdPrestamoVencido",
+                "SELECT MIN(p.id_prestamo) FROM prestamo p WHERE p.estado = 'ACTIVO' " +
+                "AND p.fecha_fin_prevista < DATE '" + LocalDate.now() + "'"),
+            Arguments.of("LibroRepository.findLibrosPrestados",
+                "SELECT * FROM libro l WHERE l.estado = 'PRESTADO'"),
+            Arguments.of("LibroRepository.countByCategoriaIdCategoria",
+                "SELECT COUNT(*) FROM libro l WHERE l.id_categoria = " + idCategoria),
+            Arguments.of("MultaRepository.findMultasActivasBySocioId",
+                "SELECT * FROM multa m WHERE m.id_socio = " + idSocio + " AND m.pagada = false"),
+            Arguments.of("MultaRepository.findByPagadaFalse",
+                "SELECT * FROM multa m WHERE m.pagada = false")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("consultas")
+    void laConsultaUsaUnIndice(String consulta, String sql) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+        assertThat(plan)
+            .as("Plan de %s:%n%s", consulta, plan)
+            .doesNotContainIgnoringCase("tableScan");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.model.entity.Socio;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserta préstamos en masa con y sin lotes JDBC y compara tiempo y cantidad de sentencias.
+ * El tamaño de lote 1 reproduce el comportamiento anterior de IDENTITY, donde cada INSERT era
+ * un viaje aparte a la base. Solo corre con el perfil benchmark: mvn test -Pbenchmark
+ * (la cantidad se ajusta con -Dbenchmark.prestamos=N).
+ */
+@Tag("benchmark")
+@SpringBootTest
+class PrestamoInsercionBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrestamoInsercionBenchmarkTest.class);
+    private static final int CANTIDAD_PRESTAMOS = Integer.getInteger("benchmark.prestamos", 100_000);
+    private static final int CANTIDAD_LIBROS = 1_000;
+    private static final int CANTIDAD_SOCIOS = 1_000;
+    private static final int TAMANIO_LOTE = 50;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Long> idsLibros = new ArrayList<>();
+    private final List<Long> idsSocios = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        enTransaccion(TAMANIO_LOTE, entityManager -> {
+            Categoria categoria = new Categoria("Benchmark inserción", null);
+            entityManager.persist(categoria);
+            for (int i = 0; i < CANTIDAD_LIBROS; i++) {
+                Libro libro = new Libro("Libro " + i, "Autor " + i, "BENCH-" + i, categoria);
+                entityManager.persist(libro);
+                idsLibros.add(libro.getIdLibro());
+            }
+            for (int i = 0; i < CANTIDAD_SOCIOS; i++) {
+                Socio socio = new Socio("Socio " + i, 3_000_000 + i, "BENCH-" + i);
+                entityManager.persist(socio);
+                idsSocios.add(socio.getIdSocio());
+            }
+        });
+    }
+
+    @AfterEach
+    void limpiarDatos() {
+        enTransaccion(TAMANIO_LOTE, entityManager -> {
+            entityManager.createQuery("DELETE FROM Prestamo p WHERE p.socio.idSocio IN :ids")
+                .setParameter("ids", idsSocios).executeUpdate();
+            entityManager.createQuery("DELETE FROM Socio s WHERE s.idSocio IN :ids")
+                .setParameter("ids", idsSocios).executeUpdate();
+            entityManager.createQuery("DELETE FROM Libro l WHERE l.idLibro IN :ids")
+                .setParameter("ids", idsLibros).executeUpdate();
+            entityManager.createQuery("DELETE FROM Categoria c WHERE c.nombre = 'Benchmark inserción'").executeUpdate();
+        });
+    }
+
+    @Test
+    void insertarEnLotesReduceSentenciasYTiempo() {
+        Medicion sinLotes = insertarPrestamos(1);
+        Medicion conLotes = insertarPrestamos(TAMANIO_LOTE);
+
+        logger.info("{} préstamos sin lotes: {} ms, {} sentencias", CANTIDAD_PRESTAMOS, sinLotes.milisegundos, sinLotes.sentencias);
+        logger.info("{} préstamos con lotes de {}: {} ms, {} sentencias", CANTIDAD_PRESTAMOS, TAMANIO_LOTE,
+                   conLotes.milisegundos, conLotes.sentencias);
+
+        assertThat(conLotes.sentencias).isLessThan(sinLotes.sentencias / 10);
+        assertThat(conLotes.milisegundos).isLessThan(sinLotes.milisegundos);
+    }
+
+    private Medicion insertarPrestamos(int tamanioLote) {
+        statistics.clear();
+        long inicio = System.nanoTime();
+
+        enTransaccion(tamanioLote, entityManager -> {
+            LocalDate hoy = LocalDate.now();
+            for (int i = 0; i < CANTIDAD_PRESTAMOS; i++) {
+                Prestamo prestamo = new Prestamo(
+                    entityManager.getReference(Libro.class, idsLibros.get(i % CANTIDAD_LIBROS)),
+                    entityManager.getReference(Socio.class, idsSocios.get(i % CANTIDAD_SOCIOS)));
+                prestamo.setFechaFinPrevista(hoy.plusDays(15));
+                entityManager.persist(prestamo);
+
+                if ((i + 1) % TAMANIO_LOTE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+
+        return new Medicion((System.nanoTime() - inicio) / 1_000_000, statistics.getPrepareStatementCount());
+    }
+
+    private void enTransaccion(int tamanioLote, Consumer<EntityManager> trabajo) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(tamanioLote);
+            entityManager.getTransaction().begin();
+            trabajo.accept(entityManager);
+            entityManager.getTransaction().commit();
+        } finally {
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            entityManager.close();
+        }
+    }
+
+    private static final class Medicion {
+
+        private final long milisegundos;
+        private final long sentencias;
+
+        private Medicion(long milisegundos, long sentencias) {
+            this.milisegundos = milisegundos;
+            this.sentencias = sentencias;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.biblioteca.search;
+
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara la búsqueda por índice de trigramas contra el LIKE de la base de datos.
+ * Se ejecuta con: mvn test -Pbenchmark -Dtest=LibroSearchIndexBenchmarkTest
+ */
+@Tag("benchmark")
+@SpringBootTest
+class LibroSearchIndexBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LibroSearchIndexBenchmarkTest.class);
+    private static final int CANTIDAD_LIBROS = Integer.getInteger("benchmark.libros", 50_000);
+    private static final int CONSULTAS = 200;
+    private static final String[] PALABRAS = {
+        "historia", "amor", "guerra", "ciudad", "noche", "tiempo", "sombra", "mar", "viaje", "memoria",
+        "jardin", "fuego", "silencio", "camino", "sueño", "espejo", "laberinto", "tierra", "rio", "luz"
+    };
+    private static final String[] APELLIDOS = {
+        "García", "Pérez", "Fernández", "López", "Martínez", "Borges", "Cortázar", "Sábato", "Ocampo", "Storni"
+    };
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private LibroSearchIndex libroSearchIndex;
+
+    @Test
+    void indiceDeTrigramasVersusLike() {
+        Random random = new Random(42);
+        Categoria categoria = categoriaRepository.save(new Categoria("Benchmark", null));
+        List<Libro> libros = new ArrayList<>(CANTIDAD_LIBROS);
+        for (int i = 0; i < CANTIDAD_LIBROS; i++) {
+            String titulo = PALABRAS[random.nextInt(PALABRAS.length)] + " de la "
+                    + PALABRAS[random.nextInt(PALABRAS.length)] + " " + i;
+            String autor = APELLIDOS[random.nextInt(APELLIDOS.length)] + ", " + APELLIDOS[random.nextInt(APELLIDOS.length)];
+            libros.add(new Libro(titulo, autor, "BENCH-" + i, categoria));
+        }
+        libroRepository.saveAll(libros);
+        libroSearchIndex.reconstruir();
+
+        String[] consultas = new String[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            consultas[i] = PALABRAS[random.nextInt(PALABRAS.length)] + " de la " + PALABRAS[random.nextInt(PALABRAS.length)];
+        }
+
+        long resultadosLike = 0;
+        long inicioLike = System.nanoTime();
+        for (String consulta : consultas) {
+            resultadosLike += libroRepository.findByTituloContainingIgnoreCase(consulta).size();
+        }
+        long nanosLike = System.nanoTime() - inicioLike;
+
+        long resultadosIndice = 0;
+        long inicioIndice = System.nanoTime();
+        for (String consulta : consultas) {
+            resultadosIndice += libroSearchIndex.buscarPorTitulo(consulta).size();
+        }
+        long nanosIndice = System.nanoTime() - inicioIndice;
+
+        logger.info("Búsqueda por título sobre {} libros, {} consultas", CANTIDAD_LIBROS, CONSULTAS);
+        logger.info("LIKE en base de datos: {} ms/consulta", String.format("%.3f", nanosLike / 1e6 / CONSULTAS));
+        logger.info("Índice de trigramas:   {} ms/consulta", String.format("%.3f", nanosIndice / 1e6 / CONSULTAS));
+
+        assertThat(resultadosIndice).isEqualTo(resultadosLike);
+    }
+}
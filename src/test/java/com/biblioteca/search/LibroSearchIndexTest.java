@@ -0,0 +1,92 @@
+package com.biblioteca.search;
+
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.LibroRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LibroSearchIndexTest {
+
+    private LibroSearchIndex indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new LibroSearchIndex(mock(LibroRepository.class));
+        indice.cargar(List.of(
+            libro(1L, "Cien años de soledad", "Gabriel García Márquez"),
+            libro(2L, "El amor en los tiempos del cólera", "Gabriel García Márquez"),
+            libro(3L, "Soledad", "Autor Anónimo"),
+            libro(4L, "Rayuela", "Julio Cortázar"),
+            libro(5L, "La soledad de los números primos", "Paolo Giordano")
+        ));
+    }
+
+    @Test
+    void buscaPorSubcadenaIgnorandoMayusculasYAcentos() {
+        assertThat(ids(indice.buscarPorAutor("garcia marq"))).containsExactly(1L, 2L);
+        assertThat(ids(indice.buscarPorTitulo("CÓLERA"))).containsExactly(2L);
+        assertThat(ids(indice.buscarPorTitulo("inexistente"))).isEmpty();
+    }
+
+    @Test
+    void ordenaPorCalidadDeCoincidencia() {
+        assertThat(ids(indice.buscarPorTitulo("soledad"))).containsExactly(3L, 1L, 5L);
+    }
+
+    @Test
+    void consultasCortasRecorrenTodosLosLibros() {
+        assertThat(ids(indice.buscarPorTitulo("ra"))).containsExactly(4L, 2L);
+        assertThat(indice.buscarPorTitulo("")).hasSize(5);
+    }
+
+    @Test
+    void reflejaAltasModificacionesYBajas() {
+        indice.indexar(libro(6L, "Soledades", "Luis de Góngora"));
+        indice.indexar(libro(4L, "Bestiario", "Julio Cortázar"));
+        indice.eliminar(3L);
+        indice.actualizarEstado(1L, EstadoLibro.PRESTADO);
+
+        assertThat(ids(indice.buscarPorTitulo("soledad"))).containsExactly(6L, 1L, 5L);
+        assertThat(indice.buscarPorTitulo("rayuela")).isEmpty();
+        assertThat(ids(indice.buscarPorTitulo("bestia"))).containsExactly(4L);
+        assertThat(indice.buscarPorTitulo("cien").get(0).getEstado()).isEqualTo(EstadoLibro.PRESTADO);
+    }
+
+    @Test
+    void losCambiosDuranteLaReconstruccionNoSePierden() {
+        LibroRepository libroRepository = mock(LibroRepository.class);
+        LibroSearchIndex reconstruido = new LibroSearchIndex(libroRepository);
+        when(libroRepository.findAllParaIndice()).thenAnswer(invocacion -> {
+            // Llegan mientras se lee la base, que ya no los ve
+            reconstruido.indexar(libro(7L, "Ficciones", "Jorge Luis Borges"));
+            reconstruido.actualizarEstado(4L, EstadoLibro.PRESTADO);
+            reconstruido.eliminar(3L);
+            return List.of(
+                libro(3L, "Soledad", "Autor Anónimo"),
+                libro(4L, "Rayuela", "Julio Cortázar")
+            );
+        });
+
+        reconstruido.reconstruir();
+
+        assertThat(ids(reconstruido.buscarPorTitulo("ficciones"))).containsExactly(7L);
+        assertThat(reconstruido.buscarPorTitulo("rayuela").get(0).getEstado()).isEqualTo(EstadoLibro.PRESTADO);
+        assertThat(reconstruido.buscarPorTitulo("soledad")).isEmpty();
+        assertThat(reconstruido.cantidadLibros()).isEqualTo(2);
+    }
+
+    private static LibroIndexado libro(Long id, String titulo, String autor) {
+        return new LibroIndexado(id, titulo, autor, "ISBN-" + id, EstadoLibro.DISPONIBLE, 1L, "Novela", null);
+    }
+
+    private static List<Long> ids(List<LibroIndexado> libros) {
+        return libros.stream().map(LibroIndexado::getIdLibro).collect(Collectors.toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.biblioteca.security;
+
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.model.enums.Rol;
+import com.biblioteca.repository.UsuarioRepository;
+import com.biblioteca.service.UsuarioService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Test
+    void autenticaConLosClaimsSinBuscarAlUsuario() throws Exception {
+        String token = jwtUtil.generateJwtToken("inexistente@biblioteca.com", "BIBLIOTECARIO", 999_999, "1", "Sin", "Registro");
+
+        mockMvc.perform(get("/categorias").header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/categorias"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void rechazaTokensDeUsuariosDesactivados() throws Exception {
+        Usuario usuario = usuarioService.crearUsuario(
+            new Usuario("revocado@biblioteca.com", "secreto123", Rol.SOCIO, "Rita", "Revocada", "REV-1"), Rol.SOCIO);
+        String token = jwtUtil.generateJwtToken(usuario.getEmail(), usuario.getRol().name(), usuario.getId(),
+            usuario.getDni(), usuario.getApellido(), usuario.getNombre());
+
+        mockMvc.perform(get("/categorias").header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk());
+
+        usuarioService.desactivarUsuario(usuario.getId().longValue());
+
+        mockMvc.perform(get("/categorias").header("Authorization", "Bearer " + token))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void unaInstanciaNuevaTambienRechazaLosTokensDeUsuariosDesactivados() {
+        Usuario usuario = usuarioService.crearUsuario(
+            new Usuario("reinicio@biblioteca.com", "secreto123", Rol.SOCIO, "Raul", "Reinicio", "REV-2"), Rol.SOCIO);
+        String token = jwtUtil.generateJwtToken(usuario.getEmail(), usuario.getRol().name(), usuario.getId(),
+            usuario.getDni(), usuario.getApellido(), usuario.getNombre());
+
+        usuarioService.desactivarUsuario(usuario.getId().longValue());
+
+        // Otra instancia (o esta misma tras reiniciar) solo conoce lo que quedó en la base
+        RegistroRevocaciones otraInstancia = new RegistroRevocaciones(86_400_000L, usuarioRepository);
+        otraInstancia.sincronizar();
+        assertThat(otraInstancia.estaRevocado(usuario.getId(), jwtUtil.verificarToken(token))).isTrue();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.biblioteca.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la verificación de JWT del filtro: el camino anterior (clave y parser nuevos,
+ * dos verificaciones por request) contra {@link JwtUtil#verificarToken} con y sin caché.
+ * También mide la emisión de tokens del login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    static final String SECRETO = "miClaveSecretaMuySeguraParaJWT2025BibliotecaUTN1234567890QueTengaAlMenos32Caracteres";
+
+    private JwtUtil jwtUtilConCache;
+    private JwtUtil jwtUtilSinCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtilConCache = new JwtUtil(SECRETO, 86_400_000L, 60_000L, 10_000);
+        jwtUtilSinCache = new JwtUtil(SECRETO, 86_400_000L, 0L, 10_000);
+        token = jwtUtilConCache.generateJwtToken("socio@biblioteca.com", "USER", 1, "30111222", "Perez", "Ana");
+    }
+
+    @Benchmark
+    public String dobleVerificacionAnterior() {
+        Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(SECRETO.getBytes()))
+            .build()
+            .parseClaimsJws(token);
+        return Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(SECRETO.getBytes()))
+            .build()
+            .parseClaimsJws(token)
+            .getBody()
+            .getSubject();
+    }
+
+    @Benchmark
+    public Claims verificacionUnicaSinCache() {
+        return jwtUtilSinCache.verificarToken(token);
+    }
+
+    @Benchmark
+    public Claims verificacionConCache() {
+        return jwtUtilConCache.verificarToken(token);
+    }
+
+    @Benchmark
+    public String generarToken() {
+        return jwtUtilSinCache.generateJwtToken("socio@biblioteca.com", "USER", 1, "30111222", "Perez", "Ana");
+    }
+
+    @Benchmark
+    public boolean validarTokenSinCache() {
+        return jwtUtilSinCache.validateToken(token);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.biblioteca.security;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ejecuta {@link JwtUtilBenchmark} con JMH. Solo corre con el perfil benchmark: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class JwtUtilBenchmarkTest {
+
+    @Test
+    void verificacionConCacheEsMasRapidaQueLaDobleVerificacion() throws Exception {
+        Options opciones = new OptionsBuilder()
+            .include(JwtUtilBenchmark.class.getSimpleName())
+            .build();
+
+        Collection<RunResult> resultados = new Runner(opciones).run();
+
+        double anterior = puntaje(resultados, "dobleVerificacionAnterior");
+        double conCache = puntaje(resultados, "verificacionConCache");
+        assertThat(conCache).isLessThan(anterior);
+    }
+
+    private double puntaje(Collection<RunResult> resultados, String metodo) {
+        return resultados.stream()
+            .filter(r -> r.getParams().getBenchmark().endsWith("." + metodo))
+            .findFirst()
+            .orElseThrow()
+            .getPrimaryResult()
+            .getScore();
+    }
+}
\ No newline at end of file
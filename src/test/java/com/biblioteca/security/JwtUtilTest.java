@@ -0,0 +1,48 @@
+package com.biblioteca.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil(JwtUtilBenchmark.SECRETO, 60_000L, 60_000L, 2);
+
+    @Test
+    void verificarTokenDevuelveLosClaimsDeUnTokenValido() {
+        String token = jwtUtil.generateJwtToken("ana@biblioteca.com", "ADMIN", 7, "30111222", "Perez", "Ana");
+
+        Claims claims = jwtUtil.verificarToken(token);
+
+        assertThat(claims.getSubject()).isEqualTo("ana@biblioteca.com");
+        assertThat(claims.get("role", String.class)).isEqualTo("ROLE_ADMIN");
+        assertThat(jwtUtil.verificarToken(token)).isSameAs(claims);
+    }
+
+    @Test
+    void verificarTokenRechazaTokensAlteradosOFirmadosConOtraClave() {
+        String token = jwtUtil.generateJwtToken("ana@biblioteca.com", "USER", 7, "30111222", "Perez", "Ana");
+        JwtUtil otraClave = new JwtUtil(JwtUtilBenchmark.SECRETO + "distinta", 60_000L, 60_000L, 2);
+
+        assertThat(jwtUtil.verificarToken(token.substring(0, token.length() - 2) + "xx")).isNull();
+        assertThat(otraClave.verificarToken(token)).isNull();
+        assertThat(jwtUtil.verificarToken(null)).isNull();
+    }
+
+    @Test
+    void verificarTokenRechazaTokensExpirados() {
+        JwtUtil expirado = new JwtUtil(JwtUtilBenchmark.SECRETO, -1_000L, 60_000L, 2);
+        String token = expirado.generateJwtToken("ana@biblioteca.com", "USER", 7, "30111222", "Perez", "Ana");
+
+        assertThat(expirado.verificarToken(token)).isNull();
+    }
+
+    @Test
+    void laCacheSeMantieneAcotada() {
+        for (int i = 0; i < 10; i++) {
+            String token = jwtUtil.generateJwtToken("socio" + i + "@biblioteca.com", "USER", i, "DNI" + i, "Apellido", "Nombre");
+            assertThat(jwtUtil.verificarToken(token).getSubject()).isEqualTo("socio" + i + "@biblioteca.com");
+        }
+    }
+}
\ No newline at end of file
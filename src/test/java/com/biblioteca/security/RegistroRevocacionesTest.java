@@ -0,0 +1,98 @@
+package com.biblioteca.security;
+
+import com.biblioteca.repository.UsuarioRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegistroRevocacionesTest {
+
+    private final UsuarioRepository usuarioRepository = mock(UsuarioRepository.class);
+    private final RegistroRevocaciones registro = new RegistroRevocaciones(60_000L, usuarioRepository);
+    private final JwtUtil jwtUtil = new JwtUtil(JwtUtilBenchmark.SECRETO, 60_000L, 60_000L, 2);
+
+    @Test
+    void unTokenEmitidoDespuesDeRevocarSigueSiendoValidoAunqueSeaEnElMismoSegundo() throws InterruptedException {
+        Claims anterior = claimsDeUnToken(7);
+        registro.registrar(7, true, System.currentTimeMillis());
+        // Solo para no emitir en el mismo milisegundo de la revocación; sigue siendo el mismo segundo casi siempre
+        Thread.sleep(2);
+        Claims posterior = claimsDeUnToken(7);
+
+        assertThat(registro.estaRevocado(7, anterior)).isTrue();
+        assertThat(registro.estaRevocado(7, posterior)).isFalse();
+        assertThat(registro.estaRevocado(8, anterior)).isFalse();
+    }
+
+    @Test
+    void losTokensSinInstanteEnMilisegundosSeComparanAlSegundo() {
+        long segundoActual = System.currentTimeMillis() / 1000 * 1000;
+        registro.registrar(7, true, System.currentTimeMillis());
+
+        Claims delSegundoAnterior = Jwts.claims();
+        delSegundoAnterior.setIssuedAt(new Date(segundoActual - 1000));
+        Claims deUnSegundoPosterior = Jwts.claims();
+        deUnSegundoPosterior.setIssuedAt(new Date(segundoActual + 1000));
+
+        assertThat(registro.estaRevocado(7, delSegundoAnterior)).isTrue();
+        assertThat(registro.estaRevocado(7, deUnSegundoPosterior)).isFalse();
+    }
+
+    @Test
+    void alSincronizarCargaLasRevocacionesPersistidasYLosUsuariosInactivos() throws InterruptedException {
+        Claims anterior = claimsDeUnToken(7);
+        Thread.sleep(2);
+        long revocacion = System.currentTimeMillis();
+        Thread.sleep(2);
+        Claims posterior = claimsDeUnToken(7);
+        when(usuarioRepository.findRevocacionesDesde(anyLong())).thenReturn(List.of(
+            revocacion(7, true, revocacion),
+            revocacion(9, false, null)
+        ));
+
+        assertThat(registro.estaSincronizado()).isFalse();
+        registro.sincronizar();
+
+        assertThat(registro.estaSincronizado()).isTrue();
+        assertThat(registro.estaRevocado(7, anterior)).isTrue();
+        assertThat(registro.estaRevocado(7, posterior)).isFalse();
+        assertThat(registro.estaRevocado(9, claimsDeUnToken(9))).isTrue();
+
+        // Reactivado en otra instancia: los tokens nuevos vuelven a valer
+        when(usuarioRepository.findRevocacionesDesde(anyLong())).thenReturn(List.of(revocacion(7, true, revocacion)));
+        registro.sincronizar();
+        assertThat(registro.estaRevocado(9, claimsDeUnToken(9))).isFalse();
+    }
+
+    private Claims claimsDeUnToken(int idUsuario) {
+        return jwtUtil.verificarToken(
+            jwtUtil.generateJwtToken("ana@biblioteca.com", "USER", idUsuario, "30111222", "Perez", "Ana"));
+    }
+
+    private static UsuarioRepository.Revocacion revocacion(Integer idUsuario, boolean activo, Long tokensValidosDesde) {
+        return new UsuarioRepository.Revocacion() {
+            @Override
+            public Integer getIdUsuario() {
+                return idUsuario;
+            }
+
+            @Override
+            public Boolean getActivo() {
+                return activo;
+            }
+
+            @Override
+            public Long getTokensValidosDesde() {
+                return tokensValidosDesde;
+            }
+        };
+    }
+}
\ No newline at end of file
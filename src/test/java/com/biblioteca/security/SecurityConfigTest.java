@@ -0,0 +1,70 @@
+package com.biblioteca.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void unSocioNoPuedeRegistrarDevolucionesEnLote() throws Exception {
+        mockMvc.perform(post("/prestamos/devoluciones").header("Authorization", token("SOCIO"))
+                .contentType(MediaType.APPLICATION_JSON).content("{\"items\": []}"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void unSocioNoPuedeRegistrarPrestamosEnLote() throws Exception {
+        mockMvc.perform(post("/prestamos/lote").header("Authorization", token("SOCIO"))
+                .contentType(MediaType.APPLICATION_JSON).content("{\"idSocio\": 1, \"idsLibros\": [1]}"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void unSocioNoPuedeImportarLibros() throws Exception {
+        mockMvc.perform(post("/libros/importacion").header("Authorization", token("SOCIO"))
+                .contentType("text/csv").content("titulo,autor,isbn,idCategoria\n"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void soloUnAdministradorPuedeReencolarEvaluacionesDeMulta() throws Exception {
+        mockMvc.perform(post("/multas/evaluaciones/reencolar").header("Authorization", token("BIBLIOTECARIO")))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void elLoginNoRequiereToken() throws Exception {
+        mockMvc.perform(post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"email\": \"nadie@biblioteca.com\", \"password\": \"x\"}"))
+            .andExpect(status().isUnauthorized())
+            .andExpect(content().string("Credenciales inválidas"));
+    }
+
+    @Test
+    void elRegistroSigueRequiriendoToken() throws Exception {
+        mockMvc.perform(post("/auth/registro")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"email\": \"nuevo@biblioteca.com\", \"rol\": \"ADMIN\"}"))
+            .andExpect(status().is4xxClientError())
+            .andExpect(content().string(""));
+    }
+
+    private String token(String rol) {
+        return "Bearer " + jwtUtil.generateJwtToken(rol.toLowerCase() + "@biblioteca.com", rol, 999_996, "1", "Rol", rol);
+    }
+}
\ No newline at end of file
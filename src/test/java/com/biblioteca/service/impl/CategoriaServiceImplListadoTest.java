@@ -0,0 +1,57 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.request.CreateCategoriaRequest;
+import com.biblioteca.dto.request.CreateLibroRequest;
+import com.biblioteca.dto.response.CategoriaResponse;
+import com.biblioteca.service.CategoriaService;
+import com.biblioteca.service.LibroService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que el listado de categorías toma la cantidad de libros del contador en memoria y resuelve
+ * todo con una sola consulta.
+ */
+@SpringBootTest
+class CategoriaServiceImplListadoTest {
+
+    @Autowired
+    private CategoriaService categoriaService;
+
+    @Autowired
+    private LibroService libroService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void listaLasCategoriasConSuCantidadDeLibrosEnUnaConsulta() {
+        CategoriaResponse conLibros = categoriaService.crearCategoria(new CreateCategoriaRequest("Listado con libros", null));
+        CategoriaResponse sinLibros = categoriaService.crearCategoria(new CreateCategoriaRequest("Listado sin libros", null));
+        for (int i = 0; i < 3; i++) {
+            libroService.crearLibro(new CreateLibroRequest("Listado " + i, "Autor", "LIST-CAT-" + i, conLibros.getIdCategoria()));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        List<CategoriaResponse> categorias = categoriaService.obtenerTodasLasCategorias();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Map<Long, CategoriaResponse> porId = categorias.stream()
+            .collect(Collectors.toMap(CategoriaResponse::getIdCategoria, Function.identity()));
+        assertThat(porId.get(conLibros.getIdCategoria()).getCantidadLibros()).isEqualTo(3);
+        assertThat(porId.get(sinLibros.getIdCategoria()).getCantidadLibros()).isZero();
+    }
+}
\ No newline at end of file
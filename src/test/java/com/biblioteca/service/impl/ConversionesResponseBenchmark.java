@@ -0,0 +1,142 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.benchmark.DatosBenchmark;
+import com.biblioteca.cache.ContadorLibrosPorCategoria;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Multa;
+import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.repository.SocioRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métodos convertirAResponse de cada servicio sobre 1000 entidades ya cargadas. Solo se miden
+ * los que no consultan la base.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionesResponseBenchmark {
+
+    private static final int CANTIDAD = 1000;
+
+    private LibroServiceImpl libroService;
+    private CategoriaServiceImpl categoriaService;
+    private PrestamoServiceImpl prestamoService;
+    private MultaServiceImpl multaService;
+    private SocioServiceImpl socioService;
+
+    private List<Prestamo> prestamos;
+    private List<Categoria> categorias;
+    private List<Multa> multas;
+    private List<SocioRepository.ResumenSocio> resumenesSocios;
+    private Map<Long, Long> activosPorSocio;
+
+    @Setup
+    public void setUp() {
+        LibroRepository libroRepository = Mockito.mock(LibroRepository.class);
+        ContadorLibrosPorCategoria contador = new ContadorLibrosPorCategoria(libroRepository);
+        libroService = new LibroServiceImpl(null, null, null, null, null, null);
+        categoriaService = new CategoriaServiceImpl(null, null, null, contador);
+        prestamoService = new PrestamoServiceImpl(null, null, null, null, null, null, null, 1);
+        multaService = new MultaServiceImpl(null, null, null, null, null);
+        socioService = new SocioServiceImpl(null);
+
+        prestamos = DatosBenchmark.prestamos(CANTIDAD);
+        multas = DatosBenchmark.multas(CANTIDAD);
+        categorias = new ArrayList<>();
+        resumenesSocios = new ArrayList<>();
+        activosPorSocio = new HashMap<>();
+        for (Prestamo prestamo : prestamos) {
+            categorias.add(prestamo.getLibro().getCategoria());
+            contador.incrementar(prestamo.getLibro().getCategoria().getIdCategoria());
+            activosPorSocio.merge(prestamo.getSocio().getIdSocio(), 1L, Long::sum);
+        }
+        for (Map.Entry<Long, Long> activos : activosPorSocio.entrySet()) {
+            resumenesSocios.add(new ResumenSocio(activos.getKey(), activos.getValue()));
+        }
+    }
+
+    @Benchmark
+    public void libros(Blackhole blackhole) {
+        for (Prestamo prestamo : prestamos) {
+            blackhole.consume(libroService.convertirAResponse(prestamo.getLibro()));
+        }
+    }
+
+    @Benchmark
+    public void categorias(Blackhole blackhole) {
+        for (Categoria categoria : categorias) {
+            blackhole.consume(categoriaService.convertirAResponse(categoria));
+        }
+    }
+
+    @Benchmark
+    public void prestamos(Blackhole blackhole) {
+        for (Prestamo prestamo : prestamos) {
+            blackhole.consume(prestamoService.convertirAResponse(prestamo, activosPorSocio));
+        }
+    }
+
+    @Benchmark
+    public void multas(Blackhole blackhole) {
+        for (Multa multa : multas) {
+            blackhole.consume(multaService.convertirAResponse(multa));
+        }
+    }
+
+    @Benchmark
+    public void socios(Blackhole blackhole) {
+        for (SocioRepository.ResumenSocio resumen : resumenesSocios) {
+            blackhole.consume(socioService.convertirAResponse(resumen));
+        }
+    }
+
+    private record ResumenSocio(Long idSocio, Long prestamosActivos) implements SocioRepository.ResumenSocio {
+
+        @Override
+        public Long getIdSocio() {
+            return idSocio;
+        }
+
+        @Override
+        public String getNombre() {
+            return "Socio " + idSocio;
+        }
+
+        @Override
+        public Integer getNroSocio() {
+            return idSocio.intValue() + 1000;
+        }
+
+        @Override
+        public String getDni() {
+            return String.valueOf(30_000_000 + idSocio);
+        }
+
+        @Override
+        public Long getPrestamosActivos() {
+            return prestamosActivos;
+        }
+    }
+}
\ No newline at end of file
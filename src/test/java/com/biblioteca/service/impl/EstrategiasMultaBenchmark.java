@@ -0,0 +1,65 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.benchmark.DatosBenchmark;
+import com.biblioteca.model.entity.Prestamo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recorre la cadena de estrategias de multa para 1000 préstamos, con y sin el cálculo de días
+ * de retraso que la precede en {@link MultaServiceImpl}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EstrategiasMultaBenchmark {
+
+    private MultaServiceImpl multaService;
+    private List<Prestamo> prestamos;
+    private int[] diasRetraso;
+
+    @Setup
+    public void setUp() {
+        // Sin Spring no se aplican los niveles de application.properties y el log de depuración
+        // de cada estrategia elegida taparía el costo de recorrer la cadena.
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.biblioteca"))
+            .setLevel(ch.qos.logback.classic.Level.INFO);
+
+        multaService = new MultaServiceImpl(null, null, null, null, null);
+        prestamos = DatosBenchmark.prestamos(1000);
+        diasRetraso = new int[prestamos.size()];
+        for (int i = 0; i < prestamos.size(); i++) {
+            diasRetraso[i] = prestamos.get(i).calcularDiasRetraso();
+        }
+    }
+
+    @Benchmark
+    public void determinarEstrategia(Blackhole blackhole) {
+        for (int i = 0; i < prestamos.size(); i++) {
+            blackhole.consume(multaService.determinarEstrategiaAplicable(prestamos.get(i), diasRetraso[i]));
+        }
+    }
+
+    @Benchmark
+    public void calcularRetrasoYDeterminarEstrategia(Blackhole blackhole) {
+        for (Prestamo prestamo : prestamos) {
+            blackhole.consume(multaService.determinarEstrategiaAplicable(prestamo, prestamo.calcularDiasRetraso()));
+        }
+    }
+}
\ No newline at end of file
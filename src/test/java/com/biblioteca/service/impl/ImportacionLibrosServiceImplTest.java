@@ -0,0 +1,153 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.response.ImportacionLibrosResponse;
+import com.biblioteca.exception.OperationNotAllowedException;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.search.LibroSearchIndex;
+import com.biblioteca.service.ImportacionLibrosService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Verifica que la importación masiva crea las filas válidas repartidas en varios lotes
+ * e informa cada fila rechazada con su número y motivo.
+ */
+@SpringBootTest(properties = "libros.importacion.tamanio-lote=2")
+class ImportacionLibrosServiceImplTest {
+
+    @Autowired
+    private ImportacionLibrosService importacionLibrosService;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private LibroSearchIndex libroSearchIndex;
+
+    private Categoria categoria;
+
+    @BeforeEach
+    void setUp() {
+        categoria = categoriaRepository.findByNombre("Importación")
+                .orElseGet(() -> categoriaRepository.save(new Categoria("Importación", null)));
+    }
+
+    @Test
+    void importaCsvYReportaLasFilasInvalidas() {
+        libroRepository.save(new Libro("Existente", "Autor", "IMP-CSV-0", categoria));
+        Long id = categoria.getIdCategoria();
+        String csv = "isbn,titulo,autor,idCategoria,notas\n" +
+                     "IMP-CSV-1,\"Crónica de una muerte anunciada, edición \"\"aniversario\"\"\",García Márquez," + id + ",\n" +
+                     "IMP-CSV-0,Repetido en la base,Autor," + id + ",\n" +
+                     "IMP-CSV-1,Repetido en el archivo,Autor," + id + ",\n" +
+                     "IMP-CSV-2,Sin categoría,Autor,999999,\n" +
+                     "IMP-CSV-3,,Autor," + id + ",\n" +
+                     "IMP-CSV-4,Categoría inválida,Autor,abc,\n" +
+                     "\r\n" +
+                     "IMP-CSV-5,\"Título\nen dos líneas\",Autor," + id + ",\r\n";
+
+        ImportacionLibrosResponse resultado = importar(csv, ImportacionLibrosService.Formato.CSV);
+
+        assertThat(resultado.getFilasLeidas()).isEqualTo(7);
+        assertThat(resultado.getLibrosCreados()).isEqualTo(2);
+        assertThat(resultado.getFilasConError()).isEqualTo(5);
+        assertThat(resultado.getErrores())
+            .extracting(ImportacionLibrosResponse.ErrorFila::getFila, ImportacionLibrosResponse.ErrorFila::getMensaje)
+            .containsExactlyInAnyOrder(
+                tuple(2, "Ya existe un libro con el ISBN: IMP-CSV-0"),
+                tuple(3, "ISBN repetido en el archivo: IMP-CSV-1"),
+                tuple(4, "Categoría no encontrada con ID: 999999"),
+                tuple(5, "El título es obligatorio"),
+                tuple(6, "ID de categoría inválido: abc"));
+
+        assertThat(libroRepository.findByIsbn("IMP-CSV-1")).get()
+            .extracting(Libro::getTitulo).isEqualTo("Crónica de una muerte anunciada, edición \"aniversario\"");
+        assertThat(libroRepository.findByIsbn("IMP-CSV-5")).get()
+            .extracting(Libro::getTitulo).isEqualTo("Título\nen dos líneas");
+        assertThat(libroSearchIndex.buscarPorTitulo("muerte anunciada"))
+            .extracting(libro -> libro.getIsbn()).contains("IMP-CSV-1");
+    }
+
+    @Test
+    void importaNdjsonSalteandoLineasVaciasYJsonInvalido() {
+        Long id = categoria.getIdCategoria();
+        String ndjson = "{\"titulo\":\"Rayuela\",\"autor\":\"Cortázar\",\"isbn\":\"IMP-ND-1\",\"idCategoria\":" + id + "}\n" +
+                        "\n" +
+                        "{\"titulo\":\"Roto\",\"autor\":\n" +
+                        "{\"titulo\":\"Ficciones\",\"autor\":\"Borges\",\"isbn\":\"IMP-ND-2\",\"idCategoria\":" + id + "}";
+
+        ImportacionLibrosResponse resultado = importar(ndjson, ImportacionLibrosService.Formato.NDJSON);
+
+        assertThat(resultado.getFilasLeidas()).isEqualTo(3);
+        assertThat(resultado.getLibrosCreados()).isEqualTo(2);
+        assertThat(resultado.getErrores()).singleElement()
+            .satisfies(error -> {
+                assertThat(error.getFila()).isEqualTo(2);
+                assertThat(error.getMensaje()).startsWith("JSON inválido");
+            });
+        assertThat(libroRepository.existsByIsbn("IMP-ND-2")).isTrue();
+    }
+
+    @Test
+    void unIsbnCreadoDuranteLaImportacionRechazaSoloSuLote() {
+        Long id = categoria.getIdCategoria();
+        String csv = "isbn,titulo,autor,idCategoria\n" +
+                     "IMP-DUP-1,Uno,Autor," + id + "\n" +
+                     "IMP-DUP-2,Dos,Autor," + id + "\n" +
+                     "IMP-DUP-3,Tres,Autor," + id + "\n" +
+                     "IMP-DUP-4,Cuatro,Autor," + id + "\n";
+        // El libro aparece después de cargar los ISBN existentes, así que solo lo detecta la base al insertar
+        InputStream entrada = new FilterInputStream(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))) {
+            private boolean creado;
+
+            @Override
+            public int read(byte[] destino, int desde, int cantidad) throws IOException {
+                if (!creado) {
+                    creado = true;
+                    libroRepository.save(new Libro("Creado en paralelo", "Autor", "IMP-DUP-3", categoria));
+                }
+                return super.read(destino, desde, cantidad);
+            }
+        };
+
+        ImportacionLibrosResponse resultado = importacionLibrosService.importarLibros(
+            entrada, StandardCharsets.UTF_8, ImportacionLibrosService.Formato.CSV);
+
+        assertThat(resultado.getLibrosCreados()).isEqualTo(2);
+        assertThat(resultado.getErrores())
+            .extracting(ImportacionLibrosResponse.ErrorFila::getFila)
+            .containsExactly(3, 4);
+        assertThat(libroRepository.existsByIsbn("IMP-DUP-2")).isTrue();
+        assertThat(libroRepository.existsByIsbn("IMP-DUP-4")).isFalse();
+    }
+
+    @Test
+    void rechazaCsvSinLasColumnasObligatorias() {
+        assertThatThrownBy(() -> importar("titulo,autor\nUno,Dos\n", ImportacionLibrosService.Formato.CSV))
+            .isInstanceOf(OperationNotAllowedException.class)
+            .hasMessageContaining("idCategoria");
+    }
+
+    private ImportacionLibrosResponse importar(String contenido, ImportacionLibrosService.Formato formato) {
+        InputStream entrada = new ByteArrayInputStream(contenido.getBytes(StandardCharsets.UTF_8));
+        return importacionLibrosService.importarLibros(entrada, StandardCharsets.UTF_8, formato);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.request.CreateLibroRequest;
+import com.biblioteca.dto.request.CreatePrestamoRequest;
+import com.biblioteca.dto.request.UpdateLibroRequest;
+import com.biblioteca.dto.response.LibroResponse;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Socio;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.repository.SocioRepository;
+import com.biblioteca.service.LibroService;
+import com.biblioteca.service.PrestamoService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que las lecturas de libros se resuelven desde el catálogo en memoria o, para libros
+ * que todavía no figuran en él, con una sola consulta y la categoría desde la caché de segundo
+ * nivel, y que las modificaciones se reflejan en la siguiente lectura.
+ */
+@SpringBootTest
+class LibroServiceImplCacheTest {
+
+    private static final AtomicInteger SECUENCIA = new AtomicInteger();
+
+    @Autowired
+    private LibroService libroService;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private PrestamoService prestamoService;
+
+    @Autowired
+    private SocioRepository socioRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Categoria categoria;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        categoria = categoriaRepository.save(new Categoria("Caché " + SECUENCIA.incrementAndGet(), null));
+    }
+
+    @Test
+    void obtenerLibroPorIdSoloConsultaElLibro() {
+        Libro libro = libroRepository.save(new Libro("Cacheado", "Autor", "CACHE-" + SECUENCIA.incrementAndGet(), categoria));
+        libroService.obtenerLibroPorId(libro.getIdLibro());
+
+        statistics.clear();
+        LibroResponse response = libroService.obtenerLibroPorId(libro.getIdLibro());
+
+        assertThat(response.getCategoria().getNombre()).isEqualTo(categoria.getNombre());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("categoria").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void laActualizacionSeVeEnLaSiguienteLectura() {
+        Libro libro = libroRepository.save(new Libro("Original", "Autor", "CACHE-" + SECUENCIA.incrementAndGet(), categoria));
+        libroService.obtenerLibroPorId(libro.getIdLibro());
+
+        libroService.actualizarLibro(libro.getIdLibro(),
+            new UpdateLibroRequest("Modificado", "Autor", categoria.getIdCategoria()));
+
+        assertThat(libroService.obtenerLibroPorId(libro.getIdLibro()).getTitulo()).isEqualTo("Modificado");
+    }
+
+    @Test
+    void losLibrosDisponiblesSeResuelvenDesdeElCatalogoEnMemoria() {
+        String isbn = "CACHE-" + SECUENCIA.incrementAndGet();
+        LibroResponse nuevo = libroService.crearLibro(
+            new CreateLibroRequest("Nuevo", "Autor", isbn, categoria.getIdCategoria()));
+
+        statistics.clear();
+        assertThat(libroService.obtenerLibrosDisponibles())
+            .extracting(LibroResponse::getIdLibro).contains(nuevo.getIdLibro());
+        assertThat(libroService.obtenerLibroPorIsbn(isbn).getIdLibro()).isEqualTo(nuevo.getIdLibro());
+        assertThat(libroService.obtenerDisponibilidad(List.of(nuevo.getIdLibro())))
+            .containsEntry(nuevo.getIdLibro(), true);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        int numero = SECUENCIA.incrementAndGet();
+        Socio socio = socioRepository.save(new Socio("Socio Caché " + numero, 930_000 + numero, "DNI-CAC-" + numero));
+        prestamoService.crearPrestamo(
+            new CreatePrestamoRequest(nuevo.getIdLibro(), socio.getIdSocio(), LocalDate.now().plusDays(15)));
+
+        assertThat(libroService.obtenerLibrosDisponibles())
+            .extracting(LibroResponse::getIdLibro).doesNotContain(nuevo.getIdLibro());
+        assertThat(libroService.estaDisponible(nuevo.getIdLibro())).isFalse();
+        assertThat(libroService.obtenerDisponibilidad(List.of(nuevo.getIdLibro())))
+            .containsEntry(nuevo.getIdLibro(), false);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.request.CreateLibroRequest;
+import com.biblioteca.dto.response.LibroResponse;
+import com.biblioteca.dto.response.PaginaCursorResponse;
+import com.biblioteca.exception.OperationNotAllowedException;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.service.LibroService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica la paginación por cursor de libros: el recorrido completo, el fin del listado, el rechazo de
+ * cursores y tamaños inválidos, y las consultas por combinación de filtros que se usan sin catálogo en memoria.
+ */
+@SpringBootTest
+class LibroServiceImplPaginacionTest {
+
+    private static final AtomicInteger SECUENCIA = new AtomicInteger();
+
+    @Autowired
+    private LibroService libroService;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Categoria categoria;
+
+    @BeforeEach
+    void setUp() {
+        categoria = categoriaRepository.save(new Categoria("Paginación " + SECUENCIA.incrementAndGet(), null));
+    }
+
+    @Test
+    void elCursorRecorreTodosLosLibrosSinRepetirNiSaltear() {
+        List<Long> creados = crearLibros(5);
+
+        List<Long> recorridos = new ArrayList<>();
+        List<Integer> tamanios = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginaCursorResponse<LibroResponse> pagina =
+                libroService.obtenerLibrosPaginados(cursor, 2, null, categoria.getIdCategoria());
+            pagina.getContenido().forEach(libro -> recorridos.add(libro.getIdLibro()));
+            tamanios.add(pagina.getContenido().size());
+            cursor = pagina.getSiguienteCursor();
+        } while (cursor != null);
+
+        assertThat(recorridos).containsExactlyElementsOf(creados);
+        assertThat(tamanios).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void laUltimaPaginaCompletaNoDevuelveCursor() {
+        List<Long> creados = crearLibros(4);
+
+        PaginaCursorResponse<LibroResponse> primera =
+            libroService.obtenerLibrosPaginados(null, 2, null, categoria.getIdCategoria());
+        PaginaCursorResponse<LibroResponse> ultima =
+            libroService.obtenerLibrosPaginados(primera.getSiguienteCursor(), 2, null, categoria.getIdCategoria());
+
+        assertThat(primera.getSiguienteCursor()).isNotNull();
+        assertThat(ultima.getContenido()).extracting(LibroResponse::getIdLibro).containsExactlyElementsOf(creados.subList(2, 4));
+        assertThat(ultima.getSiguienteCursor()).isNull();
+    }
+
+    @Test
+    void rechazaCursoresAdulteradosOInvalidos() {
+        String otraVersion = Base64.getUrlEncoder().encodeToString("v2:10".getBytes(StandardCharsets.UTF_8));
+        String noNumerico = Base64.getUrlEncoder().encodeToString("v1:diez".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("no es un cursor", otraVersion, noNumerico)) {
+            assertThatThrownBy(() -> libroService.obtenerLibrosPaginados(cursor, 10, null, null))
+                .isInstanceOf(OperationNotAllowedException.class)
+                .hasMessageContaining("Cursor de paginación inválido");
+        }
+    }
+
+    @Test
+    void rechazaTamaniosDePaginaFueraDeRango() {
+        for (int tamanio : new int[] {0, 201}) {
+            assertThatThrownBy(() -> libroService.obtenerLibrosPaginados(null, tamanio, null, null))
+                .isInstanceOf(OperationNotAllowedException.class)
+                .hasMessageContaining("entre 1 y 200");
+        }
+    }
+
+    @Test
+    void lasConsultasPorFiltroDevuelvenLaPaginaEsperada() {
+        List<Long> creados = crearLibros(5);
+        List<Long> prestados = List.of(creados.get(1), creados.get(3));
+        new TransactionTemplate(transactionManager)
+            .executeWithoutResult(estado -> libroRepository.marcarComoPrestadosSiDisponibles(prestados));
+        Long despuesDe = creados.get(0);
+        Long idCategoria = categoria.getIdCategoria();
+
+        assertThat(ids(libroRepository.findPaginaDespuesDe(despuesDe, Limit.of(4))))
+            .containsExactlyElementsOf(creados.subList(1, 5));
+        assertThat(ids(libroRepository.findPaginaPorEstadoDespuesDe(EstadoLibro.PRESTADO, despuesDe, Limit.of(2))))
+            .containsExactlyElementsOf(prestados);
+        assertThat(ids(libroRepository.findPaginaPorCategoriaDespuesDe(idCategoria, despuesDe, Limit.of(10))))
+            .containsExactlyElementsOf(creados.subList(1, 5));
+        assertThat(ids(libroRepository.findPaginaPorCategoriaYEstadoDespuesDe(idCategoria, EstadoLibro.DISPONIBLE, despuesDe, Limit.of(10))))
+            .containsExactly(creados.get(2), creados.get(4));
+    }
+
+    private List<Long> crearLibros(int cantidad) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            LibroResponse libro = libroService.crearLibro(new CreateLibroRequest(
+                "Paginado " + i, "Autor", "PAG-" + SECUENCIA.incrementAndGet(), categoria.getIdCategoria()));
+            ids.add(libro.getIdLibro());
+        }
+        return ids;
+    }
+
+    private static List<Long> ids(List<Libro> libros) {
+        return libros.stream().map(Libro::getIdLibro).toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.request.DevolucionPrestamoRequest;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.model.entity.Socio;
+import com.biblioteca.model.enums.EstadoDevolucion;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.EvaluacionMultaPendienteRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.repository.MultaRepository;
+import com.biblioteca.repository.PrestamoRepository;
+import com.biblioteca.repository.SocioRepository;
+import com.biblioteca.service.MultaService;
+import com.biblioteca.service.PrestamoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que la devolución solo encola la evaluación, que el procesamiento del outbox
+ * genera cada multa una única vez y que las evaluaciones agotadas se informan y pueden reencolarse.
+ */
+@SpringBootTest
+class MultaServiceImplEvaluacionTest {
+
+    @Autowired
+    private PrestamoService prestamoService;
+
+    @Autowired
+    private MultaService multaService;
+
+    @Autowired
+    private EvaluacionMultaPendienteRepository evaluacionMultaPendienteRepository;
+
+    @Autowired
+    private MultaRepository multaRepository;
+
+    @Autowired
+    private PrestamoRepository prestamoRepository;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private SocioRepository socioRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void laDevolucionEncolaYElProcesamientoGeneraLaMultaUnaSolaVez() {
+        Categoria categoria = categoriaRepository.save(new Categoria("Outbox", null));
+        Socio socio = socioRepository.save(new Socio("Socio Outbox", 600_001, "DNI-OUT-1"));
+        Long daniado = crearPrestamo(categoria, socio, "OUT-1", LocalDate.now().minusDays(30));
+        Long enFecha = crearPrestamo(categoria, socio, "OUT-2", LocalDate.now());
+
+        prestamoService.devolverPrestamo(daniado, new DevolucionPrestamoRequest(EstadoDevolucion.DANIO_LEVE, "Subrayado"));
+        prestamoService.devolverPrestamo(enFecha, new DevolucionPrestamoRequest(EstadoDevolucion.BUEN_ESTADO, null));
+
+        assertThat(multaRepository.findByPrestamoIdPrestamo(daniado)).isEmpty();
+        assertThat(evaluacionMultaPendienteRepository.findAll())
+            .extracting(e -> e.getIdPrestamo())
+            .containsExactly(daniado);
+
+        assertThat(multaService.procesarEvaluacionesPendientes(10)).isEqualTo(1);
+        assertThat(multaRepository.findByPrestamoIdPrestamo(daniado)).isPresent();
+        assertThat(multaRepository.findByPrestamoIdPrestamo(enFecha)).isEmpty();
+        assertThat(evaluacionMultaPendienteRepository.count()).isZero();
+
+        assertThat(multaService.procesarEvaluacionesPendientes(10)).isZero();
+        assertThat(multaRepository.findAll())
+            .filteredOn(m -> m.getPrestamo().getIdPrestamo().equals(daniado))
+            .hasSize(1);
+    }
+
+    @Test
+    void unaEvaluacionQueFallaNoRevierteElRestoDelLote() {
+        Categoria categoria = categoriaRepository.save(new Categoria("Outbox fallido", null));
+        Socio socio = socioRepository.save(new Socio("Socio Outbox Fallido", 600_002, "DNI-OUT-2"));
+        Long daniado = crearPrestamo(categoria, socio, "OUT-3", LocalDate.now());
+        Long perdido = crearPrestamo(categoria, socio, "OUT-4", LocalDate.now());
+        prestamoService.devolverPrestamo(daniado, new DevolucionPrestamoRequest(EstadoDevolucion.DANIO_LEVE, null));
+        prestamoService.devolverPrestamo(perdido, new DevolucionPrestamoRequest(EstadoDevolucion.PERDIDA, null));
+
+        // La multa del préstamo perdido viola la restricción al confirmar su transacción
+        jdbcTemplate.execute("ALTER TABLE multa ADD CONSTRAINT multa_prestamo_prueba CHECK (id_prestamo <> " + perdido + ")");
+        try {
+            multaService.procesarEvaluacionesPendientes(10);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE multa DROP CONSTRAINT multa_prestamo_prueba");
+        }
+
+        assertThat(multaRepository.findByPrestamoIdPrestamo(daniado)).isPresent();
+        assertThat(multaRepository.findByPrestamoIdPrestamo(perdido)).isEmpty();
+        assertThat(evaluacionMultaPendienteRepository.findAll())
+            .filteredOn(evaluacion -> evaluacion.getIdPrestamo().equals(perdido))
+            .singleElement()
+            .satisfies(evaluacion -> {
+                assertThat(evaluacion.getIntentos()).isEqualTo(1);
+                assertThat(evaluacion.getUltimoError()).isNotBlank();
+            });
+
+        multaService.procesarEvaluacionesPendientes(10);
+        assertThat(multaRepository.findByPrestamoIdPrestamo(perdido)).isPresent();
+        assertThat(evaluacionMultaPendienteRepository.findAll())
+            .noneMatch(evaluacion -> evaluacion.getIdPrestamo().equals(perdido));
+    }
+
+    @Test
+    void unaEvaluacionAgotadaSeInformaYPuedeReencolarse() {
+        Categoria categoria = categoriaRepository.save(new Categoria("Outbox agotado", null));
+        Socio socio = socioRepository.save(new Socio("Socio Outbox Agotado", 600_003, "DNI-OUT-3"));
+        Long perdido = crearPrestamo(categoria, socio, "OUT-5", LocalDate.now());
+        prestamoService.devolverPrestamo(perdido, new DevolucionPrestamoRequest(EstadoDevolucion.PERDIDA, null));
+        long agotadasAntes = multaService.contarEvaluacionesAgotadas();
+
+        jdbcTemplate.execute("ALTER TABLE multa ADD CONSTRAINT multa_prestamo_agotado CHECK (id_prestamo <> " + perdido + ")");
+        try {
+            for (int intento = 0; intento < 6; intento++) {
+                multaService.procesarEvaluacionesPendientes(10);
+            }
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE multa DROP CONSTRAINT multa_prestamo_agotado");
+        }
+
+        assertThat(multaService.contarEvaluacionesAgotadas()).isEqualTo(agotadasAntes + 1);
+        assertThat(meterRegistry.get("biblioteca.multas.evaluaciones.agotadas").gauge().value())
+            .isEqualTo(agotadasAntes + 1.0);
+        multaService.procesarEvaluacionesPendientes(10);
+        assertThat(multaRepository.findByPrestamoIdPrestamo(perdido)).isEmpty();
+
+        assertThat(multaService.reencolarEvaluacionesAgotadas()).isGreaterThanOrEqualTo(1);
+        assertThat(multaService.contarEvaluacionesAgotadas()).isZero();
+        multaService.procesarEvaluacionesPendientes(10);
+        assertThat(multaRepository.findByPrestamoIdPrestamo(perdido)).isPresent();
+    }
+
+    private Long crearPrestamo(Categoria categoria, Socio socio, String isbn, LocalDate fechaInicio) {
+        Libro libro = new Libro("Libro " + isbn, "Autor", isbn, categoria);
+        libro.setEstado(EstadoLibro.PRESTADO);
+        libroRepository.save(libro);
+        return prestamoRepository.save(new Prestamo(libro, socio, fechaInicio)).getIdPrestamo();
+    }
+}
\ No newline at end of file
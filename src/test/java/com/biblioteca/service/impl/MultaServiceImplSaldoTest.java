@@ -0,0 +1,89 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.request.CreateMultaRequest;
+import com.biblioteca.dto.response.MultaResponse;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.model.entity.Socio;
+import com.biblioteca.model.enums.EstadoPrestamo;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.repository.PrestamoRepository;
+import com.biblioteca.repository.SaldoMultaSocioRepository;
+import com.biblioteca.repository.SocioRepository;
+import com.biblioteca.service.MultaService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que el saldo de multas por socio acompaña las altas y los pagos,
+ * y que consultarlo es una única lectura.
+ */
+@SpringBootTest
+class MultaServiceImplSaldoTest {
+
+    @Autowired
+    private MultaService multaService;
+
+    @Autowired
+    private SaldoMultaSocioRepository saldoMultaSocioRepository;
+
+    @Autowired
+    private PrestamoRepository prestamoRepository;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private SocioRepository socioRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void elSaldoSeActualizaConAltasYPagosYSeLeeEnUnaConsulta() {
+        Categoria categoria = categoriaRepository.save(new Categoria("Saldos", null));
+        Socio socio = socioRepository.save(new Socio("Socio Saldo", 500_001, "DNI-SAL-1"));
+        Long primerPrestamo = crearPrestamoFinalizado(categoria, socio, "SAL-1");
+        Long segundoPrestamo = crearPrestamoFinalizado(categoria, socio, "SAL-2");
+
+        MultaResponse primera = multaService.crearMultaManual(
+            new CreateMultaRequest(primerPrestamo, new BigDecimal("150.00"), "Daño", null));
+        multaService.crearMultaManual(new CreateMultaRequest(segundoPrestamo, new BigDecimal("40.50"), "Retraso", null));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        assertThat(multaService.calcularTotalMultasPendientes(socio.getIdSocio())).isEqualTo(190.50);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        multaService.pagarMulta(primera.getIdMulta());
+        assertThat(multaService.calcularTotalMultasPendientes(socio.getIdSocio())).isEqualTo(40.50);
+        assertThat(multaService.tieneMultasPendientes(socio.getIdSocio())).isTrue();
+        assertThat(multaService.obtenerMultasActivasPorSocio(socio.getIdSocio())).hasSize(1);
+
+        saldoMultaSocioRepository.deleteAll();
+        multaService.completarSaldosDeMultas();
+        assertThat(saldoMultaSocioRepository.findById(socio.getIdSocio()).orElseThrow().getMultasPendientes()).isEqualTo(1);
+        assertThat(multaService.calcularTotalMultasPendientes(socio.getIdSocio())).isEqualTo(40.50);
+    }
+
+    private Long crearPrestamoFinalizado(Categoria categoria, Socio socio, String isbn) {
+        Libro libro = libroRepository.save(new Libro("Libro " + isbn, "Autor", isbn, categoria));
+        Prestamo prestamo = new Prestamo(libro, socio);
+        prestamo.setEstado(EstadoPrestamo.FINALIZADO);
+        return prestamoRepository.save(prestamo).getIdPrestamo();
+    }
+}
\ No newline at end of file
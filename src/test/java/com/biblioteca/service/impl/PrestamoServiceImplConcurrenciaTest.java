@@ -0,0 +1,148 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.request.CreatePrestamoRequest;
+import com.biblioteca.dto.request.UpdateLibroRequest;
+import com.biblioteca.exception.OperationNotAllowedException;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Socio;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.repository.PrestamoRepository;
+import com.biblioteca.repository.SocioRepository;
+import com.biblioteca.service.LibroService;
+import com.biblioteca.service.PrestamoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lanza muchos préstamos simultáneos sobre el mismo libro y verifica que solo uno lo obtiene,
+ * y que una edición concurrente no pisa el estado que dejó el préstamo.
+ */
+@SpringBootTest
+class PrestamoServiceImplConcurrenciaTest {
+
+    private static final int HILOS = 16;
+    private static final int RONDAS = 5;
+
+    @Autowired
+    private PrestamoService prestamoService;
+
+    @Autowired
+    private PrestamoRepository prestamoRepository;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private SocioRepository socioRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private LibroService libroService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void soloUnPrestamoConcurrenteGanaElLibro() throws Exception {
+        Categoria categoria = categoriaRepository.save(new Categoria("Concurrencia", null));
+        List<Socio> socios = new ArrayList<>();
+        for (int i = 0; i < HILOS; i++) {
+            socios.add(socioRepository.save(new Socio("Socio Concurrente " + i, 800_000 + i, "DNI-CONC-" + i)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        try {
+            for (int ronda = 0; ronda < RONDAS; ronda++) {
+                Libro libro = libroRepository.save(
+                    new Libro("Libro disputado " + ronda, "Autor", "CONC-" + ronda, categoria));
+
+                CountDownLatch largada = new CountDownLatch(1);
+                AtomicInteger ganadores = new AtomicInteger();
+                AtomicInteger rechazados = new AtomicInteger();
+                List<Future<?>> tareas = new ArrayList<>();
+
+                for (Socio socio : socios) {
+                    CreatePrestamoRequest request = new CreatePrestamoRequest(
+                        libro.getIdLibro(), socio.getIdSocio(), LocalDate.now().plusDays(15));
+                    tareas.add(executor.submit(() -> {
+                        largada.await();
+                        try {
+                            prestamoService.crearPrestamo(request);
+                            ganadores.incrementAndGet();
+                        } catch (OperationNotAllowedException e) {
+                            rechazados.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+
+                largada.countDown();
+                for (Future<?> tarea : tareas) {
+                    tarea.get(30, TimeUnit.SECONDS);
+                }
+
+                assertThat(ganadores.get()).isEqualTo(1);
+                assertThat(rechazados.get()).isEqualTo(HILOS - 1);
+                assertThat(prestamoRepository.findAll())
+                    .filteredOn(p -> p.getLibro().getIdLibro().equals(libro.getIdLibro()))
+                    .hasSize(1);
+                assertThat(libroRepository.findById(libro.getIdLibro()).orElseThrow().getEstado())
+                    .isEqualTo(EstadoLibro.PRESTADO);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void editarUnLibroMientrasSePrestaNoLoVuelveADisponible() throws Exception {
+        Categoria categoria = categoriaRepository.save(new Categoria("Edición concurrente", null));
+        Socio socio = socioRepository.save(new Socio("Socio Edición Concurrente", 800_100, "DNI-CONC-ED"));
+        Libro libro = libroRepository.save(new Libro("Libro editado", "Autor", "CONC-ED", categoria));
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            transaccion.executeWithoutResult(estado -> {
+                // La edición ya leyó el libro como DISPONIBLE cuando el préstamo se confirma
+                assertThat(libroRepository.findById(libro.getIdLibro()).orElseThrow().getEstado())
+                    .isEqualTo(EstadoLibro.DISPONIBLE);
+                try {
+                    executor.submit(() -> prestamoService.crearPrestamo(new CreatePrestamoRequest(
+                        libro.getIdLibro(), socio.getIdSocio(), LocalDate.now().plusDays(15))))
+                        .get(30, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                libroService.actualizarLibro(libro.getIdLibro(),
+                    new UpdateLibroRequest("Libro editado (2da ed.)", "Autor", categoria.getIdCategoria()));
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Libro actualizado = libroRepository.findById(libro.getIdLibro()).orElseThrow();
+        assertThat(actualizado.getTitulo()).isEqualTo("Libro editado (2da ed.)");
+        assertThat(actualizado.getEstado()).isEqualTo(EstadoLibro.PRESTADO);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.request.DevolucionLoteRequest;
+import com.biblioteca.dto.response.DevolucionLoteResponse;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.model.entity.Socio;
+import com.biblioteca.model.enums.EstadoDevolucion;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.model.enums.EstadoPrestamo;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.repository.PrestamoRepository;
+import com.biblioteca.repository.SocioRepository;
+import com.biblioteca.service.MultaService;
+import com.biblioteca.service.PrestamoService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el reporte por ítem de la devolución en lote y que la cantidad de sentencias
+ * no crece con el tamaño del lote.
+ */
+@SpringBootTest
+class PrestamoServiceImplDevolucionLoteTest {
+
+    private static final AtomicInteger SECUENCIA = new AtomicInteger();
+
+    @Autowired
+    private PrestamoService prestamoService;
+
+    @Autowired
+    private MultaService multaService;
+
+    @Autowired
+    private PrestamoRepository prestamoRepository;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private SocioRepository socioRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Categoria categoria;
+    private Socio socio;
+
+    @BeforeEach
+    void setUp() {
+        int numero = SECUENCIA.incrementAndGet();
+        categoria = categoriaRepository.save(new Categoria("Buzón " + numero, null));
+        socio = socioRepository.save(new Socio("Socio Buzón " + numero, 910_000 + numero, "DNI-BUZ-" + numero));
+    }
+
+    @Test
+    void informaElResultadoDeCadaItem() {
+        Prestamo enBuenEstado = crearPrestamo(EstadoPrestamo.ACTIVO);
+        Prestamo daniado = crearPrestamo(EstadoPrestamo.VENCIDO);
+        Prestamo yaDevuelto = crearPrestamo(EstadoPrestamo.FINALIZADO);
+
+        DevolucionLoteResponse response = prestamoService.devolverPrestamosEnLote(new DevolucionLoteRequest(List.of(
+            new DevolucionLoteRequest.ItemDevolucion(enBuenEstado.getIdPrestamo(), null, EstadoDevolucion.BUEN_ESTADO, null),
+            new DevolucionLoteRequest.ItemDevolucion(null, daniado.getLibro().getIsbn(), EstadoDevolucion.DANIO_GRAVE, "Tapa rota"),
+            new DevolucionLoteRequest.ItemDevolucion(yaDevuelto.getIdPrestamo(), null, EstadoDevolucion.BUEN_ESTADO, null),
+            new DevolucionLoteRequest.ItemDevolucion(enBuenEstado.getIdPrestamo(), null, EstadoDevolucion.BUEN_ESTADO, null),
+            new DevolucionLoteRequest.ItemDevolucion(-1L, null, EstadoDevolucion.BUEN_ESTADO, null),
+            new DevolucionLoteRequest.ItemDevolucion(null, "ISBN-INEXISTENTE", EstadoDevolucion.BUEN_ESTADO, null),
+            new DevolucionLoteRequest.ItemDevolucion(null, null, EstadoDevolucion.BUEN_ESTADO, null))));
+
+        assertThat(response.getDevueltos()).isEqualTo(2);
+        assertThat(response.getRechazados()).isEqualTo(5);
+        assertThat(response.getMultasGeneradas()).isEqualTo(1);
+        assertThat(response.getMontoMultas()).isEqualByComparingTo("150.00");
+        assertThat(response.getResultados())
+            .extracting(DevolucionLoteResponse.ResultadoDevolucion::getDevuelto)
+            .containsExactly(true, true, false, false, false, false, false);
+
+        DevolucionLoteResponse.ResultadoDevolucion resultadoDaniado = response.getResultados().get(1);
+        assertThat(resultadoDaniado.getIdPrestamo()).isEqualTo(daniado.getIdPrestamo());
+        assertThat(resultadoDaniado.getIdMulta()).isNotNull();
+        assertThat(response.getResultados().get(3).getMensaje()).isEqualTo("El préstamo ya figura en este lote");
+
+        assertThat(prestamoRepository.findAllById(List.of(enBuenEstado.getIdPrestamo(), daniado.getIdPrestamo())))
+            .extracting(Prestamo::getEstado)
+            .containsOnly(EstadoPrestamo.FINALIZADO);
+        assertThat(libroRepository.findById(daniado.getLibro().getIdLibro()).orElseThrow().getEstado())
+            .isEqualTo(EstadoLibro.DISPONIBLE);
+        assertThat(multaService.calcularTotalMultasPendientes(socio.getIdSocio())).isEqualTo(150.0);
+    }
+
+    @Test
+    void lasSentenciasNoCrecenConElTamanioDelLote() {
+        long conPocos = sentenciasParaDevolver(3);
+        long conMuchos = sentenciasParaDevolver(40);
+
+        assertThat(conMuchos).isLessThanOrEqualTo(conPocos + 1);
+    }
+
+    private long sentenciasParaDevolver(int cantidad) {
+        List<DevolucionLoteRequest.ItemDevolucion> items = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            Prestamo prestamo = crearPrestamo(EstadoPrestamo.ACTIVO);
+            items.add(new DevolucionLoteRequest.ItemDevolucion(prestamo.getIdPrestamo(), null, EstadoDevolucion.DANIO_LEVE, null));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        DevolucionLoteResponse response = prestamoService.devolverPrestamosEnLote(new DevolucionLoteRequest(items));
+        assertThat(response.getMultasGeneradas()).isEqualTo(cantidad);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Prestamo crearPrestamo(EstadoPrestamo estado) {
+        String isbn = "BUZ-" + SECUENCIA.incrementAndGet();
+        Libro libro = new Libro("Libro " + isbn, "Autor " + isbn, isbn, categoria);
+        libro.setEstado(estado == EstadoPrestamo.FINALIZADO ? EstadoLibro.DISPONIBLE : EstadoLibro.PRESTADO);
+        libroRepository.save(libro);
+
+        Prestamo prestamo = new Prestamo(libro, socio);
+        prestamo.setEstado(estado);
+        return prestamoRepository.save(prestamo);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.request.CreatePrestamoLoteRequest;
+import com.biblioteca.dto.response.PrestamoResponse;
+import com.biblioteca.exception.OperationNotAllowedException;
+import com.biblioteca.exception.ResourceNotFoundException;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Socio;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.repository.PrestamoRepository;
+import com.biblioteca.repository.SocioRepository;
+import com.biblioteca.service.PrestamoService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que el préstamo de varios libros es todo o nada y que sus sentencias
+ * no crecen con la cantidad de libros.
+ */
+@SpringBootTest
+class PrestamoServiceImplPrestamoLoteTest {
+
+    private static final AtomicInteger SECUENCIA = new AtomicInteger();
+
+    @Autowired
+    private PrestamoService prestamoService;
+
+    @Autowired
+    private PrestamoRepository prestamoRepository;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private SocioRepository socioRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Categoria categoria;
+    private Socio socio;
+
+    @BeforeEach
+    void setUp() {
+        int numero = SECUENCIA.incrementAndGet();
+        categoria = categoriaRepository.save(new Categoria("Retiro " + numero, null));
+        socio = socioRepository.save(new Socio("Socio Retiro " + numero, 920_000 + numero, "DNI-RET-" + numero));
+    }
+
+    @Test
+    void siUnLibroNoEstaDisponibleNoPrestaNinguno() {
+        List<Long> idsLibros = crearLibros(3, EstadoLibro.DISPONIBLE);
+        idsLibros.addAll(crearLibros(1, EstadoLibro.PRESTADO));
+
+        assertThatThrownBy(() -> prestamoService.crearPrestamosEnLote(
+                new CreatePrestamoLoteRequest(socio.getIdSocio(), idsLibros, LocalDate.now().plusDays(15))))
+            .isInstanceOf(OperationNotAllowedException.class);
+        assertThatThrownBy(() -> prestamoService.crearPrestamosEnLote(
+                new CreatePrestamoLoteRequest(socio.getIdSocio(), List.of(idsLibros.get(0), -1L), LocalDate.now().plusDays(15))))
+            .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(libroRepository.findAllById(idsLibros.subList(0, 3)))
+            .extracting(Libro::getEstado)
+            .containsOnly(EstadoLibro.DISPONIBLE);
+        assertThat(prestamoRepository.findBySocioIdSocio(socio.getIdSocio())).isEmpty();
+    }
+
+    @Test
+    void prestaTodosLosLibrosConSentenciasFijas() {
+        long conPocos = sentenciasParaPrestar(2);
+        long conMuchos = sentenciasParaPrestar(20);
+
+        assertThat(conMuchos).isLessThanOrEqualTo(conPocos + 1);
+        assertThat(prestamoRepository.countPrestamosActivosBySocioId(socio.getIdSocio())).isEqualTo(22);
+    }
+
+    private long sentenciasParaPrestar(int cantidad) {
+        List<Long> idsLibros = crearLibros(cantidad, EstadoLibro.DISPONIBLE);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        List<PrestamoResponse> prestamos = prestamoService.crearPrestamosEnLote(
+                new CreatePrestamoLoteRequest(socio.getIdSocio(), idsLibros, LocalDate.now().plusDays(15)));
+        long sentencias = statistics.getPrepareStatementCount();
+
+        assertThat(prestamos).hasSize(cantidad);
+        assertThat(prestamos).extracting(prestamo -> prestamo.getLibro().getEstado()).containsOnly(EstadoLibro.PRESTADO);
+        assertThat(libroRepository.findAllById(idsLibros)).extracting(Libro::getEstado).containsOnly(EstadoLibro.PRESTADO);
+        return sentencias;
+    }
+
+    private List<Long> crearLibros(int cantidad, EstadoLibro estado) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            String isbn = "RET-" + SECUENCIA.incrementAndGet();
+            Libro libro = new Libro("Libro " + isbn, "Autor " + isbn, isbn, categoria);
+            libro.setEstado(estado);
+            ids.add(libroRepository.save(libro).getIdLibro());
+        }
+        return ids;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.model.entity.Socio;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.repository.PrestamoRepository;
+import com.biblioteca.repository.SocioRepository;
+import com.biblioteca.service.PrestamoService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que los listados de préstamos ejecutan una cantidad fija de sentencias
+ * SQL sin importar cuántos préstamos devuelven.
+ */
+@SpringBootTest
+class PrestamoServiceImplQueryCountTest {
+
+    private static final AtomicInteger SECUENCIA = new AtomicInteger();
+
+    @Autowired
+    private PrestamoService prestamoService;
+
+    @Autowired
+    private PrestamoRepository prestamoRepository;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private SocioRepository socioRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Categoria categoria;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        categoria = categoriaRepository.save(new Categoria("Consultas " + SECUENCIA.incrementAndGet(), null));
+    }
+
+    @Test
+    void listadosDePrestamosNoCrecenConLaCantidadDeFilas() {
+        crearPrestamos(3);
+        long todosConPocos = sentenciasDe(() -> prestamoService.obtenerTodosLosPrestamos());
+        long activosConPocos = sentenciasDe(() -> prestamoService.obtenerPrestamosActivos());
+
+        crearPrestamos(30);
+        long todosConMuchos = sentenciasDe(() -> prestamoService.obtenerTodosLosPrestamos());
+        long activosConMuchos = sentenciasDe(() -> prestamoService.obtenerPrestamosActivos());
+
+        assertThat(todosConMuchos).isEqualTo(todosConPocos).isLessThanOrEqualTo(2);
+        assertThat(activosConMuchos).isEqualTo(activosConPocos).isLessThanOrEqualTo(2);
+    }
+
+    private long sentenciasDe(Runnable accion) {
+        statistics.clear();
+        accion.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void crearPrestamos(int cantidad) {
+        for (int i = 0; i < cantidad; i++) {
+            int numero = SECUENCIA.incrementAndGet();
+            Libro libro = new Libro("Libro " + numero, "Autor " + numero, "QC-" + numero, categoria);
+            libro.setEstado(EstadoLibro.PRESTADO);
+            libroRepository.save(libro);
+            Socio socio = socioRepository.save(new Socio("Socio " + numero, 100_000 + numero, "DNI-QC-" + numero));
+
+            Prestamo prestamo = new Prestamo(libro, socio);
+            prestamo.setFechaFinPrevista(LocalDate.now().plusDays(15));
+            prestamoRepository.save(prestamo);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.model.entity.Socio;
+import com.biblioteca.model.enums.EstadoLibro;
+import com.biblioteca.model.enums.EstadoPrestamo;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.repository.PrestamoRepository;
+import com.biblioteca.repository.SocioRepository;
+import com.biblioteca.dto.response.PrestamoResponse;
+import com.biblioteca.dto.response.SocioResponse;
+import com.biblioteca.exception.OperationNotAllowedException;
+import com.biblioteca.service.MultaService;
+import com.biblioteca.service.PrestamoService;
+import com.biblioteca.service.SocioService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que el barrido por lotes solo marca como vencidos los préstamos activos
+ * con fecha de fin prevista anterior a hoy, aunque queden repartidos en varios lotes.
+ */
+@SpringBootTest(properties = "prestamos.vencidos.tamanio-lote=2")
+class PrestamoServiceImplVencidosTest {
+
+    @Autowired
+    private PrestamoService prestamoService;
+
+    @Autowired
+    private SocioService socioService;
+
+    @Autowired
+    private MultaService multaService;
+
+    @Autowired
+    private PrestamoRepository prestamoRepository;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private SocioRepository socioRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Test
+    void marcaSoloLosPrestamosActivosConFechaPrevistaPasada() {
+        Categoria categoria = categoriaRepository.save(new Categoria("Vencidos", null));
+        Socio socio = socioRepository.save(new Socio("Socio Vencidos", 900_001, "DNI-VEN-1"));
+
+        List<Long> atrasados = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            atrasados.add(crearPrestamo(categoria, socio, "VEN-A" + i, LocalDate.now().minusDays(i + 1), EstadoPrestamo.ACTIVO));
+        }
+        Long enFecha = crearPrestamo(categoria, socio, "VEN-B", LocalDate.now().plusDays(3), EstadoPrestamo.ACTIVO);
+        Long finalizado = crearPrestamo(categoria, socio, "VEN-C", LocalDate.now().minusDays(10), EstadoPrestamo.FINALIZADO);
+
+        int marcados = prestamoService.actualizarEstadosPrestamosVencidos();
+
+        assertThat(marcados).isEqualTo(atrasados.size());
+        assertThat(prestamoRepository.findAllById(atrasados))
+            .extracting(Prestamo::getEstado)
+            .containsOnly(EstadoPrestamo.VENCIDO);
+        assertThat(prestamoRepository.findById(enFecha).orElseThrow().getEstado()).isEqualTo(EstadoPrestamo.ACTIVO);
+        assertThat(prestamoRepository.findById(finalizado).orElseThrow().getEstado()).isEqualTo(EstadoPrestamo.FINALIZADO);
+
+        assertThat(prestamoService.actualizarEstadosPrestamosVencidos()).isZero();
+    }
+
+    @Test
+    void unPrestamoVencidoSigueContandoComoPrestamoEnCurso() {
+        Categoria categoria = categoriaRepository.save(new Categoria("Vencidos en curso", null));
+        Socio socio = socioRepository.save(new Socio("Socio Vencido En Curso", 900_002, "DNI-VEN-2"));
+        Long vencido = crearPrestamo(categoria, socio, "VEN-D", LocalDate.now().minusDays(1), EstadoPrestamo.ACTIVO);
+        Long idLibro = prestamoRepository.findById(vencido).orElseThrow().getLibro().getIdLibro();
+
+        prestamoService.actualizarEstadosPrestamosVencidos();
+
+        assertThat(prestamoRepository.findById(vencido).orElseThrow().getEstado()).isEqualTo(EstadoPrestamo.VENCIDO);
+        assertThat(prestamoService.estaLibroPrestado(idLibro)).isTrue();
+        assertThat(socioService.tienePrestamosActivos(socio.getIdSocio())).isTrue();
+        assertThat(socioService.obtenerSocioPorId(socio.getIdSocio()).getPrestamosActivos()).isEqualTo(1);
+        assertThat(socioService.buscarSociosPorNombre("Socio Vencido En Curso"))
+            .extracting(SocioResponse::getPrestamosActivos).containsExactly(1);
+        assertThat(prestamoService.obtenerPrestamosActivosPorSocio(socio.getIdSocio()))
+            .extracting(PrestamoResponse::getIdPrestamo).containsExactly(vencido);
+        assertThat(prestamoService.obtenerPrestamoPorId(vencido).getActivo()).isTrue();
+        assertThat(prestamoService.obtenerPrestamosActivos())
+            .extracting(PrestamoResponse::getIdPrestamo).contains(vencido);
+        assertThatThrownBy(() -> multaService.generarMultaPorPrestamo(vencido))
+            .isInstanceOf(OperationNotAllowedException.class);
+        assertThat(prestamoRepository.findById(vencido).orElseThrow().tieneMulta()).isFalse();
+    }
+
+    private Long crearPrestamo(Categoria categoria, Socio socio, String isbn, LocalDate fechaFinPrevista, EstadoPrestamo estado) {
+        Libro libro = new Libro("Libro " + isbn, "Autor " + isbn, isbn, categoria);
+        libro.setEstado(EstadoLibro.PRESTADO);
+        libroRepository.save(libro);
+
+        Prestamo prestamo = new Prestamo(libro, socio);
+        prestamo.setFechaFinPrevista(fechaFinPrevista);
+        prestamo.setEstado(estado);
+        return prestamoRepository.save(prestamo).getIdPrestamo();
+    }
+}
\ No newline at end of file
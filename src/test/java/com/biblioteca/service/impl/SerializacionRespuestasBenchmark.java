@@ -0,0 +1,74 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.benchmark.DatosBenchmark;
+import com.biblioteca.dto.response.LibroResponse;
+import com.biblioteca.dto.response.PrestamoResponse;
+import com.biblioteca.model.entity.Prestamo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización con Jackson de los listados de libros y préstamos tal como los devuelven los
+ * controladores, convertidos con los mismos métodos de los servicios. El ObjectMapper se arma
+ * con el mismo builder que usa Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacionRespuestasBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int cantidad;
+
+    private ObjectWriter writerLibros;
+    private ObjectWriter writerPrestamos;
+    private List<LibroResponse> libros;
+    private List<PrestamoResponse> prestamos;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writerLibros = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, LibroResponse.class));
+        writerPrestamos = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, PrestamoResponse.class));
+
+        LibroServiceImpl libroService = new LibroServiceImpl(null, null, null, null, null, null);
+        PrestamoServiceImpl prestamoService = new PrestamoServiceImpl(null, null, null, null, null, null, null, 1);
+        libros = new ArrayList<>(cantidad);
+        prestamos = new ArrayList<>(cantidad);
+        for (Prestamo prestamo : DatosBenchmark.prestamos(cantidad)) {
+            libros.add(libroService.convertirAResponse(prestamo.getLibro()));
+            prestamos.add(prestamoService.convertirAResponse(prestamo, Collections.emptyMap()));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializarLibros() throws JsonProcessingException {
+        return writerLibros.writeValueAsBytes(libros);
+    }
+
+    @Benchmark
+    public byte[] serializarPrestamos() throws JsonProcessingException {
+        return writerPrestamos.writeValueAsBytes(prestamos);
+    }
+}
\ No newline at end of file
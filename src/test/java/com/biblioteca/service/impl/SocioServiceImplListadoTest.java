@@ -0,0 +1,99 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.dto.response.PaginaCursorResponse;
+import com.biblioteca.dto.response.SocioResponse;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Libro;
+import com.biblioteca.model.entity.Prestamo;
+import com.biblioteca.model.entity.Socio;
+import com.biblioteca.model.enums.EstadoPrestamo;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.LibroRepository;
+import com.biblioteca.repository.PrestamoRepository;
+import com.biblioteca.repository.SocioRepository;
+import com.biblioteca.service.SocioService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que el directorio de socios calcula los préstamos activos en una sola consulta por página.
+ */
+@SpringBootTest
+class SocioServiceImplListadoTest {
+
+    @Autowired
+    private SocioService socioService;
+
+    @Autowired
+    private SocioRepository socioRepository;
+
+    @Autowired
+    private PrestamoRepository prestamoRepository;
+
+    @Autowired
+    private LibroRepository libroRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void paginaLosSociosConSusPrestamosActivosEnUnaConsultaPorPagina() {
+        Categoria categoria = categoriaRepository.save(new Categoria("Directorio", null));
+        Map<Long, Integer> esperados = new HashMap<>();
+        for (int i = 0; i < 7; i++) {
+            Socio socio = socioRepository.save(new Socio("Socio Directorio " + i, 700_000 + i, "DNI-DIR-" + i));
+            for (int j = 0; j < i % 3; j++) {
+                crearPrestamo(categoria, socio, "DIR-" + i + "-" + j, EstadoPrestamo.ACTIVO);
+            }
+            crearPrestamo(categoria, socio, "DIR-" + i + "-F", EstadoPrestamo.FINALIZADO);
+            esperados.put(socio.getIdSocio(), i % 3);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        List<SocioResponse> recorridos = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            PaginaCursorResponse<SocioResponse> pagina = socioService.obtenerSociosPaginados(cursor, 3);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            recorridos.addAll(pagina.getContenido());
+            cursor = pagina.getSiguienteCursor();
+        } while (cursor != null);
+
+        assertThat(recorridos).extracting(SocioResponse::getIdSocio).doesNotHaveDuplicates().isSorted();
+        for (SocioResponse socio : recorridos) {
+            if (esperados.containsKey(socio.getIdSocio())) {
+                assertThat(socio.getPrestamosActivos()).isEqualTo(esperados.get(socio.getIdSocio()));
+            }
+        }
+        assertThat(recorridos).extracting(SocioResponse::getIdSocio).containsAll(esperados.keySet());
+
+        statistics.clear();
+        List<SocioResponse> todos = socioService.obtenerTodosLosSocios();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(todos).hasSameSizeAs(recorridos);
+    }
+
+    private void crearPrestamo(Categoria categoria, Socio socio, String isbn, EstadoPrestamo estado) {
+        Libro libro = libroRepository.save(new Libro("Libro " + isbn, "Autor", isbn, categoria));
+        Prestamo prestamo = new Prestamo(libro, socio);
+        prestamo.setEstado(estado);
+        prestamoRepository.save(prestamo);
+    }
+}
\ No newline at end of file